@@ -68,6 +68,8 @@ import org.eclipse.collections.api.map.primitive.ObjectLongMap;
 import org.eclipse.collections.api.map.sorted.MutableSortedMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableIntObjectMultimap;
+import org.eclipse.collections.api.multimap.primitive.MutableLongObjectMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.partition.PartitionIterable;
 import org.eclipse.collections.api.set.MutableSet;
@@ -2289,6 +2291,37 @@ public interface RichIterable<T>
      */
     <V, R extends MutableMultimap<V, T>> R groupBy(Function<? super T, ? extends V> function, R target);
 
+    /**
+     * Same as {@link #groupBy(Function, MutableMultimap)}, except that the keys are {@code int} values which are
+     * never boxed.
+     * <p>
+     * Example using a Java 8 method reference:
+     * <pre>
+     * IntObjectListMultimap&lt;Person&gt; peopleByAge =
+     *     people.groupByInt(Person::getAge, new IntObjectListMultimap&lt;Person&gt;());
+     * </pre>
+     *
+     * @since 11.0
+     */
+    default <R extends MutableIntObjectMultimap<T>> R groupByInt(IntFunction<? super T> function, R target)
+    {
+        this.each(each -> target.put(function.intValueOf(each), each));
+        return target;
+    }
+
+    /**
+     * Same as {@link #groupBy(Function, MutableMultimap)}, except that the keys are {@code long} values which are
+     * never boxed.
+     *
+     * @see #groupByInt(IntFunction, MutableIntObjectMultimap)
+     * @since 11.0
+     */
+    default <R extends MutableLongObjectMultimap<T>> R groupByLong(LongFunction<? super T> function, R target)
+    {
+        this.each(each -> target.put(function.longValueOf(each), each));
+        return target;
+    }
+
     /**
      * Similar to {@link #groupBy(Function)}, except the result of evaluating function will return a collection of keys
      * for each value.
@@ -161,6 +161,16 @@ public interface ImmutableBagFactory
 
     <T> ImmutableBag<T> withAll(Iterable<? extends T> items);
 
+    /**
+     * Returns a bag containing the items whose hash table is sized exactly for its distinct items when it is created,
+     * with their counts in a parallel int array, at a higher load factor and with less memory per distinct item than
+     * the bag returned by {@link #withAll(Iterable)}. Its newWith and newWithout copy the counts, and copy the whole
+     * table when they add or remove a distinct item.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableBag<T> withAllCompact(Iterable<? extends T> items);
+
     /**
      * @since 10.0.
      */
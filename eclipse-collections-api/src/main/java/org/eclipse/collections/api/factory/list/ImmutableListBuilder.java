@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.factory.list;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * A builder of an {@link ImmutableList}, created by {@link ImmutableListFactory#builder(int)}. The elements are added
+ * to a backing array which {@link #build()} hands over to the list instead of copying, so a list built with an
+ * accurate expected size allocates its elements only once.
+ * <p>
+ * The builder may be used again after {@link #build()}. The next update copies the backing array, so lists that have
+ * already been built never change. A builder is not thread-safe.
+ *
+ * @since 11.0
+ */
+public interface ImmutableListBuilder<T>
+{
+    ImmutableListBuilder<T> add(T element);
+
+    ImmutableListBuilder<T> addAll(Iterable<? extends T> elements);
+
+    int size();
+
+    ImmutableList<T> build();
+}
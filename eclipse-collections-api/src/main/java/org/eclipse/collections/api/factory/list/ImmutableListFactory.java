@@ -116,6 +116,36 @@ public interface ImmutableListFactory
 
     <T> ImmutableList<T> withAll(Iterable<? extends T> items);
 
+    /**
+     * Returns an empty persistent list. Its newWith and newWithAll share all but the last leaf of the list they are
+     * called on instead of copying it, so appending to a large list is O(log n) rather than O(n).
+     *
+     * @since 11.0
+     */
+    <T> ImmutableList<T> emptyPersistent();
+
+    /**
+     * Returns a persistent list containing the items, see {@link #emptyPersistent()}.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items);
+
+    /**
+     * Returns a builder whose backing array starts with the default capacity, see {@link ImmutableListBuilder}.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableListBuilder<T> builder();
+
+    /**
+     * Returns a builder whose backing array is sized for the expected number of elements. If exactly that many
+     * elements are added, {@link ImmutableListBuilder#build()} wraps the array without trimming or copying it.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableListBuilder<T> builder(int expectedSize);
+
     /**
      * @since 10.0.
      */
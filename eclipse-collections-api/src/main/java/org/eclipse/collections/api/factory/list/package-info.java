@@ -20,6 +20,9 @@
  *          {@link org.eclipse.collections.api.factory.list.ImmutableListFactory} - a factory which creates instances of type {@link org.eclipse.collections.api.list.ImmutableList}.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.api.factory.list.ImmutableListBuilder} - a builder which creates an instance of type {@link org.eclipse.collections.api.list.ImmutableList} without copying.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.api.factory.list.MutableListFactory} - a factory which creates instances of type {@link org.eclipse.collections.api.list.MutableList}.
  *     </li>
  * </ul>
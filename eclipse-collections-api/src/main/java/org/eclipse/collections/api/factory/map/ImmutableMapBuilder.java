@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.factory.map;
+
+import java.util.Map;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+
+/**
+ * A builder of an {@link ImmutableMap}, created by {@link ImmutableMapFactory#builder(int)}. The entries are put into
+ * a backing hash map which {@link #build()} hands over to the immutable map instead of copying. Putting a key that is
+ * already present replaces its value.
+ * <p>
+ * The builder may be used again after {@link #build()}. The next update copies the backing map, so maps that have
+ * already been built never change. A builder is not thread-safe.
+ *
+ * @since 11.0
+ */
+public interface ImmutableMapBuilder<K, V>
+{
+    ImmutableMapBuilder<K, V> put(K key, V value);
+
+    ImmutableMapBuilder<K, V> putAll(Map<? extends K, ? extends V> map);
+
+    int size();
+
+    ImmutableMap<K, V> build();
+}
@@ -67,4 +67,42 @@ public interface ImmutableMapFactory
     <K, V> ImmutableMap<K, V> ofAll(Map<K, V> map);
 
     <K, V> ImmutableMap<K, V> withAll(Map<K, V> map);
+
+    /**
+     * Returns an empty persistent map. Its newWithKeyValue and newWithoutKey copy only the O(log n) nodes on the path
+     * to the key and share the rest with the map they are called on.
+     *
+     * @since 11.0
+     */
+    <K, V> ImmutableMap<K, V> emptyPersistent();
+
+    /**
+     * Returns a persistent map containing the entries of the map, see {@link #emptyPersistent()}.
+     *
+     * @since 11.0
+     */
+    <K, V> ImmutableMap<K, V> withAllPersistent(Map<? extends K, ? extends V> map);
+
+    /**
+     * Returns a map containing the entries of the map whose hash table is sized exactly for them when it is created, at
+     * a higher load factor and with less memory per entry than the map returned by {@link #withAll(Map)}. Its
+     * newWithKeyValue and newWithoutKey copy the whole table.
+     *
+     * @since 11.0
+     */
+    <K, V> ImmutableMap<K, V> withAllCompact(Map<? extends K, ? extends V> map);
+
+    /**
+     * Returns a builder whose backing map starts with the default capacity, see {@link ImmutableMapBuilder}.
+     *
+     * @since 11.0
+     */
+    <K, V> ImmutableMapBuilder<K, V> builder();
+
+    /**
+     * Returns a builder whose backing map is sized to hold the expected number of entries without rehashing.
+     *
+     * @since 11.0
+     */
+    <K, V> ImmutableMapBuilder<K, V> builder(int expectedSize);
 }
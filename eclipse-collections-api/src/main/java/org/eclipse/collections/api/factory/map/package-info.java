@@ -11,7 +11,7 @@
 /**
  * This package contains factory API for creating instances of type {@link org.eclipse.collections.api.map.MapIterable}.
  * <p>
- *     This package contains 3 interfaces:
+ *     This package contains 4 interfaces:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.api.factory.map.FixedSizeMapFactory} - a factory which creates instances of type {@link org.eclipse.collections.api.map.FixedSizeMap}.
@@ -20,6 +20,9 @@
  *          {@link org.eclipse.collections.api.factory.map.ImmutableMapFactory} - a factory which creates instances of type {@link org.eclipse.collections.api.map.ImmutableMap}.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.api.factory.map.ImmutableMapBuilder} - a builder which creates an instance of type {@link org.eclipse.collections.api.map.ImmutableMap} without copying.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.api.factory.map.MutableMapFactory} - a factory which creates instances of type {@link org.eclipse.collections.api.map.MutableMap}.
  *     </li>
  * </ul>
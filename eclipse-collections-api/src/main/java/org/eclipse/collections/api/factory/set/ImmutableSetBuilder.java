@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.factory.set;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+
+/**
+ * A builder of an {@link ImmutableSet}, created by {@link ImmutableSetFactory#builder(int)}. The elements are added
+ * to a backing hash set which {@link #build()} hands over to the immutable set instead of copying.
+ * <p>
+ * The builder may be used again after {@link #build()}. The next update copies the backing set, so sets that have
+ * already been built never change. A builder is not thread-safe.
+ *
+ * @since 11.0
+ */
+public interface ImmutableSetBuilder<T>
+{
+    ImmutableSetBuilder<T> add(T element);
+
+    ImmutableSetBuilder<T> addAll(Iterable<? extends T> elements);
+
+    int size();
+
+    ImmutableSet<T> build();
+}
@@ -74,6 +74,44 @@ public interface ImmutableSetFactory
 
     <T> ImmutableSet<T> withAll(Iterable<? extends T> items);
 
+    /**
+     * Returns an empty persistent set. Its newWith and newWithout copy only the O(log n) nodes on the path to the
+     * element and share the rest with the set they are called on.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableSet<T> emptyPersistent();
+
+    /**
+     * Returns a persistent set containing the items, see {@link #emptyPersistent()}.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items);
+
+    /**
+     * Returns a set containing the items whose hash table is sized exactly for them when it is created, at a higher
+     * load factor and with less memory per element than the set returned by {@link #withAll(Iterable)}. Its newWith
+     * and newWithout copy the whole table.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableSet<T> withAllCompact(Iterable<? extends T> items);
+
+    /**
+     * Returns a builder whose backing set starts with the default capacity, see {@link ImmutableSetBuilder}.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableSetBuilder<T> builder();
+
+    /**
+     * Returns a builder whose backing set is sized to hold the expected number of elements without rehashing.
+     *
+     * @since 11.0
+     */
+    <T> ImmutableSetBuilder<T> builder(int expectedSize);
+
     /**
      * @since 10.0.
      */
@@ -11,7 +11,7 @@
 /**
  * This package contains Factory API for {@link org.eclipse.collections.api.set.FixedSizeSet}, {@link org.eclipse.collections.api.set.ImmutableSet} and {@link org.eclipse.collections.api.set.MutableSet}.
  * <p>
- *     This package contains 3 interfaces:
+ *     This package contains 4 interfaces:
  * <ul>
  *     <li>
  *          {@link org.eclipse.collections.api.factory.set.FixedSizeSetFactory} - Contains Factory API for {@link org.eclipse.collections.api.set.FixedSizeSet}.
@@ -20,6 +20,9 @@
  *          {@link org.eclipse.collections.api.factory.set.ImmutableSetFactory} - Contains Factory API for {@link org.eclipse.collections.api.set.ImmutableSet}.
  *     </li>
  *     <li>
+ *          {@link org.eclipse.collections.api.factory.set.ImmutableSetBuilder} - Builds an {@link org.eclipse.collections.api.set.ImmutableSet} without copying.
+ *     </li>
+ *     <li>
  *          {@link org.eclipse.collections.api.factory.set.MutableSetFactory} - Contains Factory API for {@link org.eclipse.collections.api.set.MutableSet}.
  *     </li>
  * </ul>
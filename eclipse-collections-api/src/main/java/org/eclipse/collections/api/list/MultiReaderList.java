@@ -49,6 +49,25 @@ public interface MultiReaderList<T>
         return this.sortThis(null);
     }
 
+    /**
+     * @since 11.0
+     */
+    @Override
+    default MultiReaderList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        this.withWriteLockAndDelegate(delegate -> delegate.sortThisParallel(comparator));
+        return this;
+    }
+
+    /**
+     * @since 11.0
+     */
+    @Override
+    default MultiReaderList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
     @Override
     <V extends Comparable<? super V>> MultiReaderList<T> sortThisBy(Function<? super T, ? extends V> function);
 
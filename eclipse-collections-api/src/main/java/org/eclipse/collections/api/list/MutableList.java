@@ -10,9 +10,11 @@
 
 package org.eclipse.collections.api.list;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Random;
 
 import org.eclipse.collections.api.block.HashingStrategy;
@@ -233,6 +235,37 @@ public interface MutableList<T>
         return this.sortThis(null);
     }
 
+    /**
+     * Sorts the internal data structure of this list in parallel using {@link Arrays#parallelSort(Object[], Comparator)}
+     * and returns the list itself as a convenience. The sort is stable. The default implementation sorts a copy of the
+     * elements and writes them back through {@link #listIterator()}, as {@link java.util.List#sort(Comparator)} does.
+     *
+     * @since 11.0
+     */
+    default MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        T[] array = (T[]) this.toArray();
+        Arrays.parallelSort(array, comparator);
+        ListIterator<T> iterator = this.listIterator();
+        for (T each : array)
+        {
+            iterator.next();
+            iterator.set(each);
+        }
+        return this;
+    }
+
+    /**
+     * Sorts the internal data structure of this list in parallel based on the natural order of its elements and returns
+     * the list itself as a convenience.
+     *
+     * @since 11.0
+     */
+    default MutableList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
     /**
      * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
      * function}.
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.map;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.annotation.Beta;
+
+/**
+ * A lazy view of the keys, values or key-value pairs of a map, which can also be evaluated in parallel by splitting
+ * the backing table of the map into ranges.
+ *
+ * @since 11.0
+ */
+public interface MapIterableView<T> extends LazyIterable<T>
+{
+    /**
+     * Returns a parallel iterable of this view. Each batch covers a range of the backing table of the map, so no copy
+     * of the map is made. The map must not be modified while the parallel iterable is evaluated.
+     *
+     * @since 11.0
+     */
+    @Beta
+    ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize);
+}
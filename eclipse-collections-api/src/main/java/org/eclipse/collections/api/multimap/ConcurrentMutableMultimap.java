@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.multimap;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+
+/**
+ * A ConcurrentMutableMultimap is a MutableMultimap which may be read, written and iterated by many threads at once
+ * without external locking.
+ * <p>
+ * Every update of the values of a single key is atomic. Reads and iteration are weakly consistent: they never throw
+ * ConcurrentModificationException, and see the values of each key as they were at some point while it was visited,
+ * but may or may not reflect updates of other keys made while they are running.
+ *
+ * @since 11.0
+ */
+public interface ConcurrentMutableMultimap<K, V>
+        extends MutableMultimap<K, V>
+{
+    @Override
+    ConcurrentMutableMultimap<K, V> newEmpty();
+
+    /**
+     * Returns an unmodifiable snapshot of the values associated with the key, or an empty collection if there are
+     * none. Unlike other multimaps, the result is not a view and does not change when the multimap does.
+     */
+    @Override
+    MutableCollection<V> get(K key);
+
+    /**
+     * Adds all the values to the key atomically, so that no reader of the key sees only some of them.
+     */
+    @Override
+    boolean putAll(K key, Iterable<? extends V> values);
+}
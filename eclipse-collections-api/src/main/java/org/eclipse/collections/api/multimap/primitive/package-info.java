@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains API for multimaps with primitive keys, holding either object or primitive values.
+ * <p>
+ *     A primitive multimap is similar to a {@link org.eclipse.collections.api.multimap.Multimap}, but is memory-optimized for primitives.
+ */
+package org.eclipse.collections.api.multimap.primitive;
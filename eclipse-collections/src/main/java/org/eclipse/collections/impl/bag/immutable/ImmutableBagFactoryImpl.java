@@ -105,4 +105,10 @@ public class ImmutableBagFactoryImpl implements ImmutableBagFactory
         }
         return this.of((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableBag<T> withAllCompact(Iterable<? extends T> items)
+    {
+        return ImmutableCompactHashBag.newBag(items);
+    }
 }
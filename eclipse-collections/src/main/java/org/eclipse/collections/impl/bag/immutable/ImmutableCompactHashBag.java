@@ -0,0 +1,720 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ImmutableCompactHashBag is an {@link ImmutableBag} stored in a single open addressed table whose capacity is computed
+ * exactly from the number of distinct items at construction, with the count of each item in a parallel int array.
+ * Unlike {@link ImmutableArrayBag} it is meant for any number of distinct items, and unlike {@link ImmutableHashBag}
+ * it does not wrap a {@link HashBag} sized with room to grow. The items are stored at a load factor of 7/8, plus one
+ * byte per slot recording how far the item in that slot is from its home slot.
+ * <p>
+ * Items are placed with Robin Hood linear probing, so {@link #occurrencesOf(Object)} only calls equals on items that
+ * share its home slot, stops at the first slot whose item is closer to home than the one being looked up would be, and
+ * never allocates. {@link #newWith(Object)} of an item that is already present and {@link #newWithout(Object)} of an
+ * item that occurs more than once share the table and copy only the counts.
+ *
+ * @since 11.0
+ */
+public final class ImmutableCompactHashBag<T>
+        extends AbstractImmutableBag<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final double LOAD_FACTOR = 0.875;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * The probe byte of a slot is zero if the slot is empty, and otherwise one more than the distance of its item from
+     * its home slot. Distances that do not fit in a byte are recorded as SATURATED, which never ends a lookup early.
+     */
+    private static final int SATURATED = 0xFF;
+
+    private static final ImmutableCompactHashBag<?> EMPTY = new TableBuilder<>(0).build();
+
+    private final Object[] table;
+    private final int[] counts;
+    private final byte[] probes;
+    private final int sizeDistinct;
+    private final int size;
+
+    private ImmutableCompactHashBag(Object[] table, int[] counts, byte[] probes, int sizeDistinct, int size)
+    {
+        this.table = table;
+        this.counts = counts;
+        this.probes = probes;
+        this.sizeDistinct = sizeDistinct;
+        this.size = size;
+    }
+
+    public static <T> ImmutableCompactHashBag<T> empty()
+    {
+        return (ImmutableCompactHashBag<T>) EMPTY;
+    }
+
+    public static <T> ImmutableCompactHashBag<T> newBag(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableCompactHashBag<?>)
+        {
+            return (ImmutableCompactHashBag<T>) iterable;
+        }
+        if (iterable instanceof Bag<?>)
+        {
+            Bag<T> bag = (Bag<T>) iterable;
+            TableBuilder<T> builder = new TableBuilder<>(bag.sizeDistinct());
+            bag.forEachWithOccurrences(builder::add);
+            return builder.build();
+        }
+        TableBuilder<T> builder = new TableBuilder<>(Iterate.sizeOf(iterable));
+        for (T item : iterable)
+        {
+            builder.add(item, 1);
+        }
+        return builder.build();
+    }
+
+    public static <T> ImmutableCompactHashBag<T> newBagWith(T... elements)
+    {
+        return ImmutableCompactHashBag.newBag(Arrays.asList(elements));
+    }
+
+    private static int capacityFor(int sizeDistinct)
+    {
+        return Math.max(sizeDistinct + 1, (int) Math.ceil(sizeDistinct / LOAD_FACTOR));
+    }
+
+    /**
+     * Maps the spread hash code onto [0, capacity) with a multiply and shift, so the capacity need not be a power of two.
+     */
+    private static int home(Object item, int capacity)
+    {
+        int hash = item == null ? 0 : item.hashCode();
+        return (int) (((hash * GOLDEN_RATIO) & 0xFFFFFFFFL) * capacity >>> 32);
+    }
+
+    private static boolean nullSafeEquals(Object item, Object other)
+    {
+        return item == other || item != null && item.equals(other);
+    }
+
+    /**
+     * Returns the slot holding the item, or -1 if the item is absent.
+     */
+    private int slotOf(Object item)
+    {
+        byte[] probes = this.probes;
+        int capacity = probes.length;
+        int index = ImmutableCompactHashBag.home(item, capacity);
+        for (int distance = 1; ; distance++)
+        {
+            int probe = probes[index] & SATURATED;
+            if (probe == distance || probe == SATURATED)
+            {
+                if (ImmutableCompactHashBag.nullSafeEquals(item, this.table[index]))
+                {
+                    return index;
+                }
+            }
+            else if (probe < distance)
+            {
+                return -1;
+            }
+            if (++index == capacity)
+            {
+                index = 0;
+            }
+        }
+    }
+
+    private int nextSlot(int index)
+    {
+        int next = index;
+        while (next < this.probes.length && this.probes[next] == 0)
+        {
+            next++;
+        }
+        return next;
+    }
+
+    private ImmutableCompactHashBag<T> withCountAt(int slot, int count)
+    {
+        int[] newCounts = this.counts.clone();
+        int delta = count - newCounts[slot];
+        newCounts[slot] = count;
+        return new ImmutableCompactHashBag<>(this.table, newCounts, this.probes, this.sizeDistinct, this.size + delta);
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                objectIntProcedure.value((T) this.table[i], this.counts[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectSlotWithOccurrences(predicate, true) >= 0;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectSlotWithOccurrences(predicate, false) < 0;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectSlotWithOccurrences(predicate, true) < 0;
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        int slot = this.detectSlotWithOccurrences(predicate, true);
+        return slot < 0 ? null : (T) this.table[slot];
+    }
+
+    private int detectSlotWithOccurrences(ObjectIntPredicate<? super T> predicate, boolean expected)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && predicate.accept((T) this.table[i], this.counts[i]) == expected)
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.sizeDistinct;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        int slot = this.slotOf(item);
+        return slot < 0 ? 0 : this.counts[slot];
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.slotOf(object) >= 0;
+    }
+
+    @Override
+    public ImmutableCompactHashBag<T> newWith(T element)
+    {
+        int slot = this.slotOf(element);
+        if (slot >= 0)
+        {
+            return this.withCountAt(slot, this.counts[slot] + 1);
+        }
+        TableBuilder<T> builder = new TableBuilder<>(this.sizeDistinct + 1);
+        builder.addAll(this, -1);
+        builder.add(element, 1);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashBag<T> newWithout(T element)
+    {
+        int slot = this.slotOf(element);
+        if (slot < 0)
+        {
+            return this;
+        }
+        if (this.counts[slot] > 1)
+        {
+            return this.withCountAt(slot, this.counts[slot] - 1);
+        }
+        if (this.sizeDistinct == 1)
+        {
+            return ImmutableCompactHashBag.empty();
+        }
+        TableBuilder<T> builder = new TableBuilder<>(this.sizeDistinct - 1);
+        builder.addAll(this, slot);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashBag<T> newWithAll(Iterable<? extends T> elements)
+    {
+        MutableBag<T> added = HashBag.newBag(elements);
+        if (added.isEmpty())
+        {
+            return this;
+        }
+        TableBuilder<T> builder = new TableBuilder<>(this.sizeDistinct + added.sizeDistinct());
+        builder.addAll(this, -1);
+        added.forEachWithOccurrences(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.sizeDistinct);
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public ImmutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) -> {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return ImmutableCompactHashBag.newBag(result);
+    }
+
+    @Override
+    public <S> ImmutableBag<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableBag<S> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) -> {
+            if (clazz.isInstance(each))
+            {
+                result.addOccurrences((S) each, occurrences);
+            }
+        });
+        return ImmutableCompactHashBag.newBag(result);
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap()).toImmutable();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        int slot = this.nextSlot(0);
+        return slot < this.probes.length ? (T) this.table[slot] : null;
+    }
+
+    @Override
+    public T getLast()
+    {
+        for (int i = this.probes.length - 1; i >= 0; i--)
+        {
+            if (this.probes[i] != 0)
+            {
+                return (T) this.table[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T getOnly()
+    {
+        if (this.size != 1)
+        {
+            throw new IllegalStateException("Size must be 1 but was " + this.size);
+        }
+        return this.getFirst();
+    }
+
+    @Override
+    public ImmutableBag<T> select(Predicate<? super T> predicate)
+    {
+        MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) -> {
+            if (predicate.accept(each))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return ImmutableCompactHashBag.newBag(result);
+    }
+
+    @Override
+    public ImmutableBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.select(each -> !predicate.accept(each));
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collect(Function<? super T, ? extends V> function)
+    {
+        MutableBag<V> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) -> result.addOccurrences(function.valueOf(each), occurrences));
+        return ImmutableCompactHashBag.newBag(result);
+    }
+
+    @Override
+    public <V> ImmutableBag<V> collectIf(
+            Predicate<? super T> predicate,
+            Function<? super T, ? extends V> function)
+    {
+        MutableBag<V> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) -> {
+            if (predicate.accept(each))
+            {
+                result.addOccurrences(function.valueOf(each), occurrences);
+            }
+        });
+        return ImmutableCompactHashBag.newBag(result);
+    }
+
+    @Override
+    public <V> ImmutableBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return ImmutableCompactHashBag.newBag(this.flatCollect(function, HashBag.newBag()));
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.size != bag.size() || this.sizeDistinct != bag.sizeDistinct())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && this.counts[i] != bag.occurrencesOf(this.table[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int sum = 0;
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                Object each = this.table[i];
+                sum += (each == null ? 0 : each.hashCode()) ^ this.counts[i];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                T item = (T) this.table[i];
+                for (int j = this.counts[i]; j > 0; j--)
+                {
+                    procedure.value(item);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SlotIterator();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zip(Iterable)} instead.
+     */
+    @Override
+    @Deprecated
+    public <S> ImmutableBag<Pair<T, S>> zip(Iterable<S> that)
+    {
+        if (that instanceof Collection || that instanceof RichIterable)
+        {
+            int thatSize = Iterate.sizeOf(that);
+            HashBag<Pair<T, S>> target = HashBag.newBag(Math.min(this.size, thatSize));
+            return this.zip(that, target).toImmutable();
+        }
+        return this.zip(that, HashBag.newBag()).toImmutable();
+    }
+
+    /**
+     * @deprecated in 6.0. Use {@link OrderedIterable#zipWithIndex()} instead.
+     */
+    @Override
+    @Deprecated
+    public ImmutableSet<Pair<T, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(UnifiedSet.newSet(this.size)).toImmutable();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableCompactHashBagSerializationProxy<>(this);
+    }
+
+    /**
+     * Fills a table sized for an expected number of distinct items. Distances are tracked exactly in an int array while
+     * items are placed, and only saturated into bytes when the bag is built.
+     */
+    private static final class TableBuilder<T>
+    {
+        private final Object[] table;
+        private final int[] counts;
+        private final int[] distances;
+        private int sizeDistinct;
+        private int size;
+
+        private TableBuilder(int expectedSizeDistinct)
+        {
+            int capacity = ImmutableCompactHashBag.capacityFor(expectedSizeDistinct);
+            this.table = new Object[capacity];
+            this.counts = new int[capacity];
+            this.distances = new int[capacity];
+        }
+
+        private void addAll(ImmutableCompactHashBag<?> bag, int skip)
+        {
+            for (int i = 0; i < bag.probes.length; i++)
+            {
+                if (bag.probes[i] != 0 && i != skip)
+                {
+                    this.add(bag.table[i], bag.counts[i]);
+                }
+            }
+        }
+
+        private void add(Object item, int occurrences)
+        {
+            if (occurrences <= 0)
+            {
+                return;
+            }
+            this.size += occurrences;
+            int capacity = this.distances.length;
+            int index = ImmutableCompactHashBag.home(item, capacity);
+            Object current = item;
+            int currentCount = occurrences;
+            int currentDistance = 1;
+            boolean searching = true;
+            while (true)
+            {
+                int distance = this.distances[index];
+                if (distance == 0)
+                {
+                    this.table[index] = current;
+                    this.counts[index] = currentCount;
+                    this.distances[index] = currentDistance;
+                    this.sizeDistinct++;
+                    return;
+                }
+                if (searching && distance == currentDistance && ImmutableCompactHashBag.nullSafeEquals(current, this.table[index]))
+                {
+                    this.counts[index] += currentCount;
+                    return;
+                }
+                if (distance < currentDistance)
+                {
+                    Object displaced = this.table[index];
+                    int displacedCount = this.counts[index];
+                    this.table[index] = current;
+                    this.counts[index] = currentCount;
+                    this.distances[index] = currentDistance;
+                    current = displaced;
+                    currentCount = displacedCount;
+                    currentDistance = distance;
+                    searching = false;
+                }
+                currentDistance++;
+                if (++index == capacity)
+                {
+                    index = 0;
+                }
+            }
+        }
+
+        private ImmutableCompactHashBag<T> build()
+        {
+            int capacity = this.distances.length;
+            if (capacity - ImmutableCompactHashBag.capacityFor(this.sizeDistinct) > capacity >>> 3)
+            {
+                // Repeated items left the table too sparse, so rebuild it at the exact size
+                TableBuilder<T> exact = new TableBuilder<>(this.sizeDistinct);
+                for (int i = 0; i < capacity; i++)
+                {
+                    if (this.distances[i] != 0)
+                    {
+                        exact.add(this.table[i], this.counts[i]);
+                    }
+                }
+                return exact.build();
+            }
+            byte[] probes = new byte[capacity];
+            for (int i = 0; i < capacity; i++)
+            {
+                probes[i] = (byte) Math.min(this.distances[i], SATURATED);
+            }
+            return new ImmutableCompactHashBag<>(this.table, this.counts, probes, this.sizeDistinct, this.size);
+        }
+    }
+
+    private final class SlotIterator implements Iterator<T>
+    {
+        private int index = ImmutableCompactHashBag.this.nextSlot(0);
+        private int remainingOccurrences = this.index < ImmutableCompactHashBag.this.probes.length
+                ? ImmutableCompactHashBag.this.counts[this.index]
+                : 0;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableCompactHashBag.this.probes.length;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = (T) ImmutableCompactHashBag.this.table[this.index];
+            if (--this.remainingOccurrences == 0)
+            {
+                this.index = ImmutableCompactHashBag.this.nextSlot(this.index + 1);
+                if (this.index < ImmutableCompactHashBag.this.probes.length)
+                {
+                    this.remainingOccurrences = ImmutableCompactHashBag.this.counts[this.index];
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static class ImmutableCompactHashBagSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableCompactHashBag<T> bag;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableCompactHashBagSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableCompactHashBagSerializationProxy(ImmutableCompactHashBag<T> bag)
+        {
+            this.bag = bag;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.bag.sizeDistinct);
+            for (int i = 0; i < this.bag.probes.length; i++)
+            {
+                if (this.bag.probes[i] != 0)
+                {
+                    out.writeObject(this.bag.table[i]);
+                    out.writeInt(this.bag.counts[i]);
+                }
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int sizeDistinct = in.readInt();
+            TableBuilder<T> builder = new TableBuilder<>(sizeDistinct);
+            for (int i = 0; i < sizeDistinct; i++)
+            {
+                builder.add(in.readObject(), in.readInt());
+            }
+            this.bag = builder.build();
+        }
+
+        protected Object readResolve()
+        {
+            return this.bag;
+        }
+    }
+}
@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectIntHashMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * ConcurrentHashBag is a thread-safe MutableBag which keeps one {@link AtomicInteger} per distinct item in a
+ * {@link ConcurrentHashMap}. Adding and removing occurrences of an item is a compare-and-set on its counter, so
+ * threads counting different items never contend, and threads counting the same item never block each other.
+ * <p>
+ * A counter which drops to zero is dead: it is never incremented again and is removed from the map by the thread that
+ * emptied it. A thread which finds a dead counter removes it and retries with a new one. This keeps every update of
+ * an item atomic without locking, even while the item is being added and removed concurrently.
+ * <p>
+ * Iteration, {@code forEachWithOccurrences} and the other bulk operations are weakly consistent: they never throw
+ * ConcurrentModificationException and reflect each item's count at the time it is visited, but may or may not see
+ * updates made while they are running. {@code size()} is maintained separately and may be momentarily out of step with
+ * the counts while other threads are updating the bag.
+ *
+ * @since 11.0
+ */
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_ITEM = new Object();
+
+    private final ConcurrentHashMap<Object, AtomicInteger> items;
+    private final LongAdder size = new LongAdder();
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int initialCapacity)
+    {
+        this.items = ConcurrentHashMap.newMap(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int initialCapacity)
+    {
+        return new ConcurrentHashBag<>(initialCapacity);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object maskNull(Object item)
+    {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    private static <T> T unmaskNull(Object key)
+    {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        Object key = ConcurrentHashBag.maskNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    this.size.add(occurrences);
+                    return occurrences;
+                }
+            }
+            int updatedOccurrences = ConcurrentHashBag.incrementIfLive(counter, occurrences);
+            if (updatedOccurrences > 0)
+            {
+                this.size.add(occurrences);
+                return updatedOccurrences;
+            }
+            this.items.remove(key, counter);
+        }
+    }
+
+    /**
+     * Adds occurrences to the counter unless it is dead, returning the new count or zero if the counter is dead.
+     */
+    private static int incrementIfLive(AtomicInteger counter, int occurrences)
+    {
+        while (true)
+        {
+            int current = counter.get();
+            if (current == 0)
+            {
+                return 0;
+            }
+            int updated = current + occurrences;
+            if (counter.compareAndSet(current, updated))
+            {
+                return updated;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        Object key = ConcurrentHashBag.maskNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                return false;
+            }
+            int current = counter.get();
+            if (current == 0)
+            {
+                this.items.remove(key, counter);
+            }
+            else
+            {
+                int updated = Math.max(0, current - occurrences);
+                if (counter.compareAndSet(current, updated))
+                {
+                    this.size.add(updated - current);
+                    if (updated == 0)
+                    {
+                        this.items.remove(key, counter);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.maskNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new AtomicInteger(occurrences)) == null)
+                {
+                    this.size.add(occurrences);
+                    return true;
+                }
+                continue;
+            }
+            int current = counter.get();
+            if (current == 0)
+            {
+                this.items.remove(key, counter);
+            }
+            else if (current == occurrences)
+            {
+                return false;
+            }
+            else if (counter.compareAndSet(current, occurrences))
+            {
+                this.size.add(occurrences - current);
+                if (occurrences == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Kills the counter and removes it from the map, returning the number of occurrences it held.
+     */
+    private int removeCounter(Object key, AtomicInteger counter)
+    {
+        int removed = counter.getAndSet(0);
+        this.size.add(-removed);
+        this.items.remove(key, counter);
+        return removed;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(ConcurrentHashBag.maskNull(item));
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size.intValue();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size() == 0;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.forEachKeyValue(this::removeCounter);
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            int occurrences = entry.getValue().get();
+            if (occurrences > 0)
+            {
+                objectIntProcedure.value(ConcurrentHashBag.unmaskNull(entry.getKey()), occurrences);
+            }
+        }
+    }
+
+    @Override
+    public boolean anySatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) != null;
+    }
+
+    @Override
+    public boolean allSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences((each, occurrences) -> !predicate.accept(each, occurrences)) == null;
+    }
+
+    @Override
+    public boolean noneSatisfyWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        return this.detectEntryWithOccurrences(predicate) == null;
+    }
+
+    @Override
+    public T detectWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        Map.Entry<Object, AtomicInteger> entry = this.detectEntryWithOccurrences(predicate);
+        return entry == null ? null : ConcurrentHashBag.unmaskNull(entry.getKey());
+    }
+
+    private Map.Entry<Object, AtomicInteger> detectEntryWithOccurrences(ObjectIntPredicate<? super T> predicate)
+    {
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            int occurrences = entry.getValue().get();
+            if (occurrences > 0 && predicate.accept(ConcurrentHashBag.unmaskNull(entry.getKey()), occurrences))
+            {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return LazyIterate.adapt(this.items.entrySet())
+                .select(each -> each.getValue().get() > 0)
+                .collect(each -> ConcurrentHashBag.unmaskNull(each.getKey()));
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        MutableBag<T> result = HashBag.newBag();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((each, occurrences) ->
+        {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Map.Entry<Object, AtomicInteger> entry : this.items.entrySet())
+        {
+            if (entry.getValue().get() > 0 && predicate.accept(ConcurrentHashBag.unmaskNull(entry.getKey())))
+            {
+                changed |= this.removeCounter(entry.getKey(), entry.getValue()) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.removeIf(each -> predicate.accept(each, parameter));
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        Iterable<?> distinct = iterable instanceof Bag ? ((Bag<?>) iterable).toSet() : iterable;
+        for (Object each : distinct)
+        {
+            Object key = ConcurrentHashBag.maskNull(each);
+            AtomicInteger counter = this.items.get(key);
+            if (counter != null)
+            {
+                changed |= this.removeCounter(key, counter) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return this.allSatisfyWithOccurrences((each, occurrences) -> bag.occurrencesOf(each) == occurrences);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((each, occurrences) -> counter.add((each == null ? 0 : each.hashCode()) ^ occurrences));
+        return counter.getCount();
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public ConcurrentHashBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    /**
+     * Writes a snapshot of the counts in the same form as {@link HashBag}.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        ObjectIntHashMap<T> snapshot = new ObjectIntHashMap<>();
+        this.forEachWithOccurrences(snapshot::put);
+        snapshot.writeExternal(out);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        ObjectIntHashMap<T> snapshot = new ObjectIntHashMap<>();
+        snapshot.readExternal(in);
+        snapshot.forEachKeyValue(this::addOccurrences);
+    }
+
+    private final class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Map.Entry<Object, AtomicInteger>> iterator = ConcurrentHashBag.this.items.entrySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                Map.Entry<Object, AtomicInteger> entry = this.iterator.next();
+                this.currentItem = ConcurrentHashBag.unmaskNull(entry.getKey());
+                this.occurrences = entry.getValue().get();
+            }
+            return this.occurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.currentItem;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
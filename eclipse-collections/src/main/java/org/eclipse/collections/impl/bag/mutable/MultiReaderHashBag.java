@@ -114,9 +114,14 @@ public final class MultiReaderHashBag<T>
     }
 
     private MultiReaderHashBag(MutableBag<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, new ReadWriteLockWrapper(newLock));
+    }
+
+    private MultiReaderHashBag(MutableBag<T> newDelegate, ReadWriteLock newLock, ReadWriteLockWrapper newLockWrapper)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = newLockWrapper;
         this.delegate = newDelegate;
     }
 
@@ -140,6 +145,35 @@ public final class MultiReaderHashBag<T>
         return new MultiReaderHashBag<>(HashBag.newBagWith(elements));
     }
 
+    /**
+     * Creates an empty MultiReaderHashBag whose {@link #size()}, {@link #isEmpty()} and {@link #notEmpty()} read the
+     * delegate without taking the read lock unless a writer interferes. See
+     * {@link AbstractMultiReaderMutableCollection.OptimisticReadWriteLockWrapper}. Copies made by {@code clone()},
+     * {@code newEmpty()} and serialization always take the read lock.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag()
+    {
+        return MultiReaderHashBag.optimistic(HashBag.newBag());
+    }
+
+    /**
+     * Creates a MultiReaderHashBag like {@link #newOptimisticBag()} containing the elements of {@code iterable}.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderHashBag<T> newOptimisticBag(Iterable<T> iterable)
+    {
+        return MultiReaderHashBag.optimistic(HashBag.newBag(iterable));
+    }
+
+    private static <T> MultiReaderHashBag<T> optimistic(MutableBag<T> newDelegate)
+    {
+        ReadWriteLock newLock = new ReentrantReadWriteLock();
+        return new MultiReaderHashBag<>(newDelegate, newLock, new OptimisticReadWriteLockWrapper(newLock));
+    }
+
     @Override
     protected MutableBag<T> getDelegate()
     {
@@ -40,6 +40,7 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
 import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
@@ -127,6 +128,27 @@ public class TreeBag<T>
         return TreeBag.newBag(comparator, Arrays.asList(elements));
     }
 
+    /**
+     * Returns an empty TreeBag which stores its counts in a {@link BTreeSortedMap} rather than a {@link TreeSortedMap}.
+     * Copies of the bag, including deserialized copies, use the default backing.
+     *
+     * @since 11.0
+     */
+    public static <E> TreeBag<E> newBTreeBag()
+    {
+        return new TreeBag<>(BTreeSortedMap.newMap());
+    }
+
+    /**
+     * Returns an empty TreeBag ordered by {@code comparator} which stores its counts in a {@link BTreeSortedMap}.
+     *
+     * @since 11.0
+     */
+    public static <E> TreeBag<E> newBTreeBag(Comparator<? super E> comparator)
+    {
+        return new TreeBag<>(BTreeSortedMap.newMap(comparator));
+    }
+
     @Override
     public TreeBag<T> clone()
     {
@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import java.util.stream.Stream;
 
 import org.eclipse.collections.api.BooleanIterable;
@@ -83,6 +84,10 @@ import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 /**
  * AbstractMultiReaderMutableCollection is a common abstraction that provides thread-safe collection behaviors.
  * Subclasses of this class must provide implementations of getDelegate() and getLock().
+ * <p>
+ * If the lockWrapper is an {@link OptimisticReadWriteLockWrapper}, {@link #size()}, {@link #isEmpty()} and
+ * {@link #notEmpty()} first read the delegate without taking the read lock, and take it only if a writer held the write
+ * lock in the meantime.
  */
 @SuppressWarnings({"unused", "TransientFieldInNonSerializableClass"})
 public abstract class AbstractMultiReaderMutableCollection<T> implements MutableCollection<T>
@@ -607,10 +612,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean notEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().notEmpty();
-        }
+        return this.lockWrapper.optimisticRead(() -> this.getDelegate().notEmpty());
     }
 
     @Override
@@ -1048,10 +1050,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public boolean isEmpty()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().isEmpty();
-        }
+        return this.lockWrapper.optimisticRead(() -> this.getDelegate().isEmpty());
     }
 
     /**
@@ -1171,10 +1170,7 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
     @Override
     public int size()
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.getDelegate().size();
-        }
+        return this.lockWrapper.optimisticRead(() -> this.getDelegate().size());
     }
 
     @Override
@@ -2054,6 +2050,97 @@ public abstract class AbstractMultiReaderMutableCollection<T> implements Mutable
             this.writeLock.lock.lock();
             return this.writeLock;
         }
+
+        /**
+         * Returns the result of {@code function}, which must only read the delegate and must not call user code such as
+         * equals or hashCode of its elements. This implementation evaluates it under the read lock.
+         *
+         * @since 11.0
+         */
+        public <R> R optimisticRead(Function0<? extends R> function)
+        {
+            try (LockWrapper wrapper = this.acquireReadLock())
+            {
+                return function.value();
+            }
+        }
+    }
+
+    /**
+     * A ReadWriteLockWrapper that also supports reads without the read lock. Taking the read lock writes to the lock's
+     * state, so readers on different cores contend for its cache line even when there are no writers. Every holder of
+     * the write lock also holds the write lock of a {@link StampedLock}, whose optimistic read stamps only read its state.
+     *
+     * @since 11.0
+     */
+    public static class OptimisticReadWriteLockWrapper extends ReadWriteLockWrapper
+    {
+        private final StampedLock versionLock = new StampedLock();
+        private final LockWrapper writeLock;
+        private int writeHoldCount;
+        private long writeStamp;
+
+        public OptimisticReadWriteLockWrapper(ReadWriteLock readWriteLock)
+        {
+            super(readWriteLock);
+            this.writeLock = new VersionedWriteLockWrapper(readWriteLock.writeLock());
+        }
+
+        @Override
+        public LockWrapper acquireWriteLock()
+        {
+            super.acquireWriteLock();
+            if (this.writeHoldCount++ == 0)
+            {
+                this.writeStamp = this.versionLock.writeLock();
+            }
+            return this.writeLock;
+        }
+
+        /**
+         * Evaluates {@code function} without the read lock, and again under it if a writer took the write lock in the
+         * meantime or the unlocked evaluation threw.
+         */
+        @Override
+        public <R> R optimisticRead(Function0<? extends R> function)
+        {
+            long stamp = this.versionLock.tryOptimisticRead();
+            if (stamp != 0L)
+            {
+                try
+                {
+                    R result = function.value();
+                    if (this.versionLock.validate(stamp))
+                    {
+                        return result;
+                    }
+                }
+                catch (RuntimeException ignored)
+                {
+                    // a writer changed the delegate during the read, which is retried under the read lock
+                }
+            }
+            return super.optimisticRead(function);
+        }
+
+        private final class VersionedWriteLockWrapper extends LockWrapper
+        {
+            private VersionedWriteLockWrapper(Lock lock)
+            {
+                super(lock);
+            }
+
+            @Override
+            public void close()
+            {
+                OptimisticReadWriteLockWrapper wrapper = OptimisticReadWriteLockWrapper.this;
+                if (--wrapper.writeHoldCount == 0)
+                {
+                    wrapper.versionLock.unlockWrite(wrapper.writeStamp);
+                }
+                super.close();
+            }
+        }
     }
 
     public static class LockWrapper implements AutoCloseable
@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.factory;
 import java.util.Map;
 
 import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
 import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
 
 @SuppressWarnings("ConstantNamingConvention")
@@ -30,4 +31,23 @@ public final class OrderedMaps
     {
         return OrderedMapAdapter.adapt(map);
     }
+
+    /**
+     * Returns a new empty insertion-ordered map that keeps its entries in a dense array instead of wrapping a
+     * {@link java.util.LinkedHashMap}.
+     *
+     * @since 11.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> newMap()
+    {
+        return CompactOrderedHashMap.newMap();
+    }
+
+    /**
+     * @since 11.0
+     */
+    public static <K, V> MutableOrderedMap<K, V> newMap(int initialCapacity)
+    {
+        return CompactOrderedHashMap.newMap(initialCapacity);
+    }
 }
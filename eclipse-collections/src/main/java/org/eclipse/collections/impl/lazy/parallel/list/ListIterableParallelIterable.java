@@ -24,7 +24,15 @@ import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
-
+import org.eclipse.collections.impl.parallel.AdaptiveBatchingExecutorService;
+
+/**
+ * A parallel iterable over a random access list, split into batches of batchSize consecutive elements.
+ * <p>
+ * When the executor service is an {@link AdaptiveBatchingExecutorService}, the first batch is a small sample whose
+ * processing is timed, and the other batches are sized from its cost per element. The batchSize is only used if the
+ * sample does not complete in time.
+ */
 @Beta
 public final class ListIterableParallelIterable<T> extends AbstractParallelListIterable<T, RootListBatch<T>>
 {
@@ -130,21 +138,40 @@ public final class ListIterableParallelIterable<T> extends AbstractParallelListI
 
     private class ListIterableParallelBatchIterator implements Iterator<RootListBatch<T>>
     {
-        protected int chunkIndex;
+        protected int chunkStartIndex;
+        private int chunkSize = ListIterableParallelIterable.this.getBatchSize();
+        private SampledListIterableBatch<T> sample;
 
         @Override
         public boolean hasNext()
         {
-            return this.chunkIndex * ListIterableParallelIterable.this.getBatchSize() < ListIterableParallelIterable.this.delegate.size();
+            return this.chunkStartIndex < ListIterableParallelIterable.this.delegate.size();
         }
 
         @Override
         public RootListBatch<T> next()
         {
-            int chunkStartIndex = this.chunkIndex * ListIterableParallelIterable.this.getBatchSize();
-            int chunkEndIndex = (this.chunkIndex + 1) * ListIterableParallelIterable.this.getBatchSize();
-            int truncatedChunkEndIndex = Math.min(chunkEndIndex, ListIterableParallelIterable.this.delegate.size());
-            this.chunkIndex++;
+            int size = ListIterableParallelIterable.this.delegate.size();
+            int chunkStartIndex = this.chunkStartIndex;
+            if (ListIterableParallelIterable.this.executorService instanceof AdaptiveBatchingExecutorService)
+            {
+                AdaptiveBatchingExecutorService adaptiveExecutorService =
+                        (AdaptiveBatchingExecutorService) ListIterableParallelIterable.this.executorService;
+                if (chunkStartIndex == 0)
+                {
+                    int sampleEndIndex = Math.min(size, AdaptiveBatchingExecutorService.MIN_SAMPLE_SIZE);
+                    this.sample = new SampledListIterableBatch<>(ListIterableParallelIterable.this.delegate, 0, sampleEndIndex);
+                    this.chunkStartIndex = sampleEndIndex;
+                    return this.sample;
+                }
+                if (this.sample != null)
+                {
+                    this.chunkSize = this.sample.awaitBatchSize(adaptiveExecutorService, size - chunkStartIndex, this.chunkSize);
+                    this.sample = null;
+                }
+            }
+            int truncatedChunkEndIndex = chunkStartIndex + Math.min(this.chunkSize, size - chunkStartIndex);
+            this.chunkStartIndex = truncatedChunkEndIndex;
             return new ListIterableBatch<>(ListIterableParallelIterable.this.delegate, chunkStartIndex, truncatedChunkEndIndex);
         }
 
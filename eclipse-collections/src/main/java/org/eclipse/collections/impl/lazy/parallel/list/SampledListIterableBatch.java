@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.impl.parallel.AdaptiveBatchingExecutorService;
+
+/**
+ * The first batch of a list split for an {@link AdaptiveBatchingExecutorService}. It times whichever operation it runs,
+ * including the work of the batches which wrap it, so that the remaining batches can be sized from its cost per element.
+ */
+final class SampledListIterableBatch<T> extends ListIterableBatch<T>
+{
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private long elapsedNanos;
+    private int evaluatedCount;
+
+    SampledListIterableBatch(ListIterable<T> list, int chunkStartIndex, int chunkEndIndex)
+    {
+        super(list, chunkStartIndex, chunkEndIndex);
+    }
+
+    /**
+     * Waits for this batch to be processed and returns the batch size for the remaining elements, or the fallback batch
+     * size if it is not processed within the sample wait time of the executor.
+     */
+    int awaitBatchSize(AdaptiveBatchingExecutorService executorService, int remaining, int fallbackBatchSize)
+    {
+        try
+        {
+            if (this.completed.await(executorService.getSampleWaitNanos(), TimeUnit.NANOSECONDS) && this.evaluatedCount > 0)
+            {
+                return executorService.batchSize(this.elapsedNanos, this.evaluatedCount, remaining);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        return fallbackBatchSize;
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            super.forEach(each -> {
+                this.evaluatedCount++;
+                procedure.value(each);
+            });
+        }
+        finally
+        {
+            this.complete(start);
+        }
+    }
+
+    @Override
+    public int count(Predicate<? super T> predicate)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return super.count(this.counting(predicate));
+        }
+        finally
+        {
+            this.complete(start);
+        }
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return super.anySatisfy(this.counting(predicate));
+        }
+        finally
+        {
+            this.complete(start);
+        }
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return super.allSatisfy(this.counting(predicate));
+        }
+        finally
+        {
+            this.complete(start);
+        }
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            return super.detect(this.counting(predicate));
+        }
+        finally
+        {
+            this.complete(start);
+        }
+    }
+
+    private Predicate<T> counting(Predicate<? super T> predicate)
+    {
+        return each -> {
+            this.evaluatedCount++;
+            return predicate.accept(each);
+        };
+    }
+
+    private void complete(long start)
+    {
+        this.elapsedNanos = System.nanoTime() - start;
+        this.completed.countDown();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterableImpl;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+
+/**
+ * A parallel iterable over a hash table, split into batches of batchSize consecutive table slots. Subclasses supply
+ * the table length and create the batch for a range of slots, so no copy of the table is made.
+ *
+ * @since 11.0
+ */
+@Beta
+public abstract class AbstractParallelTableRangeIterable<T> extends AbstractParallelIterableImpl<T, RootUnsortedBagBatch<T>>
+{
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    protected AbstractParallelTableRangeIterable(ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    protected abstract int getTableLength();
+
+    protected abstract RootUnsortedBagBatch<T> newBatch(int chunkStartIndex, int chunkEndIndex);
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootUnsortedBagBatch<T>> split()
+    {
+        return new TableRangeSplitLazyIterable();
+    }
+
+    @Override
+    public void forEach(Procedure<? super T> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.toList().toArray();
+    }
+
+    @Override
+    public <E> E[] toArray(E[] array)
+    {
+        return this.toList().toArray(array);
+    }
+
+    private class TableRangeSplitIterator implements Iterator<RootUnsortedBagBatch<T>>
+    {
+        private final int tableLength = AbstractParallelTableRangeIterable.this.getTableLength();
+        private int chunkIndex;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.chunkIndex * AbstractParallelTableRangeIterable.this.batchSize < this.tableLength;
+        }
+
+        @Override
+        public RootUnsortedBagBatch<T> next()
+        {
+            int chunkStartIndex = this.chunkIndex * AbstractParallelTableRangeIterable.this.batchSize;
+            int chunkEndIndex = (this.chunkIndex + 1) * AbstractParallelTableRangeIterable.this.batchSize;
+            int truncatedChunkEndIndex = Math.min(chunkEndIndex, this.tableLength);
+            this.chunkIndex++;
+            return AbstractParallelTableRangeIterable.this.newBatch(chunkStartIndex, truncatedChunkEndIndex);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private class TableRangeSplitLazyIterable extends AbstractLazyIterable<RootUnsortedBagBatch<T>>
+    {
+        @Override
+        public void each(Procedure<? super RootUnsortedBagBatch<T>> procedure)
+        {
+            for (RootUnsortedBagBatch<T> chunk : this)
+            {
+                procedure.value(chunk);
+            }
+        }
+
+        @Override
+        public Iterator<RootUnsortedBagBatch<T>> iterator()
+        {
+            return new TableRangeSplitIterator();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.CollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.FlatCollectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.SelectUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.bag.UnsortedBagBatch;
+
+/**
+ * A batch covering the range of a hash table between a start and an end index. Subclasses implement forEach and
+ * anySatisfy as loops over the range; the remaining operations are derived from them.
+ *
+ * @since 11.0
+ */
+@Beta
+public abstract class AbstractTableRangeBatch<T> extends AbstractBatch<T> implements RootUnsortedBagBatch<T>
+{
+    protected final int chunkStartIndex;
+    protected final int chunkEndIndex;
+
+    protected AbstractTableRangeBatch(int chunkStartIndex, int chunkEndIndex)
+    {
+        this.chunkStartIndex = chunkStartIndex;
+        this.chunkEndIndex = chunkEndIndex;
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        this.forEach(each -> procedure.value(each, 1));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        Object[] result = new Object[1];
+        this.anySatisfy(each -> {
+            if (predicate.accept(each))
+            {
+                result[0] = each;
+                return true;
+            }
+            return false;
+        });
+        return (T) result[0];
+    }
+
+    @Override
+    public UnsortedBagBatch<T> select(Predicate<? super T> predicate)
+    {
+        return new SelectUnsortedBagBatch<>(this, predicate);
+    }
+
+    @Override
+    public <V> UnsortedBagBatch<V> collect(Function<? super T, ? extends V> function)
+    {
+        return new CollectUnsortedBagBatch<>(this, function);
+    }
+
+    @Override
+    public <V> UnsortedBagBatch<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return new FlatCollectUnsortedBagBatch<>(this, function);
+    }
+}
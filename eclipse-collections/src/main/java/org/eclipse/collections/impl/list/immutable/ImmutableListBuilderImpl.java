@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.collections.api.factory.list.ImmutableListBuilder;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * The builder returned by {@link ImmutableListFactoryImpl#builder(int)}. Lists of more than ten elements are built as
+ * an {@link ImmutableArrayList} wrapping the backing array, which is only trimmed if it is not full.
+ *
+ * @since 11.0
+ */
+final class ImmutableListBuilderImpl<T> implements ImmutableListBuilder<T>
+{
+    private static final int MAXIMUM_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private T[] items;
+    private int size;
+    private boolean shared;
+
+    ImmutableListBuilderImpl(int expectedSize)
+    {
+        if (expectedSize < 0)
+        {
+            throw new IllegalArgumentException("expectedSize may not be negative: " + expectedSize);
+        }
+        this.items = (T[]) new Object[expectedSize];
+    }
+
+    @Override
+    public ImmutableListBuilder<T> add(T element)
+    {
+        this.ensureCapacity(this.size + 1);
+        this.items[this.size++] = element;
+        return this;
+    }
+
+    @Override
+    public ImmutableListBuilder<T> addAll(Iterable<? extends T> elements)
+    {
+        if (elements instanceof Collection)
+        {
+            this.ensureCapacity(this.size + ((Collection<?>) elements).size());
+        }
+        for (T element : elements)
+        {
+            this.add(element);
+        }
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    private void ensureCapacity(int minCapacity)
+    {
+        int oldCapacity = this.items.length;
+        if (minCapacity > oldCapacity)
+        {
+            int newCapacity = Math.max(this.sizePlusFiftyPercent(oldCapacity), minCapacity);
+            this.items = Arrays.copyOf(this.items, newCapacity);
+            this.shared = false;
+        }
+        else if (this.shared)
+        {
+            this.items = this.items.clone();
+            this.shared = false;
+        }
+    }
+
+    private int sizePlusFiftyPercent(int oldSize)
+    {
+        int result = oldSize + (oldSize >> 1) + 1;
+        return result < oldSize ? MAXIMUM_ARRAY_SIZE : result;
+    }
+
+    @Override
+    public ImmutableList<T> build()
+    {
+        if (this.size <= 10)
+        {
+            return ImmutableListFactoryImpl.INSTANCE.with(Arrays.copyOf(this.items, this.size));
+        }
+        if (this.size < this.items.length)
+        {
+            return new ImmutableArrayList<>(Arrays.copyOf(this.items, this.size));
+        }
+        this.shared = true;
+        return new ImmutableArrayList<>(this.items);
+    }
+}
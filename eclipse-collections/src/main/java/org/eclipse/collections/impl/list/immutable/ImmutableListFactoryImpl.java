@@ -13,6 +13,7 @@ package org.eclipse.collections.impl.list.immutable;
 import java.util.List;
 import java.util.RandomAccess;
 
+import org.eclipse.collections.api.factory.list.ImmutableListBuilder;
 import org.eclipse.collections.api.factory.list.ImmutableListFactory;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -256,4 +257,32 @@ public class ImmutableListFactoryImpl implements ImmutableListFactory
         }
         return new ImmutableArrayList<T>((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableList<T> emptyPersistent()
+    {
+        return ImmutableVectorList.empty();
+    }
+
+    @Override
+    public <T> ImmutableList<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutableVectorList<?>)
+        {
+            return (ImmutableList<T>) items;
+        }
+        return ImmutableVectorList.newList(items);
+    }
+
+    @Override
+    public <T> ImmutableListBuilder<T> builder()
+    {
+        return this.builder(10);
+    }
+
+    @Override
+    public <T> ImmutableListBuilder<T> builder(int expectedSize)
+    {
+        return new ImmutableListBuilderImpl<>(expectedSize);
+    }
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * ImmutableVectorList is a persistent {@link org.eclipse.collections.api.list.ImmutableList} stored in a
+ * bit-partitioned vector trie. The elements live in leaf arrays of 32, which are the leaves of a tree whose branch
+ * nodes also have 32 children, and the last, partially filled leaf is kept outside the tree as the tail.
+ * <p>
+ * {@link #get(int)} walks at most log32(n) levels. {@link #newWith(Object)} copies only the tail, or once every 32
+ * elements the path from the root to the new leaf, and shares every other node with the original list. Removing the
+ * last element is the reverse. Removing any other element rebuilds the list.
+ *
+ * @since 11.0
+ */
+public final class ImmutableVectorList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int WIDTH = 1 << BITS_PER_LEVEL;
+    private static final int LEVEL_MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final ImmutableVectorList<?> EMPTY = new ImmutableVectorList<>(0, BITS_PER_LEVEL, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableVectorList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <T> ImmutableVectorList<T> empty()
+    {
+        return (ImmutableVectorList<T>) EMPTY;
+    }
+
+    public static <T> ImmutableVectorList<T> newList(Iterable<? extends T> iterable)
+    {
+        return ImmutableVectorList.<T>empty().newWithAll(iterable);
+    }
+
+    public static <T> ImmutableVectorList<T> newListWith(T... elements)
+    {
+        return ImmutableVectorList.newList(Arrays.asList(elements));
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = ImmutableVectorList.newPath(level - BITS_PER_LEVEL, node);
+        return path;
+    }
+
+    private int tailOffset()
+    {
+        return this.size < WIDTH ? 0 : ((this.size - 1) >>> BITS_PER_LEVEL) << BITS_PER_LEVEL;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= this.tailOffset())
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS_PER_LEVEL)
+        {
+            node = (Object[]) node[(index >>> level) & LEVEL_MASK];
+        }
+        return node;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+        return (T) this.leafFor(index)[index & LEVEL_MASK];
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWith(T element)
+    {
+        int tailLength = this.size - this.tailOffset();
+        if (tailLength < WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, tailLength + 1);
+            newTail[tailLength] = element;
+            return new ImmutableVectorList<>(this.size + 1, this.shift, this.root, newTail);
+        }
+        return new ImmutableVectorList<>(this.size + 1, this.shiftAfterPush(), this.rootAfterPush(), new Object[]{element});
+    }
+
+    private int shiftAfterPush()
+    {
+        return this.rootOverflows() ? this.shift + BITS_PER_LEVEL : this.shift;
+    }
+
+    private boolean rootOverflows()
+    {
+        return (this.size >>> BITS_PER_LEVEL) > (1 << this.shift);
+    }
+
+    /**
+     * Returns the root after the full tail has been pushed into the tree as its rightmost leaf.
+     */
+    private Object[] rootAfterPush()
+    {
+        if (this.rootOverflows())
+        {
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = ImmutableVectorList.newPath(this.shift, this.tail);
+            return newRoot;
+        }
+        return this.pushTail(this.shift, this.root);
+    }
+
+    private Object[] pushTail(int level, Object[] parent)
+    {
+        int subIndex = ((this.size - 1) >>> level) & LEVEL_MASK;
+        Object[] result = parent.clone();
+        if (level == BITS_PER_LEVEL)
+        {
+            result[subIndex] = this.tail;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[subIndex];
+            result[subIndex] = child == null
+                    ? ImmutableVectorList.newPath(level - BITS_PER_LEVEL, this.tail)
+                    : this.pushTail(level - BITS_PER_LEVEL, child);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableVectorList<T> result = this;
+        Iterator<? extends T> iterator = elements.iterator();
+        while (iterator.hasNext())
+        {
+            result = result.newWithTailFilledFrom(iterator);
+        }
+        return result;
+    }
+
+    /**
+     * Appends elements from the iterator until the tail is full, copying the tail once rather than once per element.
+     */
+    private ImmutableVectorList<T> newWithTailFilledFrom(Iterator<? extends T> iterator)
+    {
+        int tailLength = this.size - this.tailOffset();
+        if (tailLength == WIDTH)
+        {
+            return this.newWith(iterator.next());
+        }
+        Object[] newTail = Arrays.copyOf(this.tail, WIDTH);
+        int newTailLength = tailLength;
+        while (newTailLength < WIDTH && iterator.hasNext())
+        {
+            newTail[newTailLength++] = iterator.next();
+        }
+        if (newTailLength < WIDTH)
+        {
+            newTail = Arrays.copyOf(newTail, newTailLength);
+        }
+        return new ImmutableVectorList<>(this.size + newTailLength - tailLength, this.shift, this.root, newTail);
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWithout(T element)
+    {
+        int index = this.indexOf(element);
+        if (index < 0)
+        {
+            return this;
+        }
+        if (index == this.size - 1)
+        {
+            return this.withoutLast();
+        }
+        FastList<T> result = FastList.newList(this.size - 1);
+        this.forEachWithIndex((each, i) ->
+        {
+            if (i != index)
+            {
+                result.add(each);
+            }
+        });
+        return ImmutableVectorList.newList(result);
+    }
+
+    @Override
+    public ImmutableVectorList<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        FastList<T> result = FastList.newList(this);
+        this.removeAllFrom(elements, result);
+        return result.size() == this.size ? this : ImmutableVectorList.newList(result);
+    }
+
+    private ImmutableVectorList<T> withoutLast()
+    {
+        if (this.size == 1)
+        {
+            return ImmutableVectorList.empty();
+        }
+        int tailLength = this.size - this.tailOffset();
+        if (tailLength > 1)
+        {
+            return new ImmutableVectorList<>(this.size - 1, this.shift, this.root, Arrays.copyOf(this.tail, tailLength - 1));
+        }
+        Object[] newTail = this.leafFor(this.size - 2);
+        Object[] newRoot = this.popTail(this.shift, this.root);
+        int newShift = this.shift;
+        if (newRoot == null)
+        {
+            newRoot = EMPTY_NODE;
+        }
+        if (this.shift > BITS_PER_LEVEL && newRoot[1] == null)
+        {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS_PER_LEVEL;
+        }
+        return new ImmutableVectorList<>(this.size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns the node with its rightmost leaf removed, or null if that leaves the node empty.
+     */
+    private Object[] popTail(int level, Object[] node)
+    {
+        int subIndex = ((this.size - 2) >>> level) & LEVEL_MASK;
+        if (level > BITS_PER_LEVEL)
+        {
+            Object[] newChild = this.popTail(level - BITS_PER_LEVEL, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0)
+            {
+                return null;
+            }
+            Object[] result = node.clone();
+            result[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0)
+        {
+            return null;
+        }
+        Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        int tailOffset = this.tailOffset();
+        for (int leafStart = 0; leafStart < tailOffset; leafStart += WIDTH)
+        {
+            Object[] leaf = this.leafFor(leafStart);
+            for (Object each : leaf)
+            {
+                procedure.value((T) each);
+            }
+        }
+        for (int i = 0; i < this.size - tailOffset; i++)
+        {
+            procedure.value((T) this.tail[i]);
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        Iterator<T> iterator = this.iterator();
+        while (iterator.hasNext())
+        {
+            objectIntProcedure.value(iterator.next(), index++);
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new VectorIterator();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableVectorListSerializationProxy<>(this);
+    }
+
+    private final class VectorIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableVectorList.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            if ((this.index & LEVEL_MASK) == 0)
+            {
+                this.leaf = ImmutableVectorList.this.leafFor(this.index);
+            }
+            return (T) this.leaf[this.index++ & LEVEL_MASK];
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static class ImmutableVectorListSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableVectorList<T> list;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableVectorListSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableVectorListSerializationProxy(ImmutableVectorList<T> list)
+        {
+            this.list = list;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.list.size());
+            for (T element : this.list)
+            {
+                out.writeObject(element);
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            Object[] elements = new Object[size];
+            for (int i = 0; i < size; i++)
+            {
+                elements[i] = in.readObject();
+            }
+            this.list = ImmutableVectorList.newListWith((T[]) elements);
+        }
+
+        protected Object readResolve()
+        {
+            return this.list;
+        }
+    }
+}
@@ -295,6 +295,27 @@ public class FastList<T>
         return (FastList<T>) super.sortThis();
     }
 
+    /**
+     * Sorts the backing array in parallel with {@link Arrays#parallelSort(Object[], int, int, Comparator)}.
+     *
+     * @since 11.0
+     */
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        Arrays.parallelSort(this.items, 0, this.size, comparator);
+        return this;
+    }
+
+    /**
+     * @since 11.0
+     */
+    @Override
+    public FastList<T> sortThisParallel()
+    {
+        return this.sortThisParallel(null);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -125,9 +125,14 @@ public final class MultiReaderFastList<T>
     }
 
     private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, new ReadWriteLockWrapper(newLock));
+    }
+
+    private MultiReaderFastList(MutableList<T> newDelegate, ReadWriteLock newLock, ReadWriteLockWrapper newLockWrapper)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = newLockWrapper;
         this.delegate = newDelegate;
     }
 
@@ -151,6 +156,34 @@ public final class MultiReaderFastList<T>
         return new MultiReaderFastList<>(FastList.newListWith(elements));
     }
 
+    /**
+     * Creates an empty MultiReaderFastList whose {@link #size()}, {@link #isEmpty()}, {@link #notEmpty()} and
+     * {@link #get(int)} read the delegate without taking the read lock unless a writer interferes. See {@link AbstractMultiReaderMutableCollection.OptimisticReadWriteLockWrapper}. Copies made by
+     * {@code clone()}, {@code newEmpty()} and serialization always take the read lock.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList()
+    {
+        return MultiReaderFastList.optimistic(FastList.newList());
+    }
+
+    /**
+     * Creates a MultiReaderFastList like {@link #newOptimisticList()} containing the elements of {@code iterable}.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderFastList<T> newOptimisticList(Iterable<? extends T> iterable)
+    {
+        return MultiReaderFastList.optimistic(FastList.newList(iterable));
+    }
+
+    private static <T> MultiReaderFastList<T> optimistic(MutableList<T> newDelegate)
+    {
+        ReadWriteLock newLock = new ReentrantReadWriteLock();
+        return new MultiReaderFastList<>(newDelegate, newLock, new OptimisticReadWriteLockWrapper(newLock));
+    }
+
     @Override
     protected MutableList<T> getDelegate()
     {
@@ -471,6 +504,26 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    @Override
+    public MultiReaderList<T> sortThisParallel()
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisParallel();
+            return this;
+        }
+    }
+
+    @Override
+    public MultiReaderList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        try (LockWrapper wrapper = this.lockWrapper.acquireWriteLock())
+        {
+            this.delegate.sortThisParallel(comparator);
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MultiReaderList<T> sortThisBy(
             Function<? super T, ? extends V> function)
@@ -567,7 +620,7 @@ public final class MultiReaderFastList<T>
     {
         try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
         {
-            return new MultiReaderFastList<>(this.delegate.subList(fromIndex, toIndex), this.lock);
+            return new MultiReaderFastList<>(this.delegate.subList(fromIndex, toIndex), this.lock, this.lockWrapper);
         }
     }
 
@@ -592,10 +645,7 @@ public final class MultiReaderFastList<T>
     @Override
     public T get(int index)
     {
-        try (LockWrapper wrapper = this.lockWrapper.acquireReadLock())
-        {
-            return this.delegate.get(index);
-        }
+        return this.lockWrapper.optimisticRead(() -> this.delegate.get(index));
     }
 
     @Override
@@ -1242,6 +1292,20 @@ public final class MultiReaderFastList<T>
             return this;
         }
 
+        @Override
+        public MutableList<T> sortThisParallel()
+        {
+            this.getDelegate().sortThisParallel();
+            return this;
+        }
+
+        @Override
+        public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+        {
+            this.getDelegate().sortThisParallel(comparator);
+            return this;
+        }
+
         @Override
         public MutableList<T> toReversed()
         {
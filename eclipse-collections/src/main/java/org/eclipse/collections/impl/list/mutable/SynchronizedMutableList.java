@@ -455,6 +455,26 @@ public class SynchronizedMutableList<T>
         }
     }
 
+    @Override
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(comparator);
+            return this;
+        }
+    }
+
+    @Override
+    public MutableList<T> sortThisParallel()
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel();
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
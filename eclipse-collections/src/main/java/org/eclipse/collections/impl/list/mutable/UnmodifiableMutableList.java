@@ -183,6 +183,18 @@ public class UnmodifiableMutableList<T>
         throw new UnsupportedOperationException("Cannot call sortThis() on " + this.getClass().getSimpleName());
     }
 
+    @Override
+    public UnmodifiableMutableList<T> sortThisParallel(Comparator<? super T> comparator)
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisParallel() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public UnmodifiableMutableList<T> sortThisParallel()
+    {
+        throw new UnsupportedOperationException("Cannot call sortThisParallel() on " + this.getClass().getSimpleName());
+    }
+
     @Override
     public MutableList<T> toReversed()
     {
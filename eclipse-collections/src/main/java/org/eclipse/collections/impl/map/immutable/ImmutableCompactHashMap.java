@@ -0,0 +1,745 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * ImmutableCompactHashMap is an {@link org.eclipse.collections.api.map.ImmutableMap} stored in a single open addressed
+ * table whose capacity is computed exactly from the number of entries at construction, rather than rounded up to a
+ * power of two with room to grow like {@link org.eclipse.collections.impl.map.mutable.UnifiedMap}. The keys and values
+ * are stored inline in one array at a load factor of 7/8, with no chained buckets, plus one byte per slot recording how
+ * far the entry in that slot is from its home slot.
+ * <p>
+ * Entries are placed with Robin Hood linear probing, so a lookup only calls equals on keys that share its home slot,
+ * and stops at the first slot whose entry is closer to home than the key being looked up would be.
+ *
+ * @since 11.0
+ */
+public final class ImmutableCompactHashMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final double LOAD_FACTOR = 0.875;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * The probe byte of a slot is zero if the slot is empty, and otherwise one more than the distance of its entry from
+     * its home slot. Distances that do not fit in a byte are recorded as SATURATED, which never ends a lookup early.
+     */
+    private static final int SATURATED = 0xFF;
+
+    private static final ImmutableCompactHashMap<?, ?> EMPTY = new TableBuilder<>(0).build();
+
+    private final Object[] table;
+    private final byte[] probes;
+    private final int size;
+
+    private ImmutableCompactHashMap(Object[] table, byte[] probes, int size)
+    {
+        this.table = table;
+        this.probes = probes;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableCompactHashMap<K, V> empty()
+    {
+        return (ImmutableCompactHashMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableCompactHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableCompactHashMap<?, ?>)
+        {
+            return (ImmutableCompactHashMap<K, V>) map;
+        }
+        TableBuilder<K, V> builder = new TableBuilder<>(map.size());
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            builder.put(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    public static <K, V> ImmutableCompactHashMap<K, V> newMapWith(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        return ImmutableCompactHashMap.<K, V>empty().newWithAllKeyValueArguments(keyValuePairs);
+    }
+
+    private static int capacityFor(int size)
+    {
+        return Math.max(size + 1, (int) Math.ceil(size / LOAD_FACTOR));
+    }
+
+    /**
+     * Maps the spread hash code onto [0, capacity) with a multiply and shift, so the capacity need not be a power of two.
+     */
+    private static int home(Object key, int capacity)
+    {
+        int hash = key == null ? 0 : key.hashCode();
+        return (int) (((hash * GOLDEN_RATIO) & 0xFFFFFFFFL) * capacity >>> 32);
+    }
+
+    private static boolean nullSafeEquals(Object key, Object other)
+    {
+        return key == other || key != null && key.equals(other);
+    }
+
+    /**
+     * Returns the slot holding the key, or -1 if the key is absent.
+     */
+    private int slotOf(Object key)
+    {
+        byte[] probes = this.probes;
+        int capacity = probes.length;
+        int index = ImmutableCompactHashMap.home(key, capacity);
+        for (int distance = 1; ; distance++)
+        {
+            int probe = probes[index] & SATURATED;
+            if (probe == distance || probe == SATURATED)
+            {
+                if (ImmutableCompactHashMap.nullSafeEquals(key, this.table[index << 1]))
+                {
+                    return index;
+                }
+            }
+            else if (probe < distance)
+            {
+                return -1;
+            }
+            if (++index == capacity)
+            {
+                index = 0;
+            }
+        }
+    }
+
+    private int nextSlot(int index)
+    {
+        int next = index;
+        while (next < this.probes.length && this.probes[next] == 0)
+        {
+            next++;
+        }
+        return next;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && Objects.equals(this.table[(i << 1) + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                procedure.value((K) this.table[i << 1], (V) this.table[(i << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.collect(this.entrySet(), AbstractImmutableEntry.getPairFunction());
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithKeyValue(K key, V value)
+    {
+        int slot = this.slotOf(key);
+        if (slot >= 0 && this.table[(slot << 1) + 1] == value)
+        {
+            return this;
+        }
+        TableBuilder<K, V> builder = new TableBuilder<>(slot < 0 ? this.size + 1 : this.size);
+        builder.putAll(this, null);
+        builder.put(key, value);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        TableBuilder<K, V> builder = new TableBuilder<>(this.size + Iterate.sizeOf(keyValues));
+        builder.putAll(this, null);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        TableBuilder<K, V> builder = new TableBuilder<>(this.size + map.size());
+        builder.putAll(this, null);
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            builder.put(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        TableBuilder<K, V> builder = new TableBuilder<>(this.size + mapIterable.size());
+        builder.putAll(this, null);
+        mapIterable.forEachKeyValue(builder::put);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        TableBuilder<K, V> builder = new TableBuilder<>(this.size + keyValuePairs.length);
+        builder.putAll(this, null);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            builder.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithoutKey(K key)
+    {
+        int slot = this.slotOf(key);
+        if (slot < 0)
+        {
+            return this;
+        }
+        boolean[] removed = new boolean[this.probes.length];
+        removed[slot] = true;
+        return this.without(removed, 1);
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        boolean[] removed = new boolean[this.probes.length];
+        int removedCount = 0;
+        for (K key : keys)
+        {
+            int slot = this.slotOf(key);
+            if (slot >= 0 && !removed[slot])
+            {
+                removed[slot] = true;
+                removedCount++;
+            }
+        }
+        return this.without(removed, removedCount);
+    }
+
+    @Override
+    public <R> ImmutableCompactHashMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        Object[] newTable = new Object[this.table.length];
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                Object key = this.table[i << 1];
+                newTable[i << 1] = key;
+                newTable[(i << 1) + 1] = function.value((K) key, (V) this.table[(i << 1) + 1]);
+            }
+        }
+        return new ImmutableCompactHashMap<>(newTable, this.probes, this.size);
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.filter(predicate, true);
+    }
+
+    @Override
+    public ImmutableCompactHashMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.filter(predicate, false);
+    }
+
+    private ImmutableCompactHashMap<K, V> filter(Predicate2<? super K, ? super V> predicate, boolean expected)
+    {
+        boolean[] removed = new boolean[this.probes.length];
+        int removedCount = 0;
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && predicate.accept((K) this.table[i << 1], (V) this.table[(i << 1) + 1]) != expected)
+            {
+                removed[i] = true;
+                removedCount++;
+            }
+        }
+        return this.without(removed, removedCount);
+    }
+
+    private ImmutableCompactHashMap<K, V> without(boolean[] removed, int removedCount)
+    {
+        if (removedCount == 0)
+        {
+            return this;
+        }
+        if (removedCount == this.size)
+        {
+            return ImmutableCompactHashMap.empty();
+        }
+        TableBuilder<K, V> builder = new TableBuilder<>(this.size - removedCount);
+        builder.putAll(this, removed);
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && !this.keyAndValueEquals((K) this.table[i << 1], (V) this.table[(i << 1) + 1], other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                hashCode += this.keyAndValueHashCode((K) this.table[i << 1], (V) this.table[(i << 1) + 1]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                if (builder.length() > 1)
+                {
+                    builder.append(", ");
+                }
+                Object key = this.table[i << 1];
+                Object value = this.table[(i << 1) + 1];
+                builder.append(key == this ? "(this Map)" : String.valueOf(key));
+                builder.append('=');
+                builder.append(value == this ? "(this Map)" : String.valueOf(value));
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableCompactHashMapSerializationProxy<>(this);
+    }
+
+    /**
+     * Fills a table sized for an expected number of entries. Distances are tracked exactly in an int array while
+     * entries are placed, and only saturated into bytes when the map is built.
+     */
+    private static final class TableBuilder<K, V>
+    {
+        private final Object[] table;
+        private final int[] distances;
+        private int size;
+
+        private TableBuilder(int expectedSize)
+        {
+            int capacity = ImmutableCompactHashMap.capacityFor(expectedSize);
+            this.table = new Object[capacity << 1];
+            this.distances = new int[capacity];
+        }
+
+        private void putAll(ImmutableCompactHashMap<?, ?> map, boolean[] skip)
+        {
+            for (int i = 0; i < map.probes.length; i++)
+            {
+                if (map.probes[i] != 0 && (skip == null || !skip[i]))
+                {
+                    this.put(map.table[i << 1], map.table[(i << 1) + 1]);
+                }
+            }
+        }
+
+        private void put(Object key, Object value)
+        {
+            int capacity = this.distances.length;
+            int index = ImmutableCompactHashMap.home(key, capacity);
+            Object currentKey = key;
+            Object currentValue = value;
+            int currentDistance = 1;
+            boolean searching = true;
+            while (true)
+            {
+                int distance = this.distances[index];
+                if (distance == 0)
+                {
+                    this.table[index << 1] = currentKey;
+                    this.table[(index << 1) + 1] = currentValue;
+                    this.distances[index] = currentDistance;
+                    this.size++;
+                    return;
+                }
+                if (searching && distance == currentDistance && ImmutableCompactHashMap.nullSafeEquals(currentKey, this.table[index << 1]))
+                {
+                    this.table[(index << 1) + 1] = currentValue;
+                    return;
+                }
+                if (distance < currentDistance)
+                {
+                    Object displacedKey = this.table[index << 1];
+                    Object displacedValue = this.table[(index << 1) + 1];
+                    this.table[index << 1] = currentKey;
+                    this.table[(index << 1) + 1] = currentValue;
+                    this.distances[index] = currentDistance;
+                    currentKey = displacedKey;
+                    currentValue = displacedValue;
+                    currentDistance = distance;
+                    searching = false;
+                }
+                currentDistance++;
+                if (++index == capacity)
+                {
+                    index = 0;
+                }
+            }
+        }
+
+        private ImmutableCompactHashMap<K, V> build()
+        {
+            int capacity = this.distances.length;
+            if (capacity - ImmutableCompactHashMap.capacityFor(this.size) > capacity >>> 3)
+            {
+                // Duplicate keys left the table too sparse, so rebuild it at the exact size
+                TableBuilder<K, V> exact = new TableBuilder<>(this.size);
+                for (int i = 0; i < capacity; i++)
+                {
+                    if (this.distances[i] != 0)
+                    {
+                        exact.put(this.table[i << 1], this.table[(i << 1) + 1]);
+                    }
+                }
+                return exact.build();
+            }
+            byte[] probes = new byte[this.distances.length];
+            for (int i = 0; i < probes.length; i++)
+            {
+                probes[i] = (byte) Math.min(this.distances[i], SATURATED);
+            }
+            return new ImmutableCompactHashMap<>(this.table, probes, this.size);
+        }
+    }
+
+    private abstract class SlotIterator<E> implements Iterator<E>
+    {
+        private int index = ImmutableCompactHashMap.this.nextSlot(0);
+
+        protected abstract E element(int slot);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableCompactHashMap.this.probes.length;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int slot = this.index;
+            this.index = ImmutableCompactHashMap.this.nextSlot(slot + 1);
+            return this.element(slot);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator<K>
+    {
+        @Override
+        protected K element(int slot)
+        {
+            return (K) ImmutableCompactHashMap.this.table[slot << 1];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator<V>
+    {
+        @Override
+        protected V element(int slot)
+        {
+            return (V) ImmutableCompactHashMap.this.table[(slot << 1) + 1];
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> element(int slot)
+        {
+            Object[] table = ImmutableCompactHashMap.this.table;
+            return ImmutableEntry.of((K) table[slot << 1], (V) table[(slot << 1) + 1]);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableCompactHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableCompactHashMap.this.containsKey(key);
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableCompactHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return ImmutableCompactHashMap.this.containsValue(value);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableCompactHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            int slot = ImmutableCompactHashMap.this.slotOf(entry.getKey());
+            return slot >= 0 && Objects.equals(ImmutableCompactHashMap.this.table[(slot << 1) + 1], entry.getValue());
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+    }
+
+    private static class ImmutableCompactHashMapSerializationProxy<K, V> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableCompactHashMap<K, V> map;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableCompactHashMapSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableCompactHashMapSerializationProxy(ImmutableCompactHashMap<K, V> map)
+        {
+            this.map = map;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.map.size());
+            for (int i = 0; i < this.map.probes.length; i++)
+            {
+                if (this.map.probes[i] != 0)
+                {
+                    out.writeObject(this.map.table[i << 1]);
+                    out.writeObject(this.map.table[(i << 1) + 1]);
+                }
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            TableBuilder<K, V> builder = new TableBuilder<>(size);
+            for (int i = 0; i < size; i++)
+            {
+                builder.put(in.readObject(), in.readObject());
+            }
+            this.map = builder.build();
+        }
+
+        protected Object readResolve()
+        {
+            return this.map;
+        }
+    }
+}
@@ -0,0 +1,1047 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
+import org.eclipse.collections.impl.tuple.ImmutableEntry;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * ImmutableHashTrieMap is a persistent {@link org.eclipse.collections.api.map.ImmutableMap} stored in a compressed
+ * hash array mapped prefix tree (CHAMP). Each level of the trie consumes five bits of a key's hash code, and every
+ * node keeps one bitmap for the entries it stores inline and one for its child nodes, so a node only allocates slots
+ * for the children that exist.
+ * <p>
+ * {@link #newWithKeyValue(Object, Object)} and {@link #newWithoutKey(Object)} copy only the nodes on the path to the
+ * changed key, which is at most seven nodes deep, and share every other node with the original map. Removing keys
+ * compacts the trie back into its canonical shape, so maps with the same entries have the same structure regardless
+ * of the order of the updates that built them.
+ *
+ * @since 11.0
+ */
+public final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = 8;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ImmutableHashTrieMap<?, ?> EMPTY = new ImmutableHashTrieMap<>(BitmapNode.EMPTY_NODE, 0);
+
+    private final Node root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> empty()
+    {
+        return (ImmutableHashTrieMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return ImmutableHashTrieMap.<K, V>empty().newWithMap(map);
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMapWith(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        return ImmutableHashTrieMap.<K, V>empty().newWithAllKeyValueArguments(keyValuePairs);
+    }
+
+    private static int hash(Object key)
+    {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        TrieCursor cursor = new TrieCursor(this.root);
+        while (cursor.hasNext())
+        {
+            if (Objects.equals(cursor.nextValue(), value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue((Procedure2<Object, Object>) procedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator<>(this.root);
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.collect(this.entrySet(), AbstractImmutableEntry.getPairFunction());
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithKeyValue(K key, V value)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        update.put(key, value);
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            update.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            update.put(entry.getKey(), entry.getValue());
+        }
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        mapIterable.forEachKeyValue(update::put);
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            update.put(keyValuePair.getOne(), keyValuePair.getTwo());
+        }
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutKey(K key)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        update.remove(key);
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        for (K key : keys)
+        {
+            update.remove(key);
+        }
+        return update.toMap();
+    }
+
+    @Override
+    public <R> ImmutableHashTrieMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        TrieUpdate<K, R> update = new TrieUpdate<>(ImmutableHashTrieMap.empty());
+        this.forEachKeyValue((key, value) -> update.put(key, function.value(key, value)));
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        this.forEachKeyValue((key, value) ->
+        {
+            if (!predicate.accept(key, value))
+            {
+                update.remove(key);
+            }
+        });
+        return update.toMap();
+    }
+
+    @Override
+    public ImmutableHashTrieMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        TrieUpdate<K, V> update = new TrieUpdate<>(this);
+        this.forEachKeyValue((key, value) ->
+        {
+            if (predicate.accept(key, value))
+            {
+                update.remove(key);
+            }
+        });
+        return update.toMap();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        TrieCursor cursor = new TrieCursor(this.root);
+        while (cursor.hasNext())
+        {
+            int index = cursor.nextIndex();
+            if (!this.keyAndValueEquals((K) cursor.key(index), (V) cursor.value(index), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        TrieCursor cursor = new TrieCursor(this.root);
+        while (cursor.hasNext())
+        {
+            int index = cursor.nextIndex();
+            hashCode += this.keyAndValueHashCode((K) cursor.key(index), (V) cursor.value(index));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        TrieCursor cursor = new TrieCursor(this.root);
+        while (cursor.hasNext())
+        {
+            int index = cursor.nextIndex();
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            Object key = cursor.key(index);
+            Object value = cursor.value(index);
+            builder.append(key == this ? "(this Map)" : String.valueOf(key));
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : String.valueOf(value));
+        }
+        return builder.append('}').toString();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableHashTrieMapSerializationProxy<>(this);
+    }
+
+    /**
+     * Accumulates a sequence of puts and removes against a root, so bulk updates allocate only the final map.
+     */
+    private static final class TrieUpdate<K, V>
+    {
+        private final ImmutableHashTrieMap<K, V> original;
+        private Node root;
+        private int size;
+
+        private TrieUpdate(ImmutableHashTrieMap<K, V> original)
+        {
+            this.original = original;
+            this.root = original.root;
+            this.size = original.size;
+        }
+
+        private void put(Object key, Object value)
+        {
+            this.root = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, this);
+        }
+
+        private void remove(Object key)
+        {
+            this.root = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, this);
+        }
+
+        private void added()
+        {
+            this.size++;
+        }
+
+        private void removed()
+        {
+            this.size--;
+        }
+
+        private ImmutableHashTrieMap<K, V> toMap()
+        {
+            if (this.root == this.original.root)
+            {
+                return this.original;
+            }
+            if (this.size == 0)
+            {
+                return ImmutableHashTrieMap.empty();
+            }
+            return new ImmutableHashTrieMap<>(this.root, this.size);
+        }
+    }
+
+    private abstract static class Node
+    {
+        /**
+         * Returns the value mapped to the key, or {@link #NOT_FOUND} if the key is absent.
+         */
+        abstract Object get(Object key, int hash, int shift);
+
+        abstract Node put(Object key, Object value, int hash, int shift, TrieUpdate<?, ?> update);
+
+        abstract Node remove(Object key, int hash, int shift, TrieUpdate<?, ?> update);
+
+        abstract int payloadArity();
+
+        abstract Object getKey(int index);
+
+        abstract Object getValue(int index);
+
+        abstract int nodeArity();
+
+        abstract Node getNode(int index);
+
+        abstract void forEachKeyValue(Procedure2<Object, Object> procedure);
+
+        boolean hasSinglePayload()
+        {
+            return this.nodeArity() == 0 && this.payloadArity() == 1;
+        }
+    }
+
+    /**
+     * Inline entries are stored as key, value pairs from the front of the content array in bit order, and child nodes
+     * from the back of the array in reverse bit order.
+     */
+    private static final class BitmapNode extends Node
+    {
+        private static final BitmapNode EMPTY_NODE = new BitmapNode(0, 0, new Object[0]);
+
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static Node mergeTwo(Object key0, Object value0, int hash0, Object key1, Object value1, int hash1, int shift)
+        {
+            if (shift >= HASH_CODE_LENGTH)
+            {
+                return new CollisionNode(hash0, new Object[]{key0, key1}, new Object[]{value0, value1});
+            }
+            int mask0 = (hash0 >>> shift) & LEVEL_MASK;
+            int mask1 = (hash1 >>> shift) & LEVEL_MASK;
+            if (mask0 != mask1)
+            {
+                int dataMap = (1 << mask0) | (1 << mask1);
+                if (mask0 < mask1)
+                {
+                    return new BitmapNode(dataMap, 0, new Object[]{key0, value0, key1, value1});
+                }
+                return new BitmapNode(dataMap, 0, new Object[]{key1, value1, key0, value0});
+            }
+            Node node = BitmapNode.mergeTwo(key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+            return new BitmapNode(0, 1 << mask0, new Object[]{node});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeContentIndex(int bit)
+        {
+            return this.content.length - 1 - Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                return Objects.equals(this.content[index], key) ? this.content[index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return ((Node) this.content[this.nodeContentIndex(bit)]).get(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, TrieUpdate<?, ?> update)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                Object currentKey = this.content[index];
+                Object currentValue = this.content[index + 1];
+                if (Objects.equals(currentKey, key))
+                {
+                    if (currentValue == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[index + 1] = value;
+                    return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+                }
+                Node subNode = BitmapNode.mergeTwo(
+                        currentKey,
+                        currentValue,
+                        ImmutableHashTrieMap.hash(currentKey),
+                        key,
+                        value,
+                        hash,
+                        shift + BITS_PER_LEVEL);
+                update.added();
+                return this.copyAndMigrateFromInlineToNode(bit, index, subNode);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeContentIndex(bit);
+                Node subNode = (Node) this.content[index];
+                Node newSubNode = subNode.put(key, value, hash, shift + BITS_PER_LEVEL, update);
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index] = newSubNode;
+                return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+            }
+            update.added();
+            return this.copyAndInsertValue(bit, key, value);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, TrieUpdate<?, ?> update)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = 2 * this.dataIndex(bit);
+                if (!Objects.equals(this.content[index], key))
+                {
+                    return this;
+                }
+                update.removed();
+                return this.copyAndRemoveValue(bit, index);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int index = this.nodeContentIndex(bit);
+                Node subNode = (Node) this.content[index];
+                Node newSubNode = subNode.remove(key, hash, shift + BITS_PER_LEVEL, update);
+                if (newSubNode == subNode)
+                {
+                    return this;
+                }
+                if (newSubNode.hasSinglePayload())
+                {
+                    // A single remaining entry moves up into this node, and keeps moving up while its parents hold nothing else
+                    return this.copyAndMigrateFromNodeToInline(bit, index, newSubNode.getKey(0), newSubNode.getValue(0));
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index] = newSubNode;
+                return new BitmapNode(this.dataMap, this.nodeMap, newContent);
+            }
+            return this;
+        }
+
+        private BitmapNode copyAndInsertValue(int bit, Object key, Object value)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode copyAndRemoveValue(int bit, int index)
+        {
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new BitmapNode(this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private BitmapNode copyAndMigrateFromInlineToNode(int bit, int dataIndex, Node node)
+        {
+            Object[] newContent = new Object[this.content.length - 1];
+            int nodeIndex = newContent.length - 1 - Integer.bitCount(this.nodeMap & (bit - 1));
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            System.arraycopy(this.content, dataIndex + 2, newContent, dataIndex, nodeIndex - dataIndex);
+            newContent[nodeIndex] = node;
+            System.arraycopy(this.content, nodeIndex + 2, newContent, nodeIndex + 1, this.content.length - nodeIndex - 2);
+            return new BitmapNode(this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private BitmapNode copyAndMigrateFromNodeToInline(int bit, int nodeIndex, Object key, Object value)
+        {
+            Object[] newContent = new Object[this.content.length + 1];
+            int dataIndex = 2 * this.dataIndex(bit);
+            System.arraycopy(this.content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = key;
+            newContent[dataIndex + 1] = value;
+            System.arraycopy(this.content, dataIndex, newContent, dataIndex + 2, nodeIndex - dataIndex);
+            System.arraycopy(this.content, nodeIndex + 1, newContent, nodeIndex + 2, this.content.length - nodeIndex - 1);
+            return new BitmapNode(this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        Object getKey(int index)
+        {
+            return this.content[2 * index];
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.content[2 * index + 1];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            return (Node) this.content[this.content.length - 1 - index];
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            int dataEnd = 2 * Integer.bitCount(this.dataMap);
+            for (int i = 0; i < dataEnd; i += 2)
+            {
+                procedure.value(this.content[i], this.content[i + 1]);
+            }
+            for (int i = this.content.length - 1; i >= dataEnd; i--)
+            {
+                ((Node) this.content[i]).forEachKeyValue(procedure);
+            }
+        }
+    }
+
+    /**
+     * Holds the entries whose keys have equal 32-bit hash codes, once the trie has run out of hash bits.
+     */
+    private static final class CollisionNode extends Node
+    {
+        private final int hash;
+        private final Object[] keys;
+        private final Object[] values;
+
+        private CollisionNode(int hash, Object[] keys, Object[] values)
+        {
+            this.hash = hash;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                if (Objects.equals(this.keys[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.values[index];
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, TrieUpdate<?, ?> update)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.values[index] == value)
+                {
+                    return this;
+                }
+                Object[] newValues = this.values.clone();
+                newValues[index] = value;
+                return new CollisionNode(this.hash, this.keys, newValues);
+            }
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length + 1];
+            Object[] newValues = new Object[length + 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, length);
+            System.arraycopy(this.values, 0, newValues, 0, length);
+            newKeys[length] = key;
+            newValues[length] = value;
+            update.added();
+            return new CollisionNode(this.hash, newKeys, newValues);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift, TrieUpdate<?, ?> update)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            int length = this.keys.length;
+            Object[] newKeys = new Object[length - 1];
+            Object[] newValues = new Object[length - 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, index);
+            System.arraycopy(this.keys, index + 1, newKeys, index, length - index - 1);
+            System.arraycopy(this.values, 0, newValues, 0, index);
+            System.arraycopy(this.values, index + 1, newValues, index, length - index - 1);
+            update.removed();
+            return new CollisionNode(this.hash, newKeys, newValues);
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.keys.length;
+        }
+
+        @Override
+        Object getKey(int index)
+        {
+            return this.keys[index];
+        }
+
+        @Override
+        Object getValue(int index)
+        {
+            return this.values[index];
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        Node getNode(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        void forEachKeyValue(Procedure2<Object, Object> procedure)
+        {
+            for (int i = 0; i < this.keys.length; i++)
+            {
+                procedure.value(this.keys[i], this.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Walks the trie in the same pre-order as {@link Node#forEachKeyValue(Procedure2)}, keeping an explicit stack of
+     * the nodes whose children have not all been visited.
+     */
+    private static class TrieCursor
+    {
+        private final Node[] nodes = new Node[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth = -1;
+
+        private Node payloadNode;
+        private int payloadCursor;
+        private int payloadLength;
+
+        TrieCursor(Node root)
+        {
+            if (root.nodeArity() > 0)
+            {
+                this.depth = 0;
+                this.nodes[0] = root;
+            }
+            this.payloadNode = root;
+            this.payloadLength = root.payloadArity();
+        }
+
+        public boolean hasNext()
+        {
+            return this.payloadCursor < this.payloadLength || this.findNextPayloadNode();
+        }
+
+        private boolean findNextPayloadNode()
+        {
+            while (this.depth >= 0)
+            {
+                Node node = this.nodes[this.depth];
+                int cursor = this.nodeCursors[this.depth];
+                if (cursor < node.nodeArity())
+                {
+                    this.nodeCursors[this.depth] = cursor + 1;
+                    Node child = node.getNode(cursor);
+                    if (child.nodeArity() > 0)
+                    {
+                        this.depth++;
+                        this.nodes[this.depth] = child;
+                        this.nodeCursors[this.depth] = 0;
+                    }
+                    if (child.payloadArity() > 0)
+                    {
+                        this.payloadNode = child;
+                        this.payloadCursor = 0;
+                        this.payloadLength = child.payloadArity();
+                        return true;
+                    }
+                }
+                else
+                {
+                    this.depth--;
+                }
+            }
+            return false;
+        }
+
+        int nextIndex()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.payloadCursor++;
+        }
+
+        Object key(int index)
+        {
+            return this.payloadNode.getKey(index);
+        }
+
+        Object value(int index)
+        {
+            return this.payloadNode.getValue(index);
+        }
+
+        Object nextValue()
+        {
+            return this.value(this.nextIndex());
+        }
+
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static final class KeyIterator<K> extends TrieCursor implements Iterator<K>
+    {
+        private KeyIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        public K next()
+        {
+            return (K) this.key(this.nextIndex());
+        }
+    }
+
+    private static final class ValueIterator<V> extends TrieCursor implements Iterator<V>
+    {
+        private ValueIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        public V next()
+        {
+            return (V) this.nextValue();
+        }
+    }
+
+    private static final class EntryIterator<K, V> extends TrieCursor implements Iterator<Entry<K, V>>
+    {
+        private EntryIterator(Node root)
+        {
+            super(root);
+        }
+
+        @Override
+        public Entry<K, V> next()
+        {
+            int index = this.nextIndex();
+            return ImmutableEntry.of((K) this.key(index), (V) this.value(index));
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object key)
+        {
+            return ImmutableHashTrieMap.this.containsKey(key);
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator<>(ImmutableHashTrieMap.this.root);
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object value)
+        {
+            return ImmutableHashTrieMap.this.containsValue(value);
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator<>(ImmutableHashTrieMap.this.root);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            if (!(object instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object value = ImmutableHashTrieMap.this.root.get(entry.getKey(), ImmutableHashTrieMap.hash(entry.getKey()), 0);
+            return value != NOT_FOUND && Objects.equals(value, entry.getValue());
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator<>(ImmutableHashTrieMap.this.root);
+        }
+    }
+
+    private static class ImmutableHashTrieMapSerializationProxy<K, V> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableHashTrieMap<K, V> map;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableHashTrieMapSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableHashTrieMapSerializationProxy(ImmutableHashTrieMap<K, V> map)
+        {
+            this.map = map;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.map.size());
+            TrieCursor cursor = new TrieCursor(this.map.root);
+            while (cursor.hasNext())
+            {
+                int index = cursor.nextIndex();
+                out.writeObject(cursor.key(index));
+                out.writeObject(cursor.value(index));
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            TrieUpdate<K, V> update = new TrieUpdate<>(ImmutableHashTrieMap.empty());
+            for (int i = 0; i < size; i++)
+            {
+                update.put(in.readObject(), in.readObject());
+            }
+            this.map = update.toMap();
+        }
+
+        protected Object readResolve()
+        {
+            return this.map;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Map;
+
+import org.eclipse.collections.api.factory.map.ImmutableMapBuilder;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+/**
+ * The builder returned by {@link ImmutableMapFactoryImpl#builder(int)}. Maps of more than four entries are built as an
+ * {@link ImmutableUnifiedMap} wrapping the backing {@link UnifiedMap}.
+ *
+ * @since 11.0
+ */
+final class ImmutableMapBuilderImpl<K, V> implements ImmutableMapBuilder<K, V>
+{
+    private UnifiedMap<K, V> delegate;
+    private boolean shared;
+
+    ImmutableMapBuilderImpl(UnifiedMap<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ImmutableMapBuilder<K, V> put(K key, V value)
+    {
+        this.unshare();
+        this.delegate.put(key, value);
+        return this;
+    }
+
+    @Override
+    public ImmutableMapBuilder<K, V> putAll(Map<? extends K, ? extends V> map)
+    {
+        this.unshare();
+        this.delegate.putAll(map);
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    private void unshare()
+    {
+        if (this.shared)
+        {
+            this.delegate = this.delegate.clone();
+            this.shared = false;
+        }
+    }
+
+    @Override
+    public ImmutableMap<K, V> build()
+    {
+        if (this.delegate.size() <= 4)
+        {
+            return ImmutableMapFactoryImpl.INSTANCE.withAll(this.delegate);
+        }
+        this.shared = true;
+        return ImmutableUnifiedMap.wrap(this.delegate);
+    }
+}
@@ -13,8 +13,10 @@ package org.eclipse.collections.impl.map.immutable;
 import java.util.Map;
 import java.util.Objects;
 
+import org.eclipse.collections.api.factory.map.ImmutableMapBuilder;
 import org.eclipse.collections.api.factory.map.ImmutableMapFactory;
 import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 
 public class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
@@ -184,4 +186,38 @@ public class ImmutableMapFactoryImpl implements ImmutableMapFactory
                 throw new AssertionError();
         }
     }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> emptyPersistent()
+    {
+        return ImmutableHashTrieMap.empty();
+    }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> withAllPersistent(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof ImmutableHashTrieMap<?, ?>)
+        {
+            return (ImmutableMap<K, V>) map;
+        }
+        return ImmutableHashTrieMap.newMap(map);
+    }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> withAllCompact(Map<? extends K, ? extends V> map)
+    {
+        return ImmutableCompactHashMap.newMap(map);
+    }
+
+    @Override
+    public <K, V> ImmutableMapBuilder<K, V> builder()
+    {
+        return new ImmutableMapBuilderImpl<>(UnifiedMap.newMap());
+    }
+
+    @Override
+    public <K, V> ImmutableMapBuilder<K, V> builder(int expectedSize)
+    {
+        return new ImmutableMapBuilderImpl<>(UnifiedMap.newMap(expectedSize));
+    }
 }
@@ -47,6 +47,21 @@ public class ImmutableUnifiedMap<K, V>
         this(UnifiedMap.newMapWith(pairs));
     }
 
+    private ImmutableUnifiedMap(UnifiedMap<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns a map backed by the delegate itself rather than a copy, so the delegate must not be modified afterwards.
+     *
+     * @since 11.0
+     */
+    static <K, V> ImmutableUnifiedMap<K, V> wrap(UnifiedMap<K, V> delegate)
+    {
+        return new ImmutableUnifiedMap<>(delegate);
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -20,6 +20,7 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.AbstractCollection;
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.Iterator;
@@ -31,6 +32,8 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
 
@@ -72,17 +75,29 @@ public class ConcurrentHashMapUnsafe<K, V>
 
     @SuppressWarnings("rawtypes")
     private static final AtomicReferenceFieldUpdater<ConcurrentHashMapUnsafe, Object[]> TABLE_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ConcurrentHashMapUnsafe.class, Object[].class, "table");
+    private static final AtomicIntegerFieldUpdater<ConcurrentHashMapUnsafe> RESIZE_COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ConcurrentHashMapUnsafe.class, "resizeCount");
+    private static final AtomicLongFieldUpdater<ConcurrentHashMapUnsafe> TOTAL_RESIZE_NANOS_UPDATER = AtomicLongFieldUpdater.newUpdater(ConcurrentHashMapUnsafe.class, "totalResizeNanos");
     private static final Object RESIZED = new Object();
     private static final Object RESIZING = new Object();
-    private static final int PARTITIONED_SIZE_THRESHOLD = 4096; // chosen to keep size below 1% of the total size of the map
+
+    /**
+     * The maximum number of size cells, the smallest power of two that is not less than the number of processors.
+     * Once this many cells exist, contending writers rehash to other cells instead of growing the array.
+     */
+    private static final int MAXIMUM_SIZE_CELLS = Integer.highestOneBit((Runtime.getRuntime().availableProcessors() << 1) - 1);
+
+    /**
+     * The probe of each thread into the size cells, seeded from the thread id and rehashed whenever the thread finds
+     * its cell contended. It is shared by all maps, as {@link java.util.concurrent.atomic.LongAdder} shares its probe.
+     */
+    private static final ThreadLocal<int[]> SIZE_PROBE = ThreadLocal.withInitial(() -> new int[]{ConcurrentHashMapUnsafe.initialSizeProbe()});
 
     private static final Unsafe UNSAFE;
     private static final long OBJECT_ARRAY_BASE;
     private static final int OBJECT_ARRAY_SHIFT;
-    private static final long INT_ARRAY_BASE;
-    private static final int INT_ARRAY_SHIFT;
     private static final long SIZE_OFFSET;
-    private static final int SIZE_BUCKETS = 7;
+    private static final long SIZE_CELLS_BUSY_OFFSET;
+    private static final long SIZE_CELL_VALUE_OFFSET;
 
     static
     {
@@ -98,17 +113,10 @@ public class ConcurrentHashMapUnsafe<K, V>
             }
             OBJECT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(objectArrayScale);
 
-            Class<?> intArrayClass = int[].class;
-            INT_ARRAY_BASE = UNSAFE.arrayBaseOffset(intArrayClass);
-            int intArrayScale = UNSAFE.arrayIndexScale(intArrayClass);
-            if ((intArrayScale & (intArrayScale - 1)) != 0)
-            {
-                throw new AssertionError("data type scale not a power of two");
-            }
-            INT_ARRAY_SHIFT = 31 - Integer.numberOfLeadingZeros(intArrayScale);
-
             Class<?> mapClass = ConcurrentHashMapUnsafe.class;
             SIZE_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("size"));
+            SIZE_CELLS_BUSY_OFFSET = UNSAFE.objectFieldOffset(mapClass.getDeclaredField("sizeCellsBusy"));
+            SIZE_CELL_VALUE_OFFSET = UNSAFE.objectFieldOffset(SizeCellValue.class.getDeclaredField("value"));
         }
         catch (NoSuchFieldException | SecurityException e)
         {
@@ -121,11 +129,27 @@ public class ConcurrentHashMapUnsafe<K, V>
      */
     private volatile Object[] table;
 
-    private int[] partitionedSize;
+    /**
+     * Striped size counter cells, in the spirit of {@link java.util.concurrent.atomic.LongAdder}. The array is only
+     * created once a CAS on {@link #size} fails, so an uncontended map never pays for it. The size of the map is
+     * {@link #size} plus the sum of all cells.
+     */
+    private volatile SizeCell[] sizeCells;
 
     @SuppressWarnings("UnusedDeclaration")
     private volatile int size; // updated via atomic field updater
 
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int sizeCellsBusy; // spin lock guarding creation and growth of sizeCells, updated via Unsafe
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile int resizeCount; // updated via atomic field updater
+
+    @SuppressWarnings("UnusedDeclaration")
+    private volatile long totalResizeNanos; // updated via atomic field updater
+
+    private volatile long lastResizeNanos;
+
     public ConcurrentHashMapUnsafe()
     {
         this(DEFAULT_INITIAL_CAPACITY);
@@ -150,10 +174,6 @@ public class ConcurrentHashMapUnsafe<K, V>
         {
             capacity <<= 1;
         }
-        if (capacity >= PARTITIONED_SIZE_THRESHOLD)
-        {
-            this.partitionedSize = new int[SIZE_BUCKETS * 16]; // we want 7 extra slots and 64 bytes for each slot. int is 4 bytes, so 64 bytes is 16 ints.
-        }
         this.table = new Object[capacity + 1];
     }
 
@@ -267,10 +287,10 @@ public class ConcurrentHashMapUnsafe<K, V>
     {
         ResizeContainer resizeContainer = (ResizeContainer) ConcurrentHashMapUnsafe.arrayAt(currentArray, currentArray.length - 1);
         Object[] newTable = resizeContainer.nextArray;
-        if (resizeContainer.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        if (resizeContainer.getQueuePosition() > 0)
         {
             resizeContainer.incrementResizer();
-            this.reverseTransfer(currentArray, resizeContainer);
+            this.transferStride(currentArray, resizeContainer);
             resizeContainer.decrementResizerAndNotify();
         }
         return newTable;
@@ -305,10 +325,6 @@ public class ConcurrentHashMapUnsafe<K, V>
                 if (ConcurrentHashMapUnsafe.arrayAt(oldTable, end) == null)
                 {
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, RESIZE_SENTINEL);
-                    if (this.partitionedSize == null && newSize >= PARTITIONED_SIZE_THRESHOLD)
-                    {
-                        this.partitionedSize = new int[SIZE_BUCKETS * 16];
-                    }
                     resizeContainer = new ResizeContainer(new Object[newSize], oldTable.length - 1);
                     ConcurrentHashMapUnsafe.setArrayAt(oldTable, end, resizeContainer);
                     ownResize = true;
@@ -328,6 +344,7 @@ public class ConcurrentHashMapUnsafe<K, V>
                     this.helpWithResize(src);
                 }
             }
+            this.recordResize(System.nanoTime() - resizeContainer.startNanos);
         }
         else
         {
@@ -335,29 +352,81 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
     }
 
+    private void recordResize(long durationNanos)
+    {
+        RESIZE_COUNT_UPDATER.incrementAndGet(this);
+        TOTAL_RESIZE_NANOS_UPDATER.addAndGet(this, durationNanos);
+        this.lastResizeNanos = durationNanos;
+    }
+
+    /**
+     * Returns the number of times the table of this map has been resized since it was created.
+     */
+    public int getResizeCount()
+    {
+        return this.resizeCount;
+    }
+
+    /**
+     * Returns the time in nanoseconds that the most recent resize took, from allocating the new table until the new
+     * table replaced the old one, or 0 if this map has never been resized.
+     */
+    public long getLastResizeDurationNanos()
+    {
+        return this.lastResizeNanos;
+    }
+
+    /**
+     * Returns the sum of the durations of all resizes of this map, in nanoseconds.
+     *
+     * @see #getLastResizeDurationNanos()
+     */
+    public long getTotalResizeDurationNanos()
+    {
+        return this.totalResizeNanos;
+    }
+
     /*
-     * Transfer all entries from src to dest tables
+     * Transfer all entries from src to dest tables. The thread that started the resize keeps claiming strides until
+     * none are left, then waits for any helper that is still working on a stride it claimed.
      */
     private void transfer(Object[] src, ResizeContainer resizeContainer)
     {
-        Object[] dest = resizeContainer.nextArray;
+        boolean claimedStride = true;
+        while (claimedStride)
+        {
+            claimedStride = this.transferStride(src, resizeContainer);
+        }
+        resizeContainer.decrementResizerAndNotify();
+        resizeContainer.waitForAllResizers();
+    }
 
-        for (int j = 0; j < src.length - 1; )
+    /*
+     * Claims the next range of QUEUE_INCREMENT buckets and moves their entries to the next table. A claimed range is
+     * owned exclusively by the claiming thread, so a thread that merely touches the map during a resize migrates at
+     * most one stride before carrying on with its own operation. Returns false once every stride has been claimed.
+     */
+    private boolean transferStride(Object[] src, ResizeContainer resizeContainer)
+    {
+        int start = resizeContainer.subtractAndGetQueuePosition();
+        int end = start + ResizeContainer.QUEUE_INCREMENT;
+        if (end <= 0)
+        {
+            return false;
+        }
+        if (start < 0)
+        {
+            start = 0;
+        }
+        Object[] dest = resizeContainer.nextArray;
+        for (int j = end - 1; j >= start; )
         {
             Object o = ConcurrentHashMapUnsafe.arrayAt(src, j);
             if (o == null)
             {
                 if (ConcurrentHashMapUnsafe.casArrayAt(src, j, null, RESIZED))
                 {
-                    j++;
-                }
-            }
-            else if (o == RESIZED || o == RESIZING)
-            {
-                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
-                if (resizeContainer.resizers.get() == 1)
-                {
-                    break;
+                    j--;
                 }
             }
             else
@@ -371,59 +440,11 @@ public class ConcurrentHashMapUnsafe<K, V>
                         e = e.getNext();
                     }
                     ConcurrentHashMapUnsafe.setArrayAt(src, j, RESIZED);
-                    j++;
-                }
-            }
-        }
-        resizeContainer.decrementResizerAndNotify();
-        resizeContainer.waitForAllResizers();
-    }
-
-    private void reverseTransfer(Object[] src, ResizeContainer resizeContainer)
-    {
-        Object[] dest = resizeContainer.nextArray;
-        while (resizeContainer.getQueuePosition() > 0)
-        {
-            int start = resizeContainer.subtractAndGetQueuePosition();
-            int end = start + ResizeContainer.QUEUE_INCREMENT;
-            if (end > 0)
-            {
-                if (start < 0)
-                {
-                    start = 0;
-                }
-                for (int j = end - 1; j >= start; )
-                {
-                    Object o = ConcurrentHashMapUnsafe.arrayAt(src, j);
-                    if (o == null)
-                    {
-                        if (ConcurrentHashMapUnsafe.casArrayAt(src, j, null, RESIZED))
-                        {
-                            j--;
-                        }
-                    }
-                    else if (o == RESIZED || o == RESIZING)
-                    {
-                        resizeContainer.zeroOutQueuePosition();
-                        return;
-                    }
-                    else
-                    {
-                        Entry<K, V> e = (Entry<K, V>) o;
-                        if (ConcurrentHashMapUnsafe.casArrayAt(src, j, o, RESIZING))
-                        {
-                            while (e != null)
-                            {
-                                this.unconditionalCopy(dest, e);
-                                e = e.getNext();
-                            }
-                            ConcurrentHashMapUnsafe.setArrayAt(src, j, RESIZED);
-                            j--;
-                        }
-                    }
+                    j--;
                 }
             }
         }
+        return true;
     }
 
     private void unconditionalCopy(Object[] dest, Entry<K, V> toCopyEntry)
@@ -703,58 +724,150 @@ public class ConcurrentHashMapUnsafe<K, V>
 
     private void addToSize(int value)
     {
-        if (this.partitionedSize != null)
+        if (this.sizeCells == null)
         {
-            if (this.incrementPartitionedSize(value))
+            int localSize = this.size;
+            if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
             {
                 return;
             }
         }
-        this.incrementLocalSize(value);
+        this.addToSizeCell(value);
     }
 
-    private boolean incrementPartitionedSize(int value)
+    /*
+     * Slow path of addToSize, taken once the base size has seen contention. Each thread starts at the cell chosen by
+     * its stored probe; on a failed CAS it first tries to double the cell array (up to MAXIMUM_SIZE_CELLS) and
+     * otherwise rehashes its probe and moves on to another cell. The rehashed probe is stored, so a thread that was
+     * contended once keeps using the cell it moved to instead of starting over at the contended one.
+     */
+    private void addToSizeCell(int value)
     {
-        int h = (int) Thread.currentThread().getId();
-        h ^= (h >>> 18) ^ (h >>> 12);
-        h = (h ^ (h >>> 10)) & SIZE_BUCKETS;
-        if (h != 0)
+        int[] probeHolder = SIZE_PROBE.get();
+        int probe = probeHolder[0];
+        boolean collided = false;
+        while (true)
         {
-            h = (h - 1) << 4;
-            long address = ((long) h << INT_ARRAY_SHIFT) + INT_ARRAY_BASE;
-            while (true)
+            SizeCell[] cells = this.sizeCells;
+            if (cells == null)
             {
-                int localSize = UNSAFE.getIntVolatile(this.partitionedSize, address);
-                if (UNSAFE.compareAndSwapInt(this.partitionedSize, address, localSize, localSize + value))
+                if (this.sizeCellsBusy == 0 && UNSAFE.compareAndSwapInt(this, SIZE_CELLS_BUSY_OFFSET, 0, 1))
                 {
-                    return true;
+                    try
+                    {
+                        if (this.sizeCells == null)
+                        {
+                            SizeCell[] newCells = new SizeCell[2];
+                            newCells[probe & 1] = new SizeCell(value);
+                            this.sizeCells = newCells;
+                            return;
+                        }
+                    }
+                    finally
+                    {
+                        this.sizeCellsBusy = 0;
+                    }
                 }
+                else
+                {
+                    int localSize = this.size;
+                    if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
+                    {
+                        return;
+                    }
+                }
+                continue;
             }
+            int length = cells.length;
+            int index = probe & length - 1;
+            SizeCell cell = cells[index];
+            if (cell == null)
+            {
+                if (this.sizeCellsBusy == 0)
+                {
+                    SizeCell newCell = new SizeCell(value);
+                    if (UNSAFE.compareAndSwapInt(this, SIZE_CELLS_BUSY_OFFSET, 0, 1))
+                    {
+                        try
+                        {
+                            if (this.sizeCells == cells && cells[index] == null)
+                            {
+                                cells[index] = newCell;
+                                return;
+                            }
+                        }
+                        finally
+                        {
+                            this.sizeCellsBusy = 0;
+                        }
+                        continue;
+                    }
+                }
+                collided = false;
+            }
+            else if (cell.compareAndAdd(value))
+            {
+                return;
+            }
+            else if (length >= MAXIMUM_SIZE_CELLS || this.sizeCells != cells)
+            {
+                collided = false;
+            }
+            else if (!collided)
+            {
+                collided = true;
+            }
+            else if (this.sizeCellsBusy == 0 && UNSAFE.compareAndSwapInt(this, SIZE_CELLS_BUSY_OFFSET, 0, 1))
+            {
+                try
+                {
+                    if (this.sizeCells == cells)
+                    {
+                        this.sizeCells = Arrays.copyOf(cells, length << 1);
+                    }
+                }
+                finally
+                {
+                    this.sizeCellsBusy = 0;
+                }
+                collided = false;
+                continue;
+            }
+            probe = ConcurrentHashMapUnsafe.advanceSizeProbe(probe);
+            probeHolder[0] = probe;
         }
-        return false;
     }
 
-    private void incrementLocalSize(int value)
+    private static int initialSizeProbe()
     {
-        while (true)
-        {
-            int localSize = this.size;
-            if (UNSAFE.compareAndSwapInt(this, SIZE_OFFSET, localSize, localSize + value))
-            {
-                break;
-            }
-        }
+        int h = (int) Thread.currentThread().getId();
+        h ^= (h >>> 18) ^ (h >>> 12);
+        h ^= h >>> 10;
+        return h == 0 ? 1 : h; // a zero probe would never move under xorshift
+    }
+
+    private static int advanceSizeProbe(int probe)
+    {
+        // xorshift, the same step used by ThreadLocalRandom to rehash a contended probe
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
     }
 
     @Override
     public int size()
     {
         int localSize = this.size;
-        if (this.partitionedSize != null)
+        SizeCell[] cells = this.sizeCells;
+        if (cells != null)
         {
-            for (int i = 0; i < SIZE_BUCKETS; i++)
+            for (SizeCell cell : cells)
             {
-                localSize += this.partitionedSize[i << 4];
+                if (cell != null)
+                {
+                    localSize += cell.value;
+                }
             }
         }
         return localSize;
@@ -1993,10 +2106,60 @@ public class ConcurrentHashMapUnsafe<K, V>
         }
     }
 
+    /**
+     * Padding laid out ahead of a size cell's value. Fields of a class are placed before those of its subclasses, so
+     * splitting the padding across the hierarchy keeps it on both sides of the value whatever order the fields of a
+     * single class are laid out in.
+     */
+    @SuppressWarnings("unused")
+    private abstract static class SizeCellLeftPadding
+    {
+        private long padding1;
+        private long padding2;
+        private long padding3;
+        private long padding4;
+        private long padding5;
+        private long padding6;
+        private long padding7;
+    }
+
+    private abstract static class SizeCellValue extends SizeCellLeftPadding
+    {
+        volatile int value; // updated via Unsafe
+    }
+
+    /**
+     * A size counter cell, padded on both sides of its value so that it never shares a cache line with a neighbouring
+     * cell or with any other object allocated next to it.
+     */
+    @SuppressWarnings("unused")
+    private static final class SizeCell extends SizeCellValue
+    {
+        private long padding1;
+        private long padding2;
+        private long padding3;
+        private long padding4;
+        private long padding5;
+        private long padding6;
+        private long padding7;
+
+        private SizeCell(int value)
+        {
+            this.value = value;
+        }
+
+        private boolean compareAndAdd(int delta)
+        {
+            int localValue = this.value;
+            return UNSAFE.compareAndSwapInt(this, SIZE_CELL_VALUE_OFFSET, localValue, localValue + delta);
+        }
+    }
+
     private static final class ResizeContainer
     {
         private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
         private final AtomicInteger resizers = new AtomicInteger(1);
+        private final long startNanos = System.nanoTime();
         private final Object[] nextArray;
         private final AtomicInteger queuePosition;
 
@@ -2076,11 +2239,6 @@ public class ConcurrentHashMapUnsafe<K, V>
         {
             return this.resizers.get() > 0;
         }
-
-        public void zeroOutQueuePosition()
-        {
-            this.queuePosition.set(0);
-        }
     }
 
     public static <NK, NV> ConcurrentHashMapUnsafe<NK, NV> newMap(Map<NK, NV> map)
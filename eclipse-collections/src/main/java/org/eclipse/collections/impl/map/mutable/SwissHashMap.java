@@ -0,0 +1,790 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.internal.ControlGroups;
+
+/**
+ * SwissHashMap is a {@link MutableMap} stored in an open addressed hash table that is probed a group of eight slots at
+ * a time, in the style of SwissTable. Beside the table of keys and values, every slot has a control byte holding seven
+ * bits of the hash code of its key, and the control bytes of a group are packed into a long. A lookup tests the whole
+ * group with a few SWAR (SIMD within a register) operations and calls equals only on the keys whose seven bits match,
+ * which is about one key in 128 for a miss. A lookup ends at the first group with an empty slot, so with the table at
+ * most 7/8 full, most hits and misses read one group of control bytes and one key.
+ * <p>
+ * Unlike {@link UnifiedMap}, there are no chained buckets, so the table never holds more than one object per key and
+ * one per value, and removing an entry never moves another. Null keys and values are supported.
+ *
+ * @since 11.0
+ */
+public class SwissHashMap<K, V>
+        extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private long[] groups;
+    private Object[] table;
+    private int size;
+    private int growthLeft;
+    private int modCount;
+
+    public SwissHashMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public SwissHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(SwissHashMap.slotsFor(initialCapacity));
+    }
+
+    public SwissHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+        this.putAll(map);
+    }
+
+    public static <K, V> SwissHashMap<K, V> newMap()
+    {
+        return new SwissHashMap<>();
+    }
+
+    public static <K, V> SwissHashMap<K, V> newMap(int size)
+    {
+        return new SwissHashMap<>(size);
+    }
+
+    public static <K, V> SwissHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new SwissHashMap<>(map);
+    }
+
+    public static <K, V> SwissHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new SwissHashMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> SwissHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new SwissHashMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> SwissHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new SwissHashMap<K, V>(3).withKeysValues(key1, value1, key2, value2).withKeysValues(key3, value3);
+    }
+
+    public SwissHashMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public SwissHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    /**
+     * Returns the number of slots needed to hold {@code capacity} entries without a rehash.
+     */
+    private static int slotsFor(int capacity)
+    {
+        int groupCount = (capacity + ControlGroups.GROUP_SIZE - 2) / (ControlGroups.GROUP_SIZE - 1);
+        return Math.max(groupCount, 1) << ControlGroups.GROUP_SHIFT;
+    }
+
+    private void allocate(int slots)
+    {
+        this.groups = ControlGroups.newGroups(slots);
+        this.table = new Object[(this.groups.length << ControlGroups.GROUP_SHIFT) * 2];
+        this.growthLeft = ControlGroups.maxLoad(this.groups);
+    }
+
+    private static int hash(Object key)
+    {
+        return ControlGroups.mix(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1 if it is absent.
+     */
+    private int slotOf(Object key, int hash)
+    {
+        long[] groups = this.groups;
+        Object[] table = this.table;
+        byte control = ControlGroups.controlOf(hash);
+        int group = ControlGroups.firstGroup(hash, groups.length);
+        for (int step = 1; ; step++)
+        {
+            long controls = groups[group];
+            for (long match = ControlGroups.match(controls, control); match != 0L; match = ControlGroups.withoutLowestSlot(match))
+            {
+                int slot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(match);
+                Object candidate = table[slot << 1];
+                if (candidate == key || key != null && key.equals(candidate))
+                {
+                    return slot;
+                }
+            }
+            if (ControlGroups.matchEmpty(controls) != 0L)
+            {
+                return -1;
+            }
+            group = ControlGroups.nextGroup(group, step, groups.length);
+        }
+    }
+
+    private void insert(K key, V value, int hash)
+    {
+        int slot = ControlGroups.findFreeSlot(this.groups, hash);
+        if (ControlGroups.isEmpty(this.groups, slot))
+        {
+            if (this.growthLeft == 0)
+            {
+                this.rehash();
+                slot = ControlGroups.findFreeSlot(this.groups, hash);
+            }
+            this.growthLeft--;
+        }
+        ControlGroups.setControl(this.groups, slot, ControlGroups.controlOf(hash));
+        this.table[slot << 1] = key;
+        this.table[(slot << 1) + 1] = value;
+        this.size++;
+        this.modCount++;
+    }
+
+    private void removeSlot(int slot)
+    {
+        if (ControlGroups.free(this.groups, slot))
+        {
+            this.growthLeft++;
+        }
+        this.table[slot << 1] = null;
+        this.table[(slot << 1) + 1] = null;
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Doubles the table, or if at least half of the used slots are deleted, rebuilds it at the same size.
+     */
+    private void rehash()
+    {
+        long[] oldGroups = this.groups;
+        Object[] oldTable = this.table;
+        int oldSlots = oldGroups.length << ControlGroups.GROUP_SHIFT;
+        this.allocate(this.size >= ControlGroups.maxLoad(oldGroups) >> 1 ? oldSlots << 1 : oldSlots);
+        for (int group = 0; group < oldGroups.length; group++)
+        {
+            for (long full = ControlGroups.matchFull(oldGroups[group]); full != 0L; full = ControlGroups.withoutLowestSlot(full))
+            {
+                int oldSlot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(full);
+                Object key = oldTable[oldSlot << 1];
+                int hash = SwissHashMap.hash(key);
+                int slot = ControlGroups.findFreeSlot(this.groups, hash);
+                ControlGroups.setControl(this.groups, slot, ControlGroups.controlOf(hash));
+                this.table[slot << 1] = key;
+                this.table[(slot << 1) + 1] = oldTable[(oldSlot << 1) + 1];
+            }
+        }
+        this.growthLeft -= this.size;
+    }
+
+    @Override
+    public SwissHashMap<K, V> clone()
+    {
+        return new SwissHashMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new SwissHashMap<>();
+    }
+
+    @Override
+    public <KK, VV> MutableMap<KK, VV> newEmpty(int capacity)
+    {
+        return new SwissHashMap<>(capacity);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key, SwissHashMap.hash(key));
+        return slot < 0 ? null : (V) this.table[(slot << 1) + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key, SwissHashMap.hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int group = 0; group < this.groups.length; group++)
+        {
+            for (long full = ControlGroups.matchFull(this.groups[group]); full != 0L; full = ControlGroups.withoutLowestSlot(full))
+            {
+                int slot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(full);
+                if (Objects.equals(value, this.table[(slot << 1) + 1]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = SwissHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            V oldValue = (V) this.table[(slot << 1) + 1];
+            this.table[(slot << 1) + 1] = value;
+            return oldValue;
+        }
+        this.insert(key, value, hash);
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof SwissHashMap<?, ?>)
+        {
+            ((SwissHashMap<K, V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int hash = SwissHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        V value = function.value();
+        this.insert(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int hash = SwissHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        this.insert(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int hash = SwissHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            return (V) this.table[(slot << 1) + 1];
+        }
+        V value = function.valueOf(parameter);
+        this.insert(key, value, hash);
+        return value;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int hash = SwissHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            V newValue = function.valueOf((V) this.table[(slot << 1) + 1]);
+            this.table[(slot << 1) + 1] = newValue;
+            return newValue;
+        }
+        V newValue = function.valueOf(factory.value());
+        this.insert(key, newValue, hash);
+        return newValue;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.slotOf(key, SwissHashMap.hash(key));
+        if (slot < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.table[(slot << 1) + 1];
+        this.removeSlot(slot);
+        return oldValue;
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.size > 0)
+        {
+            ControlGroups.clear(this.groups);
+            Arrays.fill(this.table, null);
+            this.size = 0;
+            this.growthLeft = ControlGroups.maxLoad(this.groups);
+            this.modCount++;
+        }
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int group = 0; group < this.groups.length; group++)
+        {
+            for (long full = ControlGroups.matchFull(this.groups[group]); full != 0L; full = ControlGroups.withoutLowestSlot(full))
+            {
+                int slot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(full);
+                procedure.value((K) this.table[slot << 1], (V) this.table[(slot << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public void each(Procedure<? super V> procedure)
+    {
+        this.forEachValue(procedure);
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        for (int group = 0; group < this.groups.length; group++)
+        {
+            for (long full = ControlGroups.matchFull(this.groups[group]); full != 0L; full = ControlGroups.withoutLowestSlot(full))
+            {
+                int slot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(full);
+                Object key = this.table[slot << 1];
+                Object value = this.table[(slot << 1) + 1];
+                Object otherValue = other.get(key);
+                if (!Objects.equals(value, otherValue) || otherValue == null && !other.containsKey(key))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int group = 0; group < this.groups.length; group++)
+        {
+            for (long full = ControlGroups.matchFull(this.groups[group]); full != 0L; full = ControlGroups.withoutLowestSlot(full))
+            {
+                int slot = (group << ControlGroups.GROUP_SHIFT) + ControlGroups.lowestSlot(full);
+                hashCode += Objects.hashCode(this.table[slot << 1]) ^ Objects.hashCode(this.table[(slot << 1) + 1]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : key);
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : value);
+        });
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        this.forEachKeyValue((key, value) ->
+        {
+            try
+            {
+                out.writeObject(key);
+                out.writeObject(value);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(SwissHashMap.slotsFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Iterates over the occupied slots of the table. Removing through the iterator frees the slot without moving any
+     * other entry, so the iteration continues where it was.
+     */
+    private abstract class SlotIterator<T> implements Iterator<T>
+    {
+        private int position;
+        private int count;
+        private int lastSlot = -1;
+        private int expectedModCount = SwissHashMap.this.modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < SwissHashMap.this.size;
+        }
+
+        protected int nextSlot()
+        {
+            if (SwissHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            while (!ControlGroups.isFull(SwissHashMap.this.groups, this.position))
+            {
+                this.position++;
+            }
+            this.count++;
+            this.lastSlot = this.position;
+            return this.position++;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastSlot == -1)
+            {
+                throw new IllegalStateException();
+            }
+            if (SwissHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            SwissHashMap.this.removeSlot(this.lastSlot);
+            this.expectedModCount = SwissHashMap.this.modCount;
+            this.count--;
+            this.lastSlot = -1;
+        }
+    }
+
+    private final class KeyIterator extends SlotIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return (K) SwissHashMap.this.table[this.nextSlot() << 1];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return (V) SwissHashMap.this.table[(this.nextSlot() << 1) + 1];
+        }
+    }
+
+    private final class EntryIterator extends SlotIterator<Entry<K, V>>
+    {
+        @Override
+        public Entry<K, V> next()
+        {
+            int slot = this.nextSlot();
+            return new SwissEntry((K) SwissHashMap.this.table[slot << 1], (V) SwissHashMap.this.table[(slot << 1) + 1]);
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return SwissHashMap.this.containsKey(object);
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = SwissHashMap.this.slotOf(object, SwissHashMap.hash(object));
+            if (slot < 0)
+            {
+                return false;
+            }
+            SwissHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return SwissHashMap.this.containsValue(object);
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return SwissHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.slotOf(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = this.slotOf(object);
+            if (slot < 0)
+            {
+                return false;
+            }
+            SwissHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        private int slotOf(Object object)
+        {
+            if (!(object instanceof Entry<?, ?>))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            int slot = SwissHashMap.this.slotOf(key, SwissHashMap.hash(key));
+            return slot >= 0 && Objects.equals(SwissHashMap.this.table[(slot << 1) + 1], entry.getValue()) ? slot : -1;
+        }
+
+        @Override
+        public void clear()
+        {
+            SwissHashMap.this.clear();
+        }
+    }
+
+    private final class SwissEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private SwissEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            SwissHashMap.this.put(this.getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
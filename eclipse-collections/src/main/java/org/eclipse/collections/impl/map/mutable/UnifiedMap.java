@@ -24,7 +24,10 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.ParallelIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function0;
 import org.eclipse.collections.api.block.function.Function2;
@@ -37,19 +40,26 @@ import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MapIterableView;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.lazy.LazyIterableAdapter;
+import org.eclipse.collections.impl.lazy.parallel.bag.RootUnsortedBagBatch;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractParallelTableRangeIterable;
+import org.eclipse.collections.impl.lazy.parallel.map.AbstractTableRangeBatch;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
 
 /**
  * UnifiedMap stores key/value pairs in a single array, where alternate slots are keys and values. This is nicer to CPU caches as
@@ -1000,6 +1010,35 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    /**
+     * @since 11.0
+     */
+    @Override
+    public MapIterableView<K> keysView()
+    {
+        return new UnifiedMapIterableView<>(this.keySet(), (key, value) -> key);
+    }
+
+    /**
+     * @since 11.0
+     */
+    @Override
+    public MapIterableView<V> valuesView()
+    {
+        return new UnifiedMapIterableView<>(this.values(), (key, value) -> value);
+    }
+
+    /**
+     * @since 11.0
+     */
+    @Override
+    public MapIterableView<Pair<K, V>> keyValuesView()
+    {
+        return new UnifiedMapIterableView<>(
+                LazyIterate.collect(this.entrySet(), AbstractImmutableEntry.getPairFunction()),
+                Tuples::pair);
+    }
+
     @Override
     public V getFirst()
     {
@@ -3292,6 +3331,112 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         return key;
     }
 
+    private final class UnifiedMapIterableView<T> extends LazyIterableAdapter<T> implements MapIterableView<T>
+    {
+        private final Function2<? super K, ? super V, ? extends T> projection;
+
+        private UnifiedMapIterableView(Iterable<T> adapted, Function2<? super K, ? super V, ? extends T> projection)
+        {
+            super(adapted);
+            this.projection = projection;
+        }
+
+        @Beta
+        @Override
+        public ParallelIterable<T> asParallel(ExecutorService executorService, int batchSize)
+        {
+            return new UnifiedMapParallelIterable<>(executorService, batchSize, this.projection);
+        }
+    }
+
+    private final class UnifiedMapParallelIterable<T> extends AbstractParallelTableRangeIterable<T>
+    {
+        private final Function2<? super K, ? super V, ? extends T> projection;
+
+        private UnifiedMapParallelIterable(
+                ExecutorService executorService,
+                int batchSize,
+                Function2<? super K, ? super V, ? extends T> projection)
+        {
+            super(executorService, batchSize);
+            this.projection = projection;
+        }
+
+        @Override
+        protected int getTableLength()
+        {
+            return UnifiedMap.this.table.length / 2;
+        }
+
+        @Override
+        protected RootUnsortedBagBatch<T> newBatch(int chunkStartIndex, int chunkEndIndex)
+        {
+            return new UnifiedMapBatch<>(chunkStartIndex, chunkEndIndex, this.projection);
+        }
+    }
+
+    /**
+     * A range of buckets of the table, where bucket i holds its key at index 2 * i and its value or chain at 2 * i + 1.
+     */
+    private final class UnifiedMapBatch<T> extends AbstractTableRangeBatch<T>
+    {
+        private final Function2<? super K, ? super V, ? extends T> projection;
+
+        private UnifiedMapBatch(int chunkStartIndex, int chunkEndIndex, Function2<? super K, ? super V, ? extends T> projection)
+        {
+            super(chunkStartIndex, chunkEndIndex);
+            this.projection = projection;
+        }
+
+        @Override
+        public void forEach(Procedure<? super T> procedure)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex * 2; i < this.chunkEndIndex * 2; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        procedure.value(this.projection.value(UnifiedMap.this.nonSentinel(chain[j]), (V) chain[j + 1]));
+                    }
+                }
+                else if (cur != null)
+                {
+                    procedure.value(this.projection.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1]));
+                }
+            }
+        }
+
+        @Override
+        public boolean anySatisfy(Predicate<? super T> predicate)
+        {
+            Object[] table = UnifiedMap.this.table;
+            for (int i = this.chunkStartIndex * 2; i < this.chunkEndIndex * 2; i += 2)
+            {
+                Object cur = table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) table[i + 1];
+                    for (int j = 0; j < chain.length && chain[j] != null; j += 2)
+                    {
+                        if (predicate.accept(this.projection.value(UnifiedMap.this.nonSentinel(chain[j]), (V) chain[j + 1])))
+                        {
+                            return true;
+                        }
+                    }
+                }
+                else if (cur != null && predicate.accept(this.projection.value(UnifiedMap.this.nonSentinel(cur), (V) table[i + 1])))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private boolean nonNullTableObjectEquals(Object cur, K key)
     {
         return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
@@ -0,0 +1,624 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.primitive.ImmutableBooleanList;
+import org.eclipse.collections.api.list.primitive.ImmutableByteList;
+import org.eclipse.collections.api.list.primitive.ImmutableCharList;
+import org.eclipse.collections.api.list.primitive.ImmutableDoubleList;
+import org.eclipse.collections.api.list.primitive.ImmutableFloatList;
+import org.eclipse.collections.api.list.primitive.ImmutableIntList;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.api.list.primitive.ImmutableShortList;
+import org.eclipse.collections.api.map.ImmutableOrderedMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectLongMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.list.PartitionImmutableList;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.map.AbstractMapIterable;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.eclipse.collections.impl.utility.MapIterate;
+
+/**
+ * An {@link ImmutableOrderedMap} backed by a private copy of the map it was created from, kept in a
+ * {@link CompactOrderedHashMap}. Operations that return a new map or collection compute it on the copy and return its
+ * immutable equivalent.
+ *
+ * @see MutableOrderedMap#toImmutable()
+ * @since 11.0
+ */
+public class ImmutableOrderedMapAdapter<K, V>
+        extends AbstractMapIterable<K, V>
+        implements ImmutableOrderedMap<K, V>, Map<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final CompactOrderedHashMap<K, V> delegate;
+
+    public ImmutableOrderedMapAdapter(Map<? extends K, ? extends V> map)
+    {
+        this.delegate = CompactOrderedHashMap.newMap(map);
+    }
+
+    private CompactOrderedHashMap<K, V> toMutable()
+    {
+        return CompactOrderedHashMap.newMap(this.delegate);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        return this.delegate.equals(object);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.delegate.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.delegate.toString();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.delegate.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.delegate.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        return this.delegate.get(key);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        throw new UnsupportedOperationException("Cannot call put() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        throw new UnsupportedOperationException("Cannot call putAll() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public void clear()
+    {
+        throw new UnsupportedOperationException("Cannot call clear() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return Collections.unmodifiableSet(this.delegate.keySet());
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return Collections.unmodifiableCollection(this.delegate.values());
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return Collections.unmodifiableMap(this.delegate).entrySet();
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new UnmodifiableIteratorAdapter<>(this.delegate.iterator());
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.delegate.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return this.delegate.keysView();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return this.delegate.valuesView();
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return this.delegate.keyValuesView();
+    }
+
+    @Override
+    public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detect(this, predicate);
+    }
+
+    @Override
+    public Optional<Pair<K, V>> detectOptional(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detectOptional(this, predicate);
+    }
+
+    @Override
+    public Map<K, V> castToMap()
+    {
+        return this;
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> toImmutable()
+    {
+        return this;
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithKeyValue(K key, V value)
+    {
+        return this.toMutable().withKeyValue(key, value).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        return this.toMutable().withAllKeyValues(keyValues).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithMap(Map<? extends K, ? extends V> map)
+    {
+        return this.toMutable().withMap(map).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        return this.toMutable().withMapIterable(mapIterable).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        return this.toMutable().withAllKeyValueArguments(keyValuePairs).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithoutKey(K key)
+    {
+        return this.toMutable().withoutKey(key).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        return this.toMutable().withoutAllKeys(keys).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public ImmutableOrderedMap<V, K> flipUniqueValues()
+    {
+        return this.delegate.flipUniqueValues().toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<V, K> flip()
+    {
+        return this.delegate.flip().toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.delegate.select(predicate).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.delegate.reject(predicate).toImmutable();
+    }
+
+    @Override
+    public <K2, V2> ImmutableOrderedMap<K2, V2> collect(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.delegate.collect(function).toImmutable();
+    }
+
+    @Override
+    public <R> ImmutableOrderedMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        return this.delegate.<R>collectValues(function).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> toReversed()
+    {
+        return this.delegate.toReversed().toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> take(int count)
+    {
+        return this.delegate.take(count).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        return this.delegate.takeWhile(predicate).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> drop(int count)
+    {
+        return this.delegate.drop(count).toImmutable();
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        return this.delegate.dropWhile(predicate).toImmutable();
+    }
+
+    @Override
+    public PartitionImmutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        return this.delegate.partitionWhile(predicate).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<V> distinct()
+    {
+        return this.delegate.distinct().toImmutable();
+    }
+
+    @Override
+    public ImmutableList<V> select(Predicate<? super V> predicate)
+    {
+        return this.delegate.select(predicate).toImmutable();
+    }
+
+    @Override
+    public <P> ImmutableList<V> selectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.delegate.selectWith(predicate, parameter).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<V> reject(Predicate<? super V> predicate)
+    {
+        return this.delegate.reject(predicate).toImmutable();
+    }
+
+    @Override
+    public <P> ImmutableList<V> rejectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.delegate.rejectWith(predicate, parameter).toImmutable();
+    }
+
+    @Override
+    public PartitionImmutableList<V> partition(Predicate<? super V> predicate)
+    {
+        return this.delegate.partition(predicate).toImmutable();
+    }
+
+    @Override
+    public <P> PartitionImmutableList<V> partitionWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.delegate.partitionWith(predicate, parameter).toImmutable();
+    }
+
+    @Override
+    public ImmutableBooleanList collectBoolean(BooleanFunction<? super V> booleanFunction)
+    {
+        return this.delegate.collectBoolean(booleanFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableByteList collectByte(ByteFunction<? super V> byteFunction)
+    {
+        return this.delegate.collectByte(byteFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableCharList collectChar(CharFunction<? super V> charFunction)
+    {
+        return this.delegate.collectChar(charFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableDoubleList collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        return this.delegate.collectDouble(doubleFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableFloatList collectFloat(FloatFunction<? super V> floatFunction)
+    {
+        return this.delegate.collectFloat(floatFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableIntList collectInt(IntFunction<? super V> intFunction)
+    {
+        return this.delegate.collectInt(intFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongList collectLong(LongFunction<? super V> longFunction)
+    {
+        return this.delegate.collectLong(longFunction).toImmutable();
+    }
+
+    @Override
+    public ImmutableShortList collectShort(ShortFunction<? super V> shortFunction)
+    {
+        return this.delegate.collectShort(shortFunction).toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableList<Pair<V, S>> zip(Iterable<S> that)
+    {
+        return this.delegate.zip(that).toImmutable();
+    }
+
+    @Override
+    public ImmutableList<Pair<V, Integer>> zipWithIndex()
+    {
+        return this.delegate.zipWithIndex().toImmutable();
+    }
+
+    @Override
+    public <VV> ImmutableList<VV> collect(Function<? super V, ? extends VV> function)
+    {
+        return this.delegate.<VV>collect(function).toImmutable();
+    }
+
+    @Override
+    public <P, V1> ImmutableList<V1> collectWith(Function2<? super V, ? super P, ? extends V1> function, P parameter)
+    {
+        return this.delegate.<P, V1>collectWith(function, parameter).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableList<V1> collectIf(Predicate<? super V> predicate, Function<? super V, ? extends V1> function)
+    {
+        return this.delegate.<V1>collectIf(predicate, function).toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        return this.delegate.selectInstancesOf(clazz).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableList<V1> flatCollect(Function<? super V, ? extends Iterable<V1>> function)
+    {
+        return this.delegate.flatCollect(function).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableListMultimap<V1, V> groupBy(Function<? super V, ? extends V1> function)
+    {
+        return this.delegate.<V1>groupBy(function).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableListMultimap<V1, V> groupByEach(Function<? super V, ? extends Iterable<V1>> function)
+    {
+        return this.delegate.groupByEach(function).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableOrderedMap<V1, V> groupByUniqueKey(Function<? super V, ? extends V1> function)
+    {
+        return this.delegate.<V1>groupByUniqueKey(function).toImmutable();
+    }
+
+    @Override
+    public <KK, VV> ImmutableOrderedMap<KK, VV> aggregateInPlaceBy(Function<? super V, ? extends KK> groupBy, Function0<? extends VV> zeroValueFactory, Procedure2<? super VV, ? super V> mutatingAggregator)
+    {
+        MutableOrderedMap<KK, VV> map = CompactOrderedHashMap.newMap();
+        this.forEach(each ->
+        {
+            VV value = map.getIfAbsentPut(groupBy.valueOf(each), zeroValueFactory);
+            mutatingAggregator.value(value, each);
+        });
+        return map.toImmutable();
+    }
+
+    @Override
+    public <KK, VV> ImmutableOrderedMap<KK, VV> aggregateBy(Function<? super V, ? extends KK> groupBy, Function0<? extends VV> zeroValueFactory, Function2<? super VV, ? super V, ? extends VV> nonMutatingAggregator)
+    {
+        MutableOrderedMap<KK, VV> map = CompactOrderedHashMap.newMap();
+        this.forEach(each -> map.updateValueWith(groupBy.valueOf(each), zeroValueFactory, nonMutatingAggregator, each));
+        return map.toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableObjectLongMap<V1> sumByInt(Function<? super V, ? extends V1> groupBy, IntFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableObjectDoubleMap<V1> sumByFloat(Function<? super V, ? extends V1> groupBy, FloatFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableObjectLongMap<V1> sumByLong(Function<? super V, ? extends V1> groupBy, LongFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableObjectDoubleMap<V1> sumByDouble(Function<? super V, ? extends V1> groupBy, DoubleFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableBag<V1> countBy(Function<? super V, ? extends V1> function)
+    {
+        return this.collect(function, Bags.mutable.<V1>empty()).toImmutable();
+    }
+
+    @Override
+    public <V1, P> ImmutableBag<V1> countByWith(Function2<? super V, ? super P, ? extends V1> function, P parameter)
+    {
+        return this.collectWith(function, parameter, Bags.mutable.<V1>empty()).toImmutable();
+    }
+
+    @Override
+    public <V1> ImmutableBag<V1> countByEach(Function<? super V, ? extends Iterable<V1>> function)
+    {
+        return this.countByEach(function, Bags.mutable.empty()).toImmutable();
+    }
+
+    @Override
+    public LazyIterable<V> asReversed()
+    {
+        return this.delegate.asReversed();
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super V> predicate)
+    {
+        return this.delegate.detectIndex(predicate);
+    }
+
+    @Override
+    public int detectLastIndex(Predicate<? super V> predicate)
+    {
+        return this.delegate.detectLastIndex(predicate);
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        return this.delegate.indexOf(object);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super V, ? super S> predicate)
+    {
+        return this.delegate.corresponds(other, predicate);
+    }
+
+    @Override
+    public void forEach(int startIndex, int endIndex, Procedure<? super V> procedure)
+    {
+        this.delegate.forEach(startIndex, endIndex, procedure);
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        this.delegate.forEachWithIndex(fromIndex, toIndex, objectIntProcedure);
+    }
+
+    @Override
+    public MutableStack<V> toStack()
+    {
+        return this.delegate.toStack();
+    }
+}
@@ -0,0 +1,1582 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableBooleanList;
+import org.eclipse.collections.api.list.primitive.MutableByteList;
+import org.eclipse.collections.api.list.primitive.MutableCharList;
+import org.eclipse.collections.api.list.primitive.MutableDoubleList;
+import org.eclipse.collections.api.list.primitive.MutableFloatList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.list.primitive.MutableLongList;
+import org.eclipse.collections.api.list.primitive.MutableShortList;
+import org.eclipse.collections.api.map.ImmutableOrderedMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.block.procedure.PartitionPredicate2Procedure;
+import org.eclipse.collections.impl.block.procedure.PartitionProcedure;
+import org.eclipse.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectBooleanProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectByteProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectCharProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectDoubleProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectFloatProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectIntProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectLongProcedure;
+import org.eclipse.collections.impl.block.procedure.primitive.CollectShortProcedure;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.FloatArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
+import org.eclipse.collections.impl.map.AbstractMapIterable;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.map.ordered.immutable.ImmutableOrderedMapAdapter;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.partition.list.PartitionFastList;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.tuple.AbstractImmutableEntry;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.MapIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
+import org.eclipse.collections.impl.utility.internal.ControlGroups;
+
+/**
+ * CompactOrderedHashMap is a {@link MutableOrderedMap} that keeps its entries in insertion order in the style of the
+ * compact dict of CPython. The keys and values live side by side in a dense array of entries, in the order they were
+ * added, and a separate open addressed table of ints maps each hash to the position of its entry. Iteration walks the
+ * array of entries from front to back, and an entry costs two references and two ints instead of the node with four
+ * references and a hash that {@link java.util.LinkedHashMap} allocates for it.
+ * <p>
+ * Removing a key leaves a gap in the array of entries that is closed the next time the array fills up, so removing an
+ * entry never moves another and iterators can keep their position. Putting a key that is already present keeps its
+ * position, as in {@link java.util.LinkedHashMap}. Null keys and values are supported.
+ *
+ * @since 11.0
+ */
+public class CompactOrderedHashMap<K, V>
+        extends AbstractMapIterable<K, V>
+        implements MutableOrderedMap<K, V>, Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final Object REMOVED_KEY = new Object();
+    private static final int REMOVED_INDEX = -1;
+
+    /**
+     * The keys and values in insertion order, the key of entry {@code i} at {@code 2 * i} and its value next to it.
+     */
+    private Object[] entries;
+    private int[] hashes;
+    /**
+     * The hash table, holding the position of an entry plus one, 0 for a slot that was never used or -1 for the slot
+     * of a removed entry.
+     */
+    private int[] indices;
+    private int used;
+    private int size;
+    private int modCount;
+
+    public CompactOrderedHashMap()
+    {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public CompactOrderedHashMap(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        this.allocate(CompactOrderedHashMap.indexLengthFor(initialCapacity));
+    }
+
+    public CompactOrderedHashMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY));
+        this.putAll(map);
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newMap()
+    {
+        return new CompactOrderedHashMap<>();
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newMap(int size)
+    {
+        return new CompactOrderedHashMap<>(size);
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new CompactOrderedHashMap<>(map);
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new CompactOrderedHashMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new CompactOrderedHashMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> CompactOrderedHashMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new CompactOrderedHashMap<K, V>(3).withKeysValues(key1, value1, key2, value2).withKeysValues(key3, value3);
+    }
+
+    public CompactOrderedHashMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public CompactOrderedHashMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    /**
+     * Returns the length of the hash table needed to hold {@code capacity} entries without a resize.
+     */
+    private static int indexLengthFor(int capacity)
+    {
+        int length = DEFAULT_INITIAL_CAPACITY;
+        while (CompactOrderedHashMap.entryCapacityFor(length) < capacity)
+        {
+            length <<= 1;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of entries a hash table of {@code indexLength} slots holds, which keeps it at most about two
+     * thirds full.
+     */
+    private static int entryCapacityFor(int indexLength)
+    {
+        return indexLength - indexLength / 3;
+    }
+
+    private void allocate(int indexLength)
+    {
+        int entryCapacity = CompactOrderedHashMap.entryCapacityFor(indexLength);
+        this.indices = new int[indexLength];
+        this.entries = new Object[entryCapacity << 1];
+        this.hashes = new int[entryCapacity];
+        this.used = 0;
+    }
+
+    private static int hash(Object key)
+    {
+        return ControlGroups.mix(key == null ? 0 : key.hashCode());
+    }
+
+    /**
+     * Returns the slot of the hash table that refers to the entry for {@code key}, or -1 if it is absent.
+     */
+    private int slotOf(Object key, int hash)
+    {
+        int[] indices = this.indices;
+        int mask = indices.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask)
+        {
+            int index = indices[slot];
+            if (index == 0)
+            {
+                return -1;
+            }
+            if (index > 0 && this.hashes[index - 1] == hash)
+            {
+                Object candidate = this.entries[(index - 1) << 1];
+                if (candidate == key || key != null && key.equals(candidate))
+                {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the hash table that refers to the entry at {@code position}.
+     */
+    private int slotOfEntry(int position)
+    {
+        int mask = this.indices.length - 1;
+        int slot = this.hashes[position] & mask;
+        while (this.indices[slot] != position + 1)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the first slot from the home slot of {@code hash} that does not refer to an entry.
+     */
+    private int freeSlot(int hash)
+    {
+        int mask = this.indices.length - 1;
+        int slot = hash & mask;
+        while (this.indices[slot] > 0)
+        {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(K key, V value, int hash)
+    {
+        if (this.used == this.hashes.length)
+        {
+            this.resize();
+        }
+        int position = this.used++;
+        this.entries[position << 1] = key;
+        this.entries[(position << 1) + 1] = value;
+        this.hashes[position] = hash;
+        this.indices[this.freeSlot(hash)] = position + 1;
+        this.size++;
+        this.modCount++;
+    }
+
+    private void removeSlot(int slot)
+    {
+        int position = this.indices[slot] - 1;
+        this.indices[slot] = REMOVED_INDEX;
+        this.entries[position << 1] = REMOVED_KEY;
+        this.entries[(position << 1) + 1] = null;
+        this.size--;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the position of the first entry at or after {@code position} that was not removed.
+     */
+    private int nextPosition(int position)
+    {
+        while (this.entries[position << 1] == REMOVED_KEY)
+        {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the last entry at or before {@code position} that was not removed.
+     */
+    private int previousPosition(int position)
+    {
+        while (this.entries[position << 1] == REMOVED_KEY)
+        {
+            position--;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position in the array of entries of the entry at {@code index} in iteration order.
+     */
+    private int positionOf(int index)
+    {
+        if (this.size == this.used)
+        {
+            return index;
+        }
+        int position = this.nextPosition(0);
+        for (int i = 0; i < index; i++)
+        {
+            position = this.nextPosition(position + 1);
+        }
+        return position;
+    }
+
+    /**
+     * Appends the entry at {@code position} to {@code target}, which must not contain its key, reusing its hash.
+     */
+    private void copyEntryTo(CompactOrderedHashMap<K, V> target, int position)
+    {
+        target.insert((K) this.entries[position << 1], (V) this.entries[(position << 1) + 1], this.hashes[position]);
+    }
+
+    /**
+     * Moves the entries to the front of a new array of entries, closing the gaps left by removed entries, and rebuilds
+     * the hash table. The table doubles unless at least half of the entries were removed.
+     */
+    private void resize()
+    {
+        Object[] oldEntries = this.entries;
+        int[] oldHashes = this.hashes;
+        int oldUsed = this.used;
+        int indexLength = this.indices.length;
+        this.allocate(this.size >= oldHashes.length >> 1 ? indexLength << 1 : indexLength);
+        for (int oldPosition = 0; oldPosition < oldUsed; oldPosition++)
+        {
+            Object key = oldEntries[oldPosition << 1];
+            if (key != REMOVED_KEY)
+            {
+                int position = this.used++;
+                int hash = oldHashes[oldPosition];
+                this.entries[position << 1] = key;
+                this.entries[(position << 1) + 1] = oldEntries[(oldPosition << 1) + 1];
+                this.hashes[position] = hash;
+                this.indices[this.freeSlot(hash)] = position + 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        for (int position = 0; position < this.used; position++)
+        {
+            Object key = this.entries[position << 1];
+            if (key != REMOVED_KEY)
+            {
+                Object value = this.entries[(position << 1) + 1];
+                Object otherValue = other.get(key);
+                if (!Objects.equals(value, otherValue) || otherValue == null && !other.containsKey(key))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int position = 0; position < this.used; position++)
+        {
+            Object key = this.entries[position << 1];
+            if (key != REMOVED_KEY)
+            {
+                hashCode += Objects.hashCode(key) ^ Objects.hashCode(this.entries[(position << 1) + 1]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> newEmpty()
+    {
+        return new CompactOrderedHashMap<>();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int position = 0; position < this.used; position++)
+        {
+            Object key = this.entries[position << 1];
+            if (key != REMOVED_KEY)
+            {
+                procedure.value((K) key, (V) this.entries[(position << 1) + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key, CompactOrderedHashMap.hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY && Objects.equals(value, this.entries[(position << 1) + 1]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValueIterator();
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int slot = this.slotOf(key, CompactOrderedHashMap.hash(key));
+        if (slot < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) this.entries[((this.indices[slot] - 1) << 1) + 1];
+        this.removeSlot(slot);
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof CompactOrderedHashMap<?, ?>)
+        {
+            ((CompactOrderedHashMap<K, V>) map).forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(new ValuesCollection());
+    }
+
+    @Override
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(new EntrySet());
+    }
+
+    @Override
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(new KeySet());
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.size > 0 || this.used > 0)
+        {
+            Arrays.fill(this.indices, 0);
+            Arrays.fill(this.entries, 0, this.used << 1, null);
+            this.used = 0;
+            this.size = 0;
+            this.modCount++;
+        }
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int slot = this.slotOf(key, CompactOrderedHashMap.hash(key));
+        return slot < 0 ? null : (V) this.entries[((this.indices[slot] - 1) << 1) + 1];
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int hash = CompactOrderedHashMap.hash(key);
+        int slot = this.slotOf(key, hash);
+        if (slot >= 0)
+        {
+            int valueIndex = ((this.indices[slot] - 1) << 1) + 1;
+            V oldValue = (V) this.entries[valueIndex];
+            this.entries[valueIndex] = value;
+            return oldValue;
+        }
+        this.insert(key, value, hash);
+        return null;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+        this.forEachKeyValue((key, value) ->
+        {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key == this ? "(this Map)" : key);
+            builder.append('=');
+            builder.append(value == this ? "(this Map)" : value);
+        });
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public CompactOrderedHashMap<K, V> clone()
+    {
+        return new CompactOrderedHashMap<>(this);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> toReversed()
+    {
+        CompactOrderedHashMap<K, V> output = new CompactOrderedHashMap<>(this.size);
+        for (int position = this.used - 1; position >= 0; position--)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                this.copyEntryTo(output, position);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        CompactOrderedHashMap<K, V> output = new CompactOrderedHashMap<>(Math.min(this.size, count));
+        for (int position = 0; position < this.used && output.size < count; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                this.copyEntryTo(output, position);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        CompactOrderedHashMap<K, V> output = new CompactOrderedHashMap<>();
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                if (!predicate.accept((V) this.entries[(position << 1) + 1]))
+                {
+                    break;
+                }
+                this.copyEntryTo(output, position);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        CompactOrderedHashMap<K, V> output = new CompactOrderedHashMap<>(this.size - Math.min(this.size, count));
+        int skipped = 0;
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                if (skipped < count)
+                {
+                    skipped++;
+                }
+                else
+                {
+                    this.copyEntryTo(output, position);
+                }
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        CompactOrderedHashMap<K, V> output = new CompactOrderedHashMap<>();
+        boolean dropping = true;
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                dropping = dropping && predicate.accept((V) this.entries[(position << 1) + 1]);
+                if (!dropping)
+                {
+                    this.copyEntryTo(output, position);
+                }
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        PartitionMutableList<V> result = new PartitionFastList<>();
+        MutableList<V> selected = result.getSelected();
+        MutableList<V> rejected = result.getRejected();
+        boolean selecting = true;
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                V value = (V) this.entries[(position << 1) + 1];
+                selecting = selecting && predicate.accept(value);
+                if (selecting)
+                {
+                    selected.add(value);
+                }
+                else
+                {
+                    rejected.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MutableList<V> distinct()
+    {
+        MutableSet<V> seenSoFar = UnifiedSet.newSet(this.size);
+        MutableList<V> result = Lists.mutable.withInitialCapacity(this.size);
+        this.forEachValue(each ->
+        {
+            if (seenSoFar.add(each))
+            {
+                result.add(each);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withKeyValue(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withMap(Map<? extends K, ? extends V> map)
+    {
+        this.putAll(map);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        this.putAllMapIterable(mapIterable);
+        return this;
+    }
+
+    @Override
+    public void putAllMapIterable(MapIterable<? extends K, ? extends V> mapIterable)
+    {
+        mapIterable.forEachKeyValue(this::put);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        keyValues.forEach(keyVal -> this.put(keyVal.getOne(), keyVal.getTwo()));
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValues)
+    {
+        return this.withAllKeyValues(ArrayAdapter.adapt(keyValues));
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withoutKey(K key)
+    {
+        this.removeKey(key);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> withoutAllKeys(Iterable<? extends K> keys)
+    {
+        keys.forEach(this::removeKey);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> asUnmodifiable()
+    {
+        return UnmodifiableMutableOrderedMap.of(this);
+    }
+
+    @Override
+    public ImmutableOrderedMap<K, V> toImmutable()
+    {
+        return new ImmutableOrderedMapAdapter<>(this);
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> asSynchronized()
+    {
+        return SynchronizedMutableOrderedMap.of(this);
+    }
+
+    @Override
+    public MutableListMultimap<V, K> flip()
+    {
+        MutableListMultimap<V, K> result = FastListMultimap.newMultimap();
+        this.forEachKeyValue((key, value) -> result.put(value, key));
+        return result;
+    }
+
+    @Override
+    public MutableBooleanList collectBoolean(BooleanFunction<? super V> booleanFunction)
+    {
+        BooleanArrayList result = new BooleanArrayList(this.size());
+        this.forEach(new CollectBooleanProcedure<>(booleanFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableByteList collectByte(ByteFunction<? super V> byteFunction)
+    {
+        ByteArrayList result = new ByteArrayList(this.size());
+        this.forEach(new CollectByteProcedure<>(byteFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableCharList collectChar(CharFunction<? super V> charFunction)
+    {
+        CharArrayList result = new CharArrayList(this.size());
+        this.forEach(new CollectCharProcedure<>(charFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableDoubleList collectDouble(DoubleFunction<? super V> doubleFunction)
+    {
+        DoubleArrayList result = new DoubleArrayList(this.size());
+        this.forEach(new CollectDoubleProcedure<>(doubleFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableFloatList collectFloat(FloatFunction<? super V> floatFunction)
+    {
+        FloatArrayList result = new FloatArrayList(this.size());
+        this.forEach(new CollectFloatProcedure<>(floatFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableIntList collectInt(IntFunction<? super V> intFunction)
+    {
+        IntArrayList result = new IntArrayList(this.size());
+        this.forEach(new CollectIntProcedure<>(intFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableLongList collectLong(LongFunction<? super V> longFunction)
+    {
+        LongArrayList result = new LongArrayList(this.size());
+        this.forEach(new CollectLongProcedure<>(longFunction, result));
+        return result;
+    }
+
+    @Override
+    public MutableShortList collectShort(ShortFunction<? super V> shortFunction)
+    {
+        ShortArrayList result = new ShortArrayList(this.size());
+        this.forEach(new CollectShortProcedure<>(shortFunction, result));
+        return result;
+    }
+
+    @Override
+    public <R> MutableOrderedMap<K, R> collectValues(Function2<? super K, ? super V, ? extends R> function)
+    {
+        return MapIterate.collectValues(this, function, new CompactOrderedHashMap<>(this.size()));
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> tap(Procedure<? super V> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> select(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.selectMapOnEntry(this, predicate, this.newEmpty());
+    }
+
+    @Override
+    public MutableOrderedMap<K, V> reject(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.rejectMapOnEntry(this, predicate, this.newEmpty());
+    }
+
+    @Override
+    public <R> MutableList<R> collect(Function<? super V, ? extends R> function)
+    {
+        return this.collect(function, Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public <P, VV> MutableList<VV> collectWith(Function2<? super V, ? super P, ? extends VV> function, P parameter)
+    {
+        return this.collect(Functions.bind(function, parameter));
+    }
+
+    @Override
+    public <R> MutableList<R> collectIf(Predicate<? super V> predicate, Function<? super V, ? extends R> function)
+    {
+        return this.collectIf(predicate, function, Lists.mutable.empty());
+    }
+
+    @Override
+    public <R> MutableList<R> flatCollect(Function<? super V, ? extends Iterable<R>> function)
+    {
+        return this.flatCollect(function, Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public MutableList<V> select(Predicate<? super V> predicate)
+    {
+        return this.select(predicate, Lists.mutable.empty());
+    }
+
+    @Override
+    public MutableList<V> reject(Predicate<? super V> predicate)
+    {
+        return this.reject(predicate, Lists.mutable.empty());
+    }
+
+    @Override
+    public <P> MutableList<V> selectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public <P> MutableList<V> rejectWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public PartitionMutableList<V> partition(Predicate<? super V> predicate)
+    {
+        PartitionMutableList<V> partitionMutableList = new PartitionFastList<>();
+        this.forEach(new PartitionProcedure<>(predicate, partitionMutableList));
+        return partitionMutableList;
+    }
+
+    @Override
+    public <P> PartitionMutableList<V> partitionWith(Predicate2<? super V, ? super P> predicate, P parameter)
+    {
+        PartitionMutableList<V> partitionMutableList = new PartitionFastList<>();
+        this.forEach(new PartitionPredicate2Procedure<>(predicate, parameter, partitionMutableList));
+        return partitionMutableList;
+    }
+
+    @Override
+    public <S> MutableList<S> selectInstancesOf(Class<S> clazz)
+    {
+        MutableList<S> result = Lists.mutable.withInitialCapacity(this.size());
+        this.forEach(new SelectInstancesOfProcedure<>(clazz, result));
+        return result;
+    }
+
+    @Override
+    public <S> MutableList<Pair<V, S>> zip(Iterable<S> that)
+    {
+        return this.zip(that, Lists.mutable.withInitialCapacity(Math.min(this.size(), Iterate.sizeOf(that))));
+    }
+
+    @Override
+    public MutableList<Pair<V, Integer>> zipWithIndex()
+    {
+        return this.zipWithIndex(Lists.mutable.withInitialCapacity(this.size()));
+    }
+
+    @Override
+    public <VV> MutableListMultimap<VV, V> groupBy(Function<? super V, ? extends VV> function)
+    {
+        return this.groupBy(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <VV> MutableListMultimap<VV, V> groupByEach(Function<? super V, ? extends Iterable<VV>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public <VV> MutableOrderedMap<VV, V> groupByUniqueKey(Function<? super V, ? extends VV> function)
+    {
+        CompactOrderedHashMap<VV, V> result = new CompactOrderedHashMap<>(this.size);
+        this.forEachValue(value ->
+        {
+            VV key = function.valueOf(value);
+            int hash = CompactOrderedHashMap.hash(key);
+            if (result.slotOf(key, hash) >= 0)
+            {
+                throw new IllegalStateException("Key " + key + " already exists in map!");
+            }
+            result.insert(key, value, hash);
+        });
+        return result;
+    }
+
+    @Override
+    public LazyIterable<V> asReversed()
+    {
+        return LazyIterate.adapt(ReverseValueIterator::new);
+    }
+
+    @Override
+    public int detectLastIndex(Predicate<? super V> predicate)
+    {
+        int index = this.size;
+        for (int position = this.used - 1; position >= 0; position--)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                index--;
+                if (predicate.accept((V) this.entries[(position << 1) + 1]))
+                {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        return this.detectIndex(Predicates.equal(object));
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super V, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this, other, predicate);
+    }
+
+    @Override
+    public void forEach(int startIndex, int endIndex, Procedure<? super V> procedure)
+    {
+        this.forEachWithIndex(startIndex, endIndex, (each, index) -> procedure.value(each));
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super V> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size);
+        int position = this.positionOf(fromIndex);
+        if (fromIndex <= toIndex)
+        {
+            for (int index = fromIndex; index <= toIndex; index++)
+            {
+                position = this.nextPosition(position);
+                objectIntProcedure.value((V) this.entries[(position << 1) + 1], index);
+                position++;
+            }
+        }
+        else
+        {
+            for (int index = fromIndex; index >= toIndex; index--)
+            {
+                position = this.previousPosition(position);
+                objectIntProcedure.value((V) this.entries[(position << 1) + 1], index);
+                position--;
+            }
+        }
+    }
+
+    @Override
+    public MutableStack<V> toStack()
+    {
+        return ArrayStack.newStack(this);
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super V> predicate)
+    {
+        int index = 0;
+        for (int position = 0; position < this.used; position++)
+        {
+            if (this.entries[position << 1] != REMOVED_KEY)
+            {
+                if (predicate.accept((V) this.entries[(position << 1) + 1]))
+                {
+                    return index;
+                }
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = function.value();
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = value;
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPutWithKey(K key, Function<? super K, ? extends V> function)
+    {
+        return this.getIfAbsentPutWith(key, function, key);
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        V result = this.get(key);
+        if (this.isAbsent(result, key))
+        {
+            result = function.valueOf(parameter);
+            this.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        V oldValue = this.getIfAbsent(key, factory);
+        V newValue = function.valueOf(oldValue);
+        this.put(key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        V oldValue = this.getIfAbsent(key, factory);
+        V newValue = function.value(oldValue, parameter);
+        this.put(key, newValue);
+        return newValue;
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return LazyIterate.adapt(this.keySet());
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return LazyIterate.adapt(this.values());
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return LazyIterate.adapt(this.entrySet()).collect(AbstractImmutableEntry.getPairFunction());
+    }
+
+    @Override
+    public <K2, V2> MutableOrderedMap<K2, V2> collect(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return MapIterate.collect(this, function, new CompactOrderedHashMap<>(this.size()));
+    }
+
+    @Override
+    public MutableOrderedMap<V, K> flipUniqueValues()
+    {
+        CompactOrderedHashMap<V, K> result = new CompactOrderedHashMap<>(this.size);
+        this.forEachKeyValue((key, value) ->
+        {
+            int hash = CompactOrderedHashMap.hash(value);
+            int slot = result.slotOf(value, hash);
+            if (slot >= 0)
+            {
+                K oldKey = (K) result.entries[((result.indices[slot] - 1) << 1) + 1];
+                throw new IllegalStateException("Duplicate value: " + value + " found at key: " + oldKey + " and key: " + key);
+            }
+            result.insert(value, key, hash);
+        });
+        return result;
+    }
+
+    @Override
+    public Pair<K, V> detect(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detect(this, predicate);
+    }
+
+    @Override
+    public Optional<Pair<K, V>> detectOptional(Predicate2<? super K, ? super V> predicate)
+    {
+        return MapIterate.detectOptional(this, predicate);
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByInt(Function<? super V, ? extends V1> groupBy, IntFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByFloat(Function<? super V, ? extends V1> groupBy, FloatFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectLongMap<V1> sumByLong(Function<? super V, ? extends V1> groupBy, LongFunction<? super V> function)
+    {
+        MutableObjectLongMap<V1> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableObjectDoubleMap<V1> sumByDouble(Function<? super V, ? extends V1> groupBy, DoubleFunction<? super V> function)
+    {
+        MutableObjectDoubleMap<V1> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function));
+    }
+
+    @Override
+    public <V1> MutableBag<V1> countBy(Function<? super V, ? extends V1> function)
+    {
+        return this.collect(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public <V1, P> MutableBag<V1> countByWith(Function2<? super V, ? super P, ? extends V1> function, P parameter)
+    {
+        return this.collectWith(function, parameter, Bags.mutable.empty());
+    }
+
+    /**
+     * @since 10.0.0
+     */
+    @Override
+    public <V1> MutableBag<V1> countByEach(Function<? super V, ? extends Iterable<V1>> function)
+    {
+        return this.flatCollect(function, Bags.mutable.empty());
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size);
+        this.forEachKeyValue((key, value) ->
+        {
+            try
+            {
+                out.writeObject(key);
+                out.writeObject(value);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.allocate(CompactOrderedHashMap.indexLengthFor(size));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    /**
+     * Iterates over the entries in insertion order. Removing through the iterator leaves a gap in the array of entries
+     * without moving any other entry, so the iteration continues where it was.
+     */
+    private abstract class EntryPositionIterator<T> implements Iterator<T>
+    {
+        private int position;
+        private int count;
+        private int lastPosition = -1;
+        private int expectedModCount = CompactOrderedHashMap.this.modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < CompactOrderedHashMap.this.size;
+        }
+
+        protected int nextPosition()
+        {
+            if (CompactOrderedHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            while (CompactOrderedHashMap.this.entries[this.position << 1] == REMOVED_KEY)
+            {
+                this.position++;
+            }
+            this.count++;
+            this.lastPosition = this.position;
+            return this.position++;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastPosition == -1)
+            {
+                throw new IllegalStateException();
+            }
+            if (CompactOrderedHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            CompactOrderedHashMap.this.removeSlot(CompactOrderedHashMap.this.slotOfEntry(this.lastPosition));
+            this.expectedModCount = CompactOrderedHashMap.this.modCount;
+            this.count--;
+            this.lastPosition = -1;
+        }
+    }
+
+    private final class KeyIterator extends EntryPositionIterator<K>
+    {
+        @Override
+        public K next()
+        {
+            return (K) CompactOrderedHashMap.this.entries[this.nextPosition() << 1];
+        }
+    }
+
+    private final class ValueIterator extends EntryPositionIterator<V>
+    {
+        @Override
+        public V next()
+        {
+            return (V) CompactOrderedHashMap.this.entries[(this.nextPosition() << 1) + 1];
+        }
+    }
+
+    private final class EntryIterator extends EntryPositionIterator<Entry<K, V>>
+    {
+        @Override
+        public Entry<K, V> next()
+        {
+            int position = this.nextPosition();
+            return new CompactEntry(
+                    (K) CompactOrderedHashMap.this.entries[position << 1],
+                    (V) CompactOrderedHashMap.this.entries[(position << 1) + 1]);
+        }
+    }
+
+    private final class ReverseValueIterator implements Iterator<V>
+    {
+        private int position = CompactOrderedHashMap.this.used;
+        private int count;
+        private final int expectedModCount = CompactOrderedHashMap.this.modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < CompactOrderedHashMap.this.size;
+        }
+
+        @Override
+        public V next()
+        {
+            if (CompactOrderedHashMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.position = CompactOrderedHashMap.this.previousPosition(this.position - 1);
+            this.count++;
+            return (V) CompactOrderedHashMap.this.entries[(this.position << 1) + 1];
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return CompactOrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return CompactOrderedHashMap.this.containsKey(object);
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = CompactOrderedHashMap.this.slotOf(object, CompactOrderedHashMap.hash(object));
+            if (slot < 0)
+            {
+                return false;
+            }
+            CompactOrderedHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactOrderedHashMap.this.clear();
+        }
+    }
+
+    private final class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValueIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return CompactOrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return CompactOrderedHashMap.this.containsValue(object);
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactOrderedHashMap.this.clear();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return CompactOrderedHashMap.this.size;
+        }
+
+        @Override
+        public boolean contains(Object object)
+        {
+            return this.slotOf(object) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object object)
+        {
+            int slot = this.slotOf(object);
+            if (slot < 0)
+            {
+                return false;
+            }
+            CompactOrderedHashMap.this.removeSlot(slot);
+            return true;
+        }
+
+        private int slotOf(Object object)
+        {
+            if (!(object instanceof Entry<?, ?>))
+            {
+                return -1;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) object;
+            Object key = entry.getKey();
+            int slot = CompactOrderedHashMap.this.slotOf(key, CompactOrderedHashMap.hash(key));
+            return slot >= 0
+                    && Objects.equals(CompactOrderedHashMap.this.entries[((CompactOrderedHashMap.this.indices[slot] - 1) << 1) + 1], entry.getValue())
+                    ? slot
+                    : -1;
+        }
+
+        @Override
+        public void clear()
+        {
+            CompactOrderedHashMap.this.clear();
+        }
+    }
+
+    private final class CompactEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private CompactEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            CompactOrderedHashMap.this.put(this.getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
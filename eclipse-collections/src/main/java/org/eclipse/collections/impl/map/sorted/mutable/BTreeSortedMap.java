@@ -0,0 +1,1487 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.partition.list.PartitionFastList;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+
+/**
+ * A MutableSortedMap backed by a B+tree instead of a red-black tree. Keys and values are stored in arrays in the leaves
+ * of the tree, and the leaves are linked in key order, so lookups touch a few contiguous arrays and ordered iteration,
+ * including iteration of the range views returned by headMap, tailMap and subMap, walks the leaves without going back
+ * through the tree. Leaves and branches hold up to 64 entries. A node that becomes empty is removed, but nodes are not
+ * otherwise merged.
+ * <p>
+ * When an entry is appended after the current last key the last leaf is split so that the left leaf stays full, so
+ * maps filled in key order, like time-series indexes, keep their leaves full.
+ *
+ * @since 11.0
+ */
+public class BTreeSortedMap<K, V>
+        extends AbstractMutableSortedMap<K, V>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int NODE_CAPACITY = 64;
+
+    private Comparator<? super K> comparator;
+    private Node root;
+    private Leaf firstLeaf;
+    private Leaf lastLeaf;
+    private int height;
+    private int size;
+    private int modCount;
+
+    public BTreeSortedMap()
+    {
+        this.initialize(null);
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator)
+    {
+        this.initialize(comparator);
+    }
+
+    public BTreeSortedMap(Map<? extends K, ? extends V> map)
+    {
+        this.initialize(null);
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        this.initialize(comparator);
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(SortedMap<K, ? extends V> map)
+    {
+        this.initialize(map.comparator());
+        this.putAll(map);
+    }
+
+    public BTreeSortedMap(Pair<K, V>... pairs)
+    {
+        this.initialize(null);
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(
+                this,
+                Functions.firstOfPair(),
+                Functions.secondOfPair()));
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return new BTreeSortedMap<>();
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return new BTreeSortedMap<>(comparator);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof SortedMap<?, ?>)
+        {
+            return new BTreeSortedMap<>((SortedMap<K, V>) map);
+        }
+        return new BTreeSortedMap<>(map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator, Map<? extends K, ? extends V> map)
+    {
+        return new BTreeSortedMap<>(comparator, map);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<>(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, Pair<K, V>... pairs)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(pairs);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key, V value)
+    {
+        return new BTreeSortedMap<K, V>().with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>().with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key, V value)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key, value);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(Comparator<? super K> comparator, K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> BTreeSortedMap<K, V> newMapWith(
+            Comparator<? super K> comparator,
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new BTreeSortedMap<K, V>(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    private void initialize(Comparator<? super K> newComparator)
+    {
+        this.comparator = newComparator;
+        Leaf leaf = new Leaf();
+        this.root = leaf;
+        this.firstLeaf = leaf;
+        this.lastLeaf = leaf;
+        this.height = 0;
+        this.size = 0;
+    }
+
+    public BTreeSortedMap<K, V> with(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public BTreeSortedMap<K, V> with(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> with(Pair<K, V>... pairs)
+    {
+        ArrayIterate.forEach(pairs, new MapCollectProcedure<Pair<K, V>, K, V>(this, Functions.firstOfPair(), Functions.secondOfPair()));
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> newEmpty()
+    {
+        return new BTreeSortedMap<>(this.comparator);
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf.keys, leaf.size, key);
+        return index >= 0 ? (V) leaf.values[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        return this.search(leaf.keys, leaf.size, key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (Objects.equals(value, leaf.values[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (this.size == 0)
+        {
+            // Type and null check the key, as TreeMap does
+            this.compare(key, key);
+        }
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf.keys, leaf.size, key);
+        if (index >= 0)
+        {
+            V oldValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return oldValue;
+        }
+        int position = -index - 1;
+        if (leaf.size < NODE_CAPACITY)
+        {
+            leaf.insert(position, key, value);
+        }
+        else
+        {
+            this.insertAndSplit(key, value);
+        }
+        this.size++;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        this.checkKey(key);
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf.keys, leaf.size, key);
+        if (index < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) leaf.values[index];
+        leaf.delete(index);
+        this.size--;
+        this.modCount++;
+        if (leaf.size == 0 && this.height > 0)
+        {
+            this.removeEmptyLeaf(key);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.initialize(this.comparator);
+        this.modCount++;
+    }
+
+    @Override
+    public K firstKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.firstLeaf.keys[0];
+    }
+
+    @Override
+    public K lastKey()
+    {
+        if (this.size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        return (K) this.lastLeaf.keys[this.lastLeaf.size - 1];
+    }
+
+    @Override
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(new RangeMap(false, null, false, null).entrySet());
+    }
+
+    @Override
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(new RangeMap(false, null, false, null).keySet());
+    }
+
+    @Override
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(new RangeMap(false, null, false, null).values());
+    }
+
+    @Override
+    public MutableSortedMap<K, V> headMap(K toKey)
+    {
+        this.compare(toKey, toKey);
+        return SortedMapAdapter.adapt(new RangeMap(false, null, true, toKey));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> tailMap(K fromKey)
+    {
+        this.compare(fromKey, fromKey);
+        return SortedMapAdapter.adapt(new RangeMap(true, fromKey, false, null));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        if (this.compare(fromKey, toKey) > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return SortedMapAdapter.adapt(new RangeMap(true, fromKey, true, toKey));
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure2)
+    {
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure2.value((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) leaf.keys[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((V) leaf.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public BTreeSortedMap<K, V> clone()
+    {
+        return new BTreeSortedMap<>(this);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map<?, ?>))
+        {
+            return false;
+        }
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size != other.size())
+        {
+            return false;
+        }
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                Object value = leaf.values[i];
+                Object otherValue = other.get(leaf.keys[i]);
+                if (value == null ? otherValue != null || !other.containsKey(leaf.keys[i]) : !value.equals(otherValue))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                hashCode += Objects.hashCode(leaf.keys[i]) ^ Objects.hashCode(leaf.values[i]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return new RangeMap(false, null, false, null).toString();
+    }
+
+    /**
+     * Returns an iterator over the keys from the last to the first, following the {@code previous} links of the leaves.
+     * The iterator does not support {@code remove()}.
+     */
+    public Iterator<K> reverseKeyIterator()
+    {
+        return new ReverseKeyIterator();
+    }
+
+    @Override
+    public MutableSortedMap<K, V> toReversed()
+    {
+        MutableSortedMap<K, V> output = new BTreeSortedMap<>(Collections.reverseOrder(this.comparator));
+        for (Leaf leaf = this.lastLeaf; leaf != null; leaf = leaf.previous)
+        {
+            for (int i = leaf.size - 1; i >= 0; i--)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = this.newEmpty();
+        int remaining = count;
+        for (Leaf leaf = this.firstLeaf; leaf != null && remaining > 0; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size && remaining > 0; i++, remaining--)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        MutableSortedMap<K, V> output = this.newEmpty();
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (!predicate.accept((V) leaf.values[i]))
+                {
+                    return output;
+                }
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = SortedMaps.mutable.of(this.comparator());
+        int skip = count;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            if (skip >= leaf.size)
+            {
+                skip -= leaf.size;
+                continue;
+            }
+            for (int i = skip; i < leaf.size; i++)
+            {
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+            skip = 0;
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        MutableSortedMap<K, V> output = this.newEmpty();
+        boolean dropping = true;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (dropping && predicate.accept((V) leaf.values[i]))
+                {
+                    continue;
+                }
+                dropping = false;
+                output.put((K) leaf.keys[i], (V) leaf.values[i]);
+            }
+        }
+        return output;
+    }
+
+    @Override
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        PartitionFastList<V> result = new PartitionFastList<>();
+        MutableList<V> selected = result.getSelected();
+        MutableList<V> rejected = result.getRejected();
+        boolean selecting = true;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                V value = (V) leaf.values[i];
+                if (selecting && predicate.accept(value))
+                {
+                    selected.add(value);
+                }
+                else
+                {
+                    selecting = false;
+                    rejected.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MutableList<V> distinct()
+    {
+        MutableSet<V> seen = UnifiedSet.newSet();
+        MutableList<V> result = FastList.newList();
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                V value = (V) leaf.values[i];
+                if (seen.add(value))
+                {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator);
+        out.writeInt(this.size);
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                out.writeObject(leaf.keys[i]);
+                out.writeObject(leaf.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.initialize((Comparator<? super K>) in.readObject());
+        int size = in.readInt();
+        for (int i = 0; i < size; ++i)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    private int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : this.comparator.compare((K) key1, (K) key2);
+    }
+
+    private void checkKey(Object key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+    }
+
+    /**
+     * Binary search of the first {@code count} keys, with the same result convention as {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     */
+    private int search(Object[] keys, int count, Object key)
+    {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high)
+        {
+            int middle = (low + high) >>> 1;
+            int comparison = this.compare(keys[middle], key);
+            if (comparison < 0)
+            {
+                low = middle + 1;
+            }
+            else if (comparison > 0)
+            {
+                high = middle - 1;
+            }
+            else
+            {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int childIndex(Branch branch, Object key)
+    {
+        int index = this.search(branch.keys, branch.size - 1, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private Leaf findLeaf(Object key)
+    {
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            node = branch.children[this.childIndex(branch, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the leaf and index of the first entry whose key is not less than {@code key}, or whose key is greater
+     * than {@code key} if {@code inclusive} is false. The returned index is past the end of the leaf if there is no such entry.
+     */
+    private Position ceiling(Object key, boolean inclusive)
+    {
+        Leaf leaf = this.findLeaf(key);
+        int index = this.search(leaf.keys, leaf.size, key);
+        int position = index >= 0 ? (inclusive ? index : index + 1) : -index - 1;
+        return new Position(leaf, position);
+    }
+
+    private void insertAndSplit(K key, V value)
+    {
+        Branch[] path = new Branch[this.height];
+        int[] childIndexes = new int[this.height];
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = this.childIndex(branch, key);
+            path[level] = branch;
+            childIndexes[level] = childIndex;
+            node = branch.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        int position = -this.search(leaf.keys, leaf.size, key) - 1;
+        Leaf right = leaf.insertAndSplit(position, key, value);
+        if (leaf == this.lastLeaf)
+        {
+            this.lastLeaf = right;
+        }
+
+        Object separator = right.keys[0];
+        Node newChild = right;
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            Branch parent = path[level];
+            int childPosition = childIndexes[level] + 1;
+            if (parent.size < NODE_CAPACITY)
+            {
+                parent.insert(childPosition, separator, newChild);
+                return;
+            }
+            Branch rightBranch = new Branch();
+            separator = parent.insertAndSplit(childPosition, separator, newChild, rightBranch);
+            newChild = rightBranch;
+        }
+        Branch newRoot = new Branch();
+        newRoot.children[0] = this.root;
+        newRoot.children[1] = newChild;
+        newRoot.keys[0] = separator;
+        newRoot.size = 2;
+        this.root = newRoot;
+        this.height++;
+    }
+
+    /**
+     * Unlinks the leaf that {@code key} belongs to, which has just become empty, and removes any branches left without children.
+     */
+    private void removeEmptyLeaf(Object key)
+    {
+        Branch[] path = new Branch[this.height];
+        int[] childIndexes = new int[this.height];
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = this.childIndex(branch, key);
+            path[level] = branch;
+            childIndexes[level] = childIndex;
+            node = branch.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        if (leaf.previous == null)
+        {
+            this.firstLeaf = leaf.next;
+        }
+        else
+        {
+            leaf.previous.next = leaf.next;
+        }
+        if (leaf.next == null)
+        {
+            this.lastLeaf = leaf.previous;
+        }
+        else
+        {
+            leaf.next.previous = leaf.previous;
+        }
+
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            Branch parent = path[level];
+            parent.delete(childIndexes[level]);
+            if (parent.size > 0)
+            {
+                break;
+            }
+        }
+        while (this.height > 0 && ((Branch) this.root).size == 1)
+        {
+            this.root = ((Branch) this.root).children[0];
+            this.height--;
+        }
+    }
+
+    private final class ReverseKeyIterator implements Iterator<K>
+    {
+        private Leaf leaf = BTreeSortedMap.this.lastLeaf;
+        private int index = this.leaf.size - 1;
+        private final int expectedModCount = BTreeSortedMap.this.modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.leaf != null && this.index < 0)
+            {
+                this.leaf = this.leaf.previous;
+                this.index = this.leaf == null ? -1 : this.leaf.size - 1;
+            }
+            return this.leaf != null;
+        }
+
+        @Override
+        public K next()
+        {
+            if (BTreeSortedMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) this.leaf.keys[this.index--];
+        }
+    }
+
+    private abstract static class Node
+    {
+        protected final Object[] keys = new Object[NODE_CAPACITY];
+        protected int size;
+    }
+
+    private static final class Leaf extends Node
+    {
+        private final Object[] values = new Object[NODE_CAPACITY];
+        private Leaf previous;
+        private Leaf next;
+
+        private void insert(int position, Object key, Object value)
+        {
+            System.arraycopy(this.keys, position, this.keys, position + 1, this.size - position);
+            System.arraycopy(this.values, position, this.values, position + 1, this.size - position);
+            this.keys[position] = key;
+            this.values[position] = value;
+            this.size++;
+        }
+
+        private void delete(int index)
+        {
+            int moved = this.size - index - 1;
+            System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+            System.arraycopy(this.values, index + 1, this.values, index, moved);
+            this.size--;
+            this.keys[this.size] = null;
+            this.values[this.size] = null;
+        }
+
+        /**
+         * Inserts into this full leaf by moving its upper half into a new leaf, which is linked after this one and returned.
+         * An append to the last leaf moves only the new entry, leaving this leaf full.
+         */
+        private Leaf insertAndSplit(int position, Object key, Object value)
+        {
+            int leftSize = position == NODE_CAPACITY && this.next == null ? NODE_CAPACITY : (NODE_CAPACITY + 1) / 2;
+            Leaf right = new Leaf();
+            if (position < leftSize)
+            {
+                int moved = NODE_CAPACITY - (leftSize - 1);
+                System.arraycopy(this.keys, leftSize - 1, right.keys, 0, moved);
+                System.arraycopy(this.values, leftSize - 1, right.values, 0, moved);
+                right.size = moved;
+                this.clearFrom(leftSize - 1);
+                this.insert(position, key, value);
+            }
+            else
+            {
+                int moved = NODE_CAPACITY - leftSize;
+                System.arraycopy(this.keys, leftSize, right.keys, 0, moved);
+                System.arraycopy(this.values, leftSize, right.values, 0, moved);
+                right.size = moved;
+                this.clearFrom(leftSize);
+                right.insert(position - leftSize, key, value);
+            }
+            right.next = this.next;
+            right.previous = this;
+            if (this.next != null)
+            {
+                this.next.previous = right;
+            }
+            this.next = right;
+            return right;
+        }
+
+        private void clearFrom(int index)
+        {
+            for (int i = index; i < this.size; i++)
+            {
+                this.keys[i] = null;
+                this.values[i] = null;
+            }
+            this.size = index;
+        }
+    }
+
+    /**
+     * keys[i] is the smallest key reachable through children[i + 1], so a branch with {@code size} children has {@code size - 1} keys.
+     */
+    private static final class Branch extends Node
+    {
+        private final Node[] children = new Node[NODE_CAPACITY];
+
+        private void insert(int childPosition, Object separator, Node child)
+        {
+            System.arraycopy(this.children, childPosition, this.children, childPosition + 1, this.size - childPosition);
+            System.arraycopy(this.keys, childPosition - 1, this.keys, childPosition, this.size - childPosition);
+            this.children[childPosition] = child;
+            this.keys[childPosition - 1] = separator;
+            this.size++;
+        }
+
+        private void delete(int childIndex)
+        {
+            int keyIndex = childIndex == 0 ? 0 : childIndex - 1;
+            System.arraycopy(this.children, childIndex + 1, this.children, childIndex, this.size - childIndex - 1);
+            if (this.size > 1)
+            {
+                System.arraycopy(this.keys, keyIndex + 1, this.keys, keyIndex, this.size - keyIndex - 2);
+                this.keys[this.size - 2] = null;
+            }
+            this.size--;
+            this.children[this.size] = null;
+        }
+
+        /**
+         * Inserts into this full branch and moves the upper children into {@code right}. Returns the separator between the two branches.
+         * An append moves only the new child, leaving this branch full.
+         */
+        private Object insertAndSplit(int childPosition, Object separator, Node child, Branch right)
+        {
+            Node[] allChildren = new Node[NODE_CAPACITY + 1];
+            Object[] allKeys = new Object[NODE_CAPACITY];
+            System.arraycopy(this.children, 0, allChildren, 0, childPosition);
+            allChildren[childPosition] = child;
+            System.arraycopy(this.children, childPosition, allChildren, childPosition + 1, NODE_CAPACITY - childPosition);
+            System.arraycopy(this.keys, 0, allKeys, 0, childPosition - 1);
+            allKeys[childPosition - 1] = separator;
+            System.arraycopy(this.keys, childPosition - 1, allKeys, childPosition, NODE_CAPACITY - childPosition);
+
+            int leftSize = childPosition == NODE_CAPACITY ? NODE_CAPACITY : (NODE_CAPACITY + 1) / 2;
+            int rightSize = NODE_CAPACITY + 1 - leftSize;
+            System.arraycopy(allChildren, 0, this.children, 0, leftSize);
+            System.arraycopy(allKeys, 0, this.keys, 0, leftSize - 1);
+            for (int i = leftSize; i < NODE_CAPACITY; i++)
+            {
+                this.children[i] = null;
+            }
+            for (int i = leftSize - 1; i < NODE_CAPACITY; i++)
+            {
+                this.keys[i] = null;
+            }
+            this.size = leftSize;
+
+            System.arraycopy(allChildren, leftSize, right.children, 0, rightSize);
+            System.arraycopy(allKeys, leftSize, right.keys, 0, rightSize - 1);
+            right.size = rightSize;
+            return allKeys[leftSize - 1];
+        }
+    }
+
+    private static final class Position
+    {
+        private Leaf leaf;
+        private int index;
+
+        private Position(Leaf leaf, int index)
+        {
+            this.leaf = leaf;
+            this.index = index;
+            this.skipExhaustedLeaves();
+        }
+
+        private void skipExhaustedLeaves()
+        {
+            while (this.leaf != null && this.index >= this.leaf.size)
+            {
+                this.leaf = this.leaf.next;
+                this.index = 0;
+            }
+        }
+    }
+
+    /**
+     * A java.util.SortedMap view of the keys from {@code lowKey} (inclusive) to {@code highKey} (exclusive), where either bound may be absent.
+     * The unbounded view backs the entrySet, keySet and values of the map.
+     */
+    private final class RangeMap extends AbstractMap<K, V> implements SortedMap<K, V>
+    {
+        private final boolean hasLowKey;
+        private final K lowKey;
+        private final boolean hasHighKey;
+        private final K highKey;
+
+        private RangeMap(boolean hasLowKey, K lowKey, boolean hasHighKey, K highKey)
+        {
+            this.hasLowKey = hasLowKey;
+            this.lowKey = lowKey;
+            this.hasHighKey = hasHighKey;
+            this.highKey = highKey;
+        }
+
+        private boolean isBounded()
+        {
+            return this.hasLowKey || this.hasHighKey;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return this.hasLowKey && BTreeSortedMap.this.compare(key, this.lowKey) < 0;
+        }
+
+        private boolean tooHigh(Object key)
+        {
+            return this.hasHighKey && BTreeSortedMap.this.compare(key, this.highKey) >= 0;
+        }
+
+        private boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private Position first()
+        {
+            return this.hasLowKey
+                    ? BTreeSortedMap.this.ceiling(this.lowKey, true)
+                    : new Position(BTreeSortedMap.this.firstLeaf, 0);
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return BTreeSortedMap.this.comparator;
+        }
+
+        @Override
+        public int size()
+        {
+            if (!this.isBounded())
+            {
+                return BTreeSortedMap.this.size;
+            }
+            int count = 0;
+            for (RangeIterator<K> iterator = new KeyIterator(); iterator.hasNext(); iterator.next())
+            {
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return !new KeyIterator().hasNext();
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.inRange(key) && BTreeSortedMap.this.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.get(key) : null;
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeSortedMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.inRange(key) ? BTreeSortedMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            if (this.isBounded())
+            {
+                Iterator<K> iterator = new KeyIterator();
+                while (iterator.hasNext())
+                {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+            else
+            {
+                BTreeSortedMap.this.clear();
+            }
+        }
+
+        @Override
+        public K firstKey()
+        {
+            Position position = this.first();
+            if (position.leaf == null || this.tooHigh(position.leaf.keys[position.index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) position.leaf.keys[position.index];
+        }
+
+        @Override
+        public K lastKey()
+        {
+            Leaf leaf;
+            int index;
+            if (this.hasHighKey)
+            {
+                Position position = BTreeSortedMap.this.ceiling(this.highKey, true);
+                leaf = position.leaf;
+                index = position.index - 1;
+                if (leaf == null)
+                {
+                    leaf = BTreeSortedMap.this.lastLeaf;
+                    index = leaf.size - 1;
+                }
+                else if (index < 0)
+                {
+                    leaf = leaf.previous;
+                    index = leaf == null ? -1 : leaf.size - 1;
+                }
+            }
+            else
+            {
+                leaf = BTreeSortedMap.this.lastLeaf;
+                index = leaf.size - 1;
+            }
+            if (leaf == null || index < 0 || this.tooLow(leaf.keys[index]))
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) leaf.keys[index];
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            if (this.tooLow(toKey) || this.hasHighKey && BTreeSortedMap.this.compare(toKey, this.highKey) > 0)
+            {
+                throw new IllegalArgumentException("toKey out of range");
+            }
+            return new RangeMap(this.hasLowKey, this.lowKey, true, toKey);
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            if (this.tooLow(fromKey) || this.hasHighKey && BTreeSortedMap.this.compare(fromKey, this.highKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey out of range");
+            }
+            return new RangeMap(true, fromKey, this.hasHighKey, this.highKey);
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            if (BTreeSortedMap.this.compare(fromKey, toKey) > 0)
+            {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            if (this.tooLow(fromKey) || this.hasHighKey && BTreeSortedMap.this.compare(toKey, this.highKey) > 0)
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return new RangeMap(true, fromKey, true, toKey);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new AbstractSet<Entry<K, V>>()
+            {
+                @Override
+                public Iterator<Entry<K, V>> iterator()
+                {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return RangeMap.this.size();
+                }
+
+                @Override
+                public boolean contains(Object object)
+                {
+                    if (!(object instanceof Entry<?, ?>))
+                    {
+                        return false;
+                    }
+                    Entry<?, ?> entry = (Entry<?, ?>) object;
+                    Object key = entry.getKey();
+                    return RangeMap.this.containsKey(key) && Objects.equals(RangeMap.this.get(key), entry.getValue());
+                }
+
+                @Override
+                public boolean remove(Object object)
+                {
+                    if (this.contains(object))
+                    {
+                        RangeMap.this.remove(((Entry<?, ?>) object).getKey());
+                        return true;
+                    }
+                    return false;
+                }
+
+                @Override
+                public void clear()
+                {
+                    RangeMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public Set<K> keySet()
+        {
+            return new AbstractSet<K>()
+            {
+                @Override
+                public Iterator<K> iterator()
+                {
+                    return new KeyIterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return RangeMap.this.size();
+                }
+
+                @Override
+                public boolean contains(Object object)
+                {
+                    return RangeMap.this.containsKey(object);
+                }
+
+                @Override
+                public boolean remove(Object object)
+                {
+                    if (RangeMap.this.containsKey(object))
+                    {
+                        RangeMap.this.remove(object);
+                        return true;
+                    }
+                    return false;
+                }
+
+                @Override
+                public void clear()
+                {
+                    RangeMap.this.clear();
+                }
+            };
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            return new AbstractCollection<V>()
+            {
+                @Override
+                public Iterator<V> iterator()
+                {
+                    return new ValueIterator();
+                }
+
+                @Override
+                public int size()
+                {
+                    return RangeMap.this.size();
+                }
+
+                @Override
+                public void clear()
+                {
+                    RangeMap.this.clear();
+                }
+            };
+        }
+
+        private abstract class RangeIterator<T> implements Iterator<T>
+        {
+            private Position next = RangeMap.this.first();
+            private Leaf lastLeaf;
+            private int lastIndex = -1;
+            private int expectedModCount = BTreeSortedMap.this.modCount;
+
+            protected abstract T element(Leaf leaf, int index);
+
+            @Override
+            public boolean hasNext()
+            {
+                return this.next.leaf != null && !RangeMap.this.tooHigh(this.next.leaf.keys[this.next.index]);
+            }
+
+            @Override
+            public T next()
+            {
+                if (BTreeSortedMap.this.modCount != this.expectedModCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+                this.lastLeaf = this.next.leaf;
+                this.lastIndex = this.next.index;
+                this.next.index++;
+                this.next.skipExhaustedLeaves();
+                return this.element(this.lastLeaf, this.lastIndex);
+            }
+
+            @Override
+            public void remove()
+            {
+                if (this.lastIndex < 0)
+                {
+                    throw new IllegalStateException();
+                }
+                if (BTreeSortedMap.this.modCount != this.expectedModCount)
+                {
+                    throw new ConcurrentModificationException();
+                }
+                Object nextKey = this.next.leaf == null ? null : this.next.leaf.keys[this.next.index];
+                BTreeSortedMap.this.remove(this.lastLeaf.keys[this.lastIndex]);
+                if (this.next.leaf != null)
+                {
+                    this.next = BTreeSortedMap.this.ceiling(nextKey, true);
+                }
+                this.lastLeaf = null;
+                this.lastIndex = -1;
+                this.expectedModCount = BTreeSortedMap.this.modCount;
+            }
+        }
+
+        private final class KeyIterator extends RangeIterator<K>
+        {
+            @Override
+            protected K element(Leaf leaf, int index)
+            {
+                return (K) leaf.keys[index];
+            }
+        }
+
+        private final class ValueIterator extends RangeIterator<V>
+        {
+            @Override
+            protected V element(Leaf leaf, int index)
+            {
+                return (V) leaf.values[index];
+            }
+        }
+
+        private final class EntryIterator extends RangeIterator<Entry<K, V>>
+        {
+            @Override
+            protected Entry<K, V> element(Leaf leaf, int index)
+            {
+                return new BTreeEntry((K) leaf.keys[index], (V) leaf.values[index]);
+            }
+        }
+    }
+
+    private final class BTreeEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private BTreeEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            BTreeSortedMap.this.put(this.getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.ConcurrentMutableMultimap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.procedure.checked.MultimapKeyValuesSerializingProcedure;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A multimap which keeps a collection of values per key in a {@link ConcurrentHashMap} and guards each collection with
+ * its own monitor, so threads updating or reading different keys never contend.
+ * <p>
+ * The collection of a key is only ever in the map while it has values. It is created holding its first values and
+ * published with {@code putIfAbsent}, and it is removed from the map, while its monitor is held, as soon as it becomes
+ * empty or its values are replaced. A thread which locks a collection therefore checks that the collection is still
+ * the one mapped to its key, and retries with the current one if it is not.
+ * <p>
+ * Readers never see the collections themselves: {@link #get(Object)} and every iteration copy the values of each key
+ * while holding its monitor.
+ *
+ * @since 11.0
+ */
+public abstract class AbstractConcurrentMutableMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractMutableMultimap<K, V, C>
+        implements ConcurrentMutableMultimap<K, V>
+{
+    private final LongAdder totalSizeAdder = new LongAdder();
+
+    protected AbstractConcurrentMutableMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMutableMultimap(int keyCount)
+    {
+        super(keyCount);
+    }
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.totalSizeAdder.intValue();
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+        this.totalSizeAdder.increment();
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+        this.totalSizeAdder.decrement();
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+        this.totalSizeAdder.add(value);
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+        this.totalSizeAdder.add(-value);
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+        this.totalSizeAdder.reset();
+    }
+
+    /**
+     * Returns a copy of the values of a collection taken from the map, made while holding its monitor.
+     */
+    protected C copyOf(C collection)
+    {
+        synchronized (collection)
+        {
+            C copy = this.createCollection();
+            copy.addAll(collection);
+            return copy;
+        }
+    }
+
+    /**
+     * Calls the procedure with each key and a copy of its values, skipping keys removed while copying.
+     */
+    protected void forEachKeyCopy(Procedure2<? super K, ? super C> procedure)
+    {
+        this.map.forEachKeyValue((key, collection) ->
+        {
+            C copy = this.copyOf(collection);
+            if (copy.notEmpty())
+            {
+                procedure.value(key, copy);
+            }
+        });
+    }
+
+    private boolean isMapped(K key, C collection)
+    {
+        return this.map.get(key) == collection;
+    }
+
+    // Modification Operations
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                C newCollection = this.createCollection();
+                newCollection.add(value);
+                collection = this.map.putIfAbsent(key, newCollection);
+                if (collection == null)
+                {
+                    this.incrementTotalSize();
+                    return true;
+                }
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped(key, collection))
+                {
+                    if (collection.add(value))
+                    {
+                        this.incrementTotalSize();
+                        return true;
+                    }
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        if (newValues.isEmpty())
+        {
+            return false;
+        }
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                collection = this.map.putIfAbsent(key, newValues);
+                if (collection == null)
+                {
+                    this.addToTotalSize(newValues.size());
+                    return true;
+                }
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped(key, collection))
+                {
+                    int oldSize = collection.size();
+                    collection.addAll(newValues);
+                    int newSize = collection.size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public <KK extends K, VV extends V> boolean putAll(Multimap<KK, VV> multimap)
+    {
+        class PutProcedure implements Procedure2<KK, Iterable<VV>>
+        {
+            private static final long serialVersionUID = 1L;
+
+            private boolean changed;
+
+            @Override
+            public void value(KK key, Iterable<VV> values)
+            {
+                this.changed |= AbstractConcurrentMutableMultimap.this.putAll(key, values);
+            }
+        }
+
+        PutProcedure putProcedure = new PutProcedure();
+        multimap.forEachKeyMultiValues(putProcedure);
+        return putProcedure.changed;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                return false;
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped((K) key, collection))
+                {
+                    if (!collection.remove(value))
+                    {
+                        return false;
+                    }
+                    this.decrementTotalSize();
+                    if (collection.isEmpty())
+                    {
+                        this.map.remove(key);
+                    }
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        if (newValues.isEmpty())
+        {
+            return this.removeAll(key);
+        }
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                collection = this.map.putIfAbsent(key, newValues);
+                if (collection == null)
+                {
+                    this.addToTotalSize(newValues.size());
+                    return (C) this.createCollection().asUnmodifiable();
+                }
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped(key, collection))
+                {
+                    this.map.put(key, newValues);
+                    this.addToTotalSize(newValues.size() - collection.size());
+                    return (C) collection.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                return (C) this.createCollection().asUnmodifiable();
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped((K) key, collection))
+                {
+                    this.map.remove(key);
+                    this.subtractFromTotalSize(collection.size());
+                    return (C) collection.asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the keys one at a time. Values put while the multimap is being cleared may or may not survive.
+     */
+    @Override
+    public void clear()
+    {
+        this.map.forEachKey(this::removeAll);
+    }
+
+    @Override
+    public C getIfAbsentPutAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.get(key);
+        }
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                C newValues = Iterate.addAllTo(values, this.createCollection());
+                C copy = this.copyOf(newValues);
+                collection = this.map.putIfAbsent(key, newValues);
+                if (collection == null)
+                {
+                    this.addToTotalSize(newValues.size());
+                    return (C) copy.asUnmodifiable();
+                }
+            }
+            synchronized (collection)
+            {
+                if (this.isMapped(key, collection))
+                {
+                    return (C) this.copyOf(collection).asUnmodifiable();
+                }
+            }
+        }
+    }
+
+    // Query Operations
+
+    @Override
+    public C get(K key)
+    {
+        C collection = this.map.get(key);
+        return (C) (collection == null ? this.createCollection() : this.copyOf(collection)).asUnmodifiable();
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.map.anySatisfy(collection ->
+        {
+            synchronized (collection)
+            {
+                return collection.contains(value);
+            }
+        });
+    }
+
+    @Override
+    public boolean containsKeyAndValue(Object key, Object value)
+    {
+        C collection = this.map.get(key);
+        if (collection == null)
+        {
+            return false;
+        }
+        synchronized (collection)
+        {
+            return collection.contains(value);
+        }
+    }
+
+    // Views
+
+    @Override
+    public RichIterable<RichIterable<V>> multiValuesView()
+    {
+        return this.keyMultiValuePairsView().collect(Pair::getTwo);
+    }
+
+    @Override
+    public Bag<K> keyBag()
+    {
+        MutableBag<K> bag = Bags.mutable.empty();
+        this.forEachKeyCopy((key, values) -> bag.addOccurrences(key, values.size()));
+        return bag;
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return this.multiValuesView().flatCollect(Functions.<Iterable<V>>identity());
+    }
+
+    @Override
+    public RichIterable<Pair<K, RichIterable<V>>> keyMultiValuePairsView()
+    {
+        return this.map.keyValuesView()
+                .collect(pair -> Tuples.<K, RichIterable<V>>pair(pair.getOne(), this.copyOf(pair.getTwo()).asUnmodifiable()))
+                .select(pair -> pair.getTwo().notEmpty());
+    }
+
+    @Override
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        MutableMap<K, RichIterable<V>> result = (MutableMap<K, RichIterable<V>>) (MutableMap<?, ?>) this.map.newEmpty();
+        this.forEachKeyCopy(result::put);
+        return result;
+    }
+
+    @Override
+    public <R extends Collection<V>> MutableMap<K, R> toMap(Function0<R> collectionFactory)
+    {
+        MutableMap<K, R> result = (MutableMap<K, R>) this.createMapWithKeyCount(this.map.size());
+        this.forEachKeyCopy((key, values) ->
+        {
+            R collection = collectionFactory.value();
+            collection.addAll(values);
+            result.put(key, collection);
+        });
+        return result;
+    }
+
+    // Iteration
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyCopy((key, values) -> values.forEach(procedure));
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.forEachKeyCopy((key, values) -> values.forEach(value -> procedure.value(key, value)));
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super Iterable<V>> procedure)
+    {
+        this.forEachKeyCopy(procedure);
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R selectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        this.forEachKeyCopy((key, values) -> target.putAll(key, values.select(value -> predicate.accept(key, value))));
+        return target;
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R rejectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        this.forEachKeyCopy((key, values) -> target.putAll(key, values.reject(value -> predicate.accept(key, value))));
+        return target;
+    }
+
+    @Override
+    public <K2, V2, R extends MutableMultimap<K2, V2>> R collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function, R target)
+    {
+        this.forEachKeyCopy((key, values) -> values.each(value -> target.add(function.value(key, value))));
+        return target;
+    }
+
+    @Override
+    public <V2, R extends MutableMultimap<K, V2>> R collectValues(Function<? super V, ? extends V2> function, R target)
+    {
+        this.forEachKeyCopy((key, values) -> target.putAll(key, values.collect(function)));
+        return target;
+    }
+
+    // Comparison and hashing
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (object == this)
+        {
+            return true;
+        }
+        if (object instanceof Multimap)
+        {
+            Multimap<?, ?> that = (Multimap<?, ?>) object;
+            return this.toMap().equals(that.toMap());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.toMap().hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toMap().toString();
+    }
+
+    /**
+     * Writes a copy of the values of each key in the same form as the other mutable multimaps.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableMap<K, C> copy = UnifiedMap.newMap();
+        this.forEachKeyCopy(copy::put);
+        out.writeInt(copy.size());
+        copy.forEachKeyValue(new MultimapKeyValuesSerializingProcedure<>(out));
+    }
+}
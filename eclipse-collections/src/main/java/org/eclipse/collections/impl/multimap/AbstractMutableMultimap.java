@@ -21,6 +21,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.ConcurrentMutableMultimap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.set.SetIterable;
@@ -209,7 +210,7 @@ public abstract class AbstractMutableMultimap<K, V, C extends MutableCollection<
     @Override
     public <KK extends K, VV extends V> boolean putAll(Multimap<KK, VV> multimap)
     {
-        if (multimap instanceof AbstractMutableMultimap)
+        if (multimap instanceof AbstractMutableMultimap && !(multimap instanceof ConcurrentMutableMultimap))
         {
             return this.putAllAbstractMutableMultimap((AbstractMutableMultimap<KK, VV, MutableCollection<VV>>) multimap);
         }
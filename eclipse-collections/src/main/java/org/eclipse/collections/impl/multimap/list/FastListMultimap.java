@@ -18,6 +18,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
@@ -115,6 +116,18 @@ public final class FastListMultimap<K, V>
         }
     }
 
+    /**
+     * Returns an immutable copy of this multimap in the compressed sparse row layout of
+     * {@link ImmutableCompactListMultimap}, which is much smaller than {@link #toImmutable()} for multimaps with many
+     * keys and few values per key.
+     *
+     * @since 11.0
+     */
+    public ImmutableListMultimap<K, V> toCompactImmutable()
+    {
+        return ImmutableCompactListMultimap.newMultimap(this);
+    }
+
     @Override
     public FastListMultimap<K, V> newEmpty()
     {
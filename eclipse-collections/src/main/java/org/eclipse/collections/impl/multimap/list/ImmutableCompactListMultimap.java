@@ -0,0 +1,637 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Collection;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.factory.Bags;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.list.ImmutableListBuilder;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.AbstractMultimap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableListMultimap stored in a compressed sparse row layout. The distinct keys are kept in a single open
+ * addressed hash table and all the values are kept in a single flat list, ordered by the slot of their key. An array
+ * of offsets parallel to the table holds the start of the values of each slot, so the values of a key are the range
+ * between its offset and the offset of the next slot.
+ * <p>
+ * Compared to {@link ImmutableListMultimapImpl}, which holds a map entry and an ImmutableList for every key, this
+ * layout costs two array slots per table slot plus one slot per value, which makes it much smaller for multimaps with
+ * many keys and few values per key. {@link #get(Object)} returns a view of the range of values without copying them.
+ * Instances are created with {@link FastListMultimap#toCompactImmutable()} or {@link #newMultimap(Multimap)}.
+ *
+ * @since 11.0
+ */
+public final class ImmutableCompactListMultimap<K, V>
+        extends AbstractMultimap<K, V, ImmutableList<V>>
+        implements ImmutableListMultimap<K, V>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+    private static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ImmutableCompactListMultimap.NULL_KEY";
+        }
+    };
+
+    private final Object[] keys;
+    private final int[] offsets;
+    private final ImmutableList<V> values;
+    private final int distinctKeys;
+
+    private ImmutableCompactListMultimap(Object[] keys, int[] offsets, ImmutableList<V> values, int distinctKeys)
+    {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.values = values;
+        this.distinctKeys = distinctKeys;
+    }
+
+    public static <K, V> ImmutableCompactListMultimap<K, V> newMultimap(Multimap<? extends K, ? extends V> multimap)
+    {
+        int tableSize = ImmutableCompactListMultimap.tableSizeFor(multimap.sizeDistinct());
+        Object[] keys = new Object[tableSize];
+        int[] offsets = new int[tableSize + 1];
+        Iterable<?>[] valuesBySlot = new Iterable<?>[tableSize];
+
+        // first pass places the keys and counts their values
+        multimap.forEachKeyMultiValues((key, iterable) -> {
+            int size = Iterate.sizeOf(iterable);
+            if (size > 0)
+            {
+                int slot = ImmutableCompactListMultimap.findSlot(keys, key);
+                keys[slot] = ImmutableCompactListMultimap.toSentinelIfNull(key);
+                offsets[slot + 1] = size;
+                valuesBySlot[slot] = iterable;
+            }
+        });
+        int distinctKeys = 0;
+        for (int i = 0; i < tableSize; i++)
+        {
+            if (keys[i] != null)
+            {
+                distinctKeys++;
+            }
+            offsets[i + 1] += offsets[i];
+        }
+
+        // second pass appends the values in slot order; the builder is sized exactly, so it hands over its array
+        ImmutableListBuilder<V> values = Lists.immutable.builder(offsets[tableSize]);
+        for (Iterable<?> iterable : valuesBySlot)
+        {
+            if (iterable != null)
+            {
+                values.addAll((Iterable<? extends V>) iterable);
+            }
+        }
+        return new ImmutableCompactListMultimap<>(keys, offsets, values.build(), distinctKeys);
+    }
+
+    private static int tableSizeFor(int distinctKeys)
+    {
+        // keeps the table at most three quarters full so every probe sequence reaches an empty slot
+        int tableSize = 2;
+        while (tableSize < MAXIMUM_TABLE_SIZE && (tableSize >> 2) * 3 < distinctKeys)
+        {
+            tableSize <<= 1;
+        }
+        return tableSize;
+    }
+
+    private static int index(Object key, int mask)
+    {
+        // same spreading as UnifiedMap
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 20 ^ h >>> 12;
+        h ^= h >>> 7 ^ h >>> 4;
+        return h & mask;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or if it is absent, the empty slot ending its probe sequence.
+     */
+    private static int findSlot(Object[] keys, Object key)
+    {
+        Object sentinel = ImmutableCompactListMultimap.toSentinelIfNull(key);
+        int mask = keys.length - 1;
+        int index = ImmutableCompactListMultimap.index(key, mask);
+        while (true)
+        {
+            Object current = keys[index];
+            if (current == null || current == sentinel || current.equals(sentinel))
+            {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static <K> K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private int slotOf(Object key)
+    {
+        int slot = ImmutableCompactListMultimap.findSlot(this.keys, key);
+        return this.keys[slot] == null ? -1 : slot;
+    }
+
+    private ImmutableList<V> valuesOfSlot(int slot)
+    {
+        return this.values.subList(this.offsets[slot], this.offsets[slot + 1]);
+    }
+
+    /**
+     * Materializes a map from each key to a view of its values. It is only used by the operations which have to return
+     * or compare whole maps.
+     */
+    @Override
+    protected MutableMap<K, ImmutableList<V>> getMap()
+    {
+        MutableMap<K, ImmutableList<V>> map = UnifiedMap.newMap(this.distinctKeys);
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                map.put(ImmutableCompactListMultimap.nonSentinel(this.keys[i]), this.valuesOfSlot(i));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    protected ImmutableList<V> createCollection()
+    {
+        return Lists.immutable.empty();
+    }
+
+    // Query Operations
+
+    @Override
+    public int size()
+    {
+        return this.values.size();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.distinctKeys;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.distinctKeys == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.values.contains(value);
+    }
+
+    @Override
+    public boolean containsKeyAndValue(Object key, Object value)
+    {
+        int slot = this.slotOf(key);
+        return slot >= 0 && this.valuesOfSlot(slot).contains(value);
+    }
+
+    @Override
+    public ImmutableList<V> get(K key)
+    {
+        int slot = this.slotOf(key);
+        return slot < 0 ? this.createCollection() : this.valuesOfSlot(slot);
+    }
+
+    // Views
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return ArrayAdapter.adapt(this.keys)
+                .asLazy()
+                .select(Predicates.notNull())
+                .collect(ImmutableCompactListMultimap::nonSentinel);
+    }
+
+    @Override
+    public SetIterable<K> keySet()
+    {
+        return UnmodifiableMutableSet.of(this.keysView().toSet());
+    }
+
+    @Override
+    public MutableBag<K> keyBag()
+    {
+        MutableBag<K> bag = Bags.mutable.empty();
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                bag.addOccurrences(ImmutableCompactListMultimap.nonSentinel(this.keys[i]), this.offsets[i + 1] - this.offsets[i]);
+            }
+        }
+        return bag;
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return this.values.asLazy();
+    }
+
+    @Override
+    public RichIterable<RichIterable<V>> multiValuesView()
+    {
+        return this.keysView().collect(this::get);
+    }
+
+    @Override
+    public RichIterable<Pair<K, RichIterable<V>>> keyMultiValuePairsView()
+    {
+        return this.keysView().collect(key -> Tuples.pair(key, this.get(key)));
+    }
+
+    @Override
+    public MutableMap<K, RichIterable<V>> toMap()
+    {
+        return (MutableMap<K, RichIterable<V>>) (MutableMap<?, ?>) this.getMap();
+    }
+
+    @Override
+    public <R extends Collection<V>> MutableMap<K, R> toMap(Function0<R> collectionFactory)
+    {
+        MutableMap<K, R> result = UnifiedMap.newMap(this.distinctKeys);
+        this.forEachKeyMultiValues((key, iterable) -> {
+            R newCollection = collectionFactory.value();
+            Iterate.addAllTo(iterable, newCollection);
+            result.put(key, newCollection);
+        });
+        return result;
+    }
+
+    // Comparison and hashing
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (object == this)
+        {
+            return true;
+        }
+        if (!(object instanceof Multimap))
+        {
+            return false;
+        }
+        Multimap<K, ?> that = (Multimap<K, ?>) object;
+        if (this.distinctKeys != that.sizeDistinct())
+        {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                K key = ImmutableCompactListMultimap.nonSentinel(this.keys[i]);
+                if (!that.containsKey(key) || !this.valuesOfSlot(i).equals(that.get(key)))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            Object key = this.keys[i];
+            if (key != null)
+            {
+                hashCode += (key == NULL_KEY ? 0 : key.hashCode()) ^ this.valuesOfSlot(i).hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    // Iteration
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.values.each(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        for (Object key : this.keys)
+        {
+            if (key != null)
+            {
+                procedure.value(ImmutableCompactListMultimap.nonSentinel(key));
+            }
+        }
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                K key = ImmutableCompactListMultimap.nonSentinel(this.keys[i]);
+                for (int j = this.offsets[i]; j < this.offsets[i + 1]; j++)
+                {
+                    procedure.value(key, this.values.get(j));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void forEachKeyMultiValues(Procedure2<? super K, ? super Iterable<V>> procedure)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                procedure.value(ImmutableCompactListMultimap.nonSentinel(this.keys[i]), this.valuesOfSlot(i));
+            }
+        }
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R selectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        this.forEachKeyValue((key, value) -> {
+            if (predicate.accept(key, value))
+            {
+                target.put(key, value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <R extends MutableMultimap<K, V>> R rejectKeysValues(Predicate2<? super K, ? super V> predicate, R target)
+    {
+        this.forEachKeyValue((key, value) -> {
+            if (!predicate.accept(key, value))
+            {
+                target.put(key, value);
+            }
+        });
+        return target;
+    }
+
+    @Override
+    public <K2, V2, R extends MutableMultimap<K2, V2>> R collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function, R target)
+    {
+        this.forEachKeyValue((key, value) -> target.add(function.value(key, value)));
+        return target;
+    }
+
+    @Override
+    public <V2, R extends MutableMultimap<K, V2>> R collectValues(Function<? super V, ? extends V2> function, R target)
+    {
+        for (int i = 0; i < this.keys.length; i++)
+        {
+            if (this.keys[i] != null)
+            {
+                target.putAll(ImmutableCompactListMultimap.nonSentinel(this.keys[i]), this.valuesOfSlot(i).collect(function));
+            }
+        }
+        return target;
+    }
+
+    // Conversion and copying
+
+    @Override
+    public ImmutableListMultimap<K, V> newEmpty()
+    {
+        return ImmutableCompactListMultimap.newMultimap(FastListMultimap.newMultimap());
+    }
+
+    @Override
+    public FastListMultimap<K, V> toMutable()
+    {
+        return new FastListMultimap<>(this);
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> toImmutable()
+    {
+        return this;
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWith(K key, V value)
+    {
+        FastListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.put(key, value);
+        return mutableMultimap.toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithout(Object key, Object value)
+    {
+        FastListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.remove(key, value);
+        return mutableMultimap.toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithAll(K key, Iterable<? extends V> newValues)
+    {
+        FastListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.putAll(key, newValues);
+        return mutableMultimap.toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> newWithoutAll(Object key)
+    {
+        FastListMultimap<K, V> mutableMultimap = this.toMutable();
+        mutableMultimap.removeAll(key);
+        return mutableMultimap.toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableBagMultimap<V, K> flip()
+    {
+        return Iterate.flip(this).toImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> selectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.selectKeysValues(predicate, FastListMultimap.<K, V>newMultimap()).toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> rejectKeysValues(Predicate2<? super K, ? super V> predicate)
+    {
+        return this.rejectKeysValues(predicate, FastListMultimap.<K, V>newMultimap()).toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> selectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.selectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap()).toCompactImmutable();
+    }
+
+    @Override
+    public ImmutableListMultimap<K, V> rejectKeysMultiValues(Predicate2<? super K, ? super Iterable<V>> predicate)
+    {
+        return this.rejectKeysMultiValues(predicate, FastListMultimap.<K, V>newMultimap()).toCompactImmutable();
+    }
+
+    @Override
+    public <K2, V2> ImmutableBagMultimap<K2, V2> collectKeysValues(Function2<? super K, ? super V, Pair<K2, V2>> function)
+    {
+        return this.collectKeysValues(function, HashBagMultimap.<K2, V2>newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <K2, V2> ImmutableBagMultimap<K2, V2> collectKeyMultiValues(Function<? super K, ? extends K2> keyFunction, Function<? super V, ? extends V2> valueFunction)
+    {
+        MutableBagMultimap<K2, V2> mutableMultimap = this.collectKeyMultiValues(keyFunction, valueFunction, HashBagMultimap.newMultimap());
+        return mutableMultimap.toImmutable();
+    }
+
+    @Override
+    public <V2> ImmutableListMultimap<K, V2> collectValues(Function<? super V, ? extends V2> function)
+    {
+        return this.collectValues(function, FastListMultimap.<K, V2>newMultimap()).toCompactImmutable();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableCompactListMultimapSerializationProxy<>(this);
+    }
+
+    /**
+     * Writes the same stream as {@link ImmutableListMultimapImpl.ImmutableListMultimapSerializationProxy}, and reads it
+     * back into the compact layout.
+     */
+    public static class ImmutableCompactListMultimapSerializationProxy<K, V> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableCompactListMultimap<K, V> multimap;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableCompactListMultimapSerializationProxy()
+        {
+            // For Externalizable use only
+        }
+
+        public ImmutableCompactListMultimapSerializationProxy(ImmutableCompactListMultimap<K, V> multimap)
+        {
+            this.multimap = multimap;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.multimap.distinctKeys);
+            for (int i = 0; i < this.multimap.keys.length; i++)
+            {
+                if (this.multimap.keys[i] != null)
+                {
+                    out.writeObject(ImmutableCompactListMultimap.nonSentinel(this.multimap.keys[i]));
+                    int start = this.multimap.offsets[i];
+                    int end = this.multimap.offsets[i + 1];
+                    out.writeInt(end - start);
+                    for (int j = start; j < end; j++)
+                    {
+                        out.writeObject(this.multimap.values.get(j));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int keyCount = in.readInt();
+            FastListMultimap<K, V> toReadInto = new FastListMultimap<>(keyCount, 1);
+            for (int k = 0; k < keyCount; k++)
+            {
+                K key = (K) in.readObject();
+                int valuesSize = in.readInt();
+                for (int v = 0; v < valuesSize; v++)
+                {
+                    toReadInto.put(key, (V) in.readObject());
+                }
+            }
+            this.multimap = ImmutableCompactListMultimap.newMultimap(toReadInto);
+        }
+
+        protected Object readResolve()
+        {
+            return this.multimap;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains implementations of the multimaps with primitive keys in {@link org.eclipse.collections.api.multimap.primitive}.
+ * <p>
+ *     The values for each key are held in a list or set stored in a primitive-to-object hash map, so keys are never boxed.
+ *     Multimaps with primitive values, such as {@code LongLongListMultimap}, also keep their values in primitive lists and sets.
+ */
+package org.eclipse.collections.impl.multimap.primitive;
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ExecutorService which runs its tasks on another ExecutorService and asks the parallel algorithms it is passed to
+ * size their batches from the measured cost per element rather than from a fixed fork size or batch size.
+ * <p>
+ * {@link ParallelIterate} runs the procedure on a small prefix of the input in the calling thread and times it. If the
+ * rest of the input is estimated to take less than {@link #TARGET_BATCH_NANOS}, it is processed serially, otherwise it
+ * is split into batches of about that duration. The parallel iterables returned by {@code asParallel} on random access
+ * lists time their first batch in the same way before creating the others, and use the batch size passed to
+ * {@code asParallel} if the first batch does not complete in time.
+ * <pre>
+ * ExecutorService executor = AdaptiveBatchingExecutorService.adapt(Executors.newFixedThreadPool(8));
+ * ParallelIterate.select(list, predicate, FastList.newList(), 1, executor, false);
+ * list.asParallel(executor, 1).select(predicate).toList();
+ * </pre>
+ *
+ * @since 11.0
+ */
+public final class AdaptiveBatchingExecutorService extends AbstractExecutorService
+{
+    /**
+     * The time in nanoseconds each batch should take to process. Batches much shorter than this are dominated by the
+     * cost of handing them to another thread.
+     */
+    public static final long TARGET_BATCH_NANOS = 500_000L;
+
+    /**
+     * The number of elements processed before the first timing is taken.
+     */
+    public static final int MIN_SAMPLE_SIZE = 16;
+
+    /**
+     * The maximum number of elements processed while sampling.
+     */
+    public static final int MAX_SAMPLE_SIZE = 1024;
+
+    /**
+     * The minimum time in nanoseconds spent sampling, so that the timing is not dominated by the resolution of the
+     * clock.
+     */
+    public static final long MIN_SAMPLE_NANOS = 50_000L;
+
+    private static final long SAMPLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    private final ExecutorService delegate;
+    private final int maxBatchCount;
+
+    private AdaptiveBatchingExecutorService(ExecutorService delegate, int maxBatchCount)
+    {
+        if (delegate == null)
+        {
+            throw new NullPointerException();
+        }
+        if (maxBatchCount < 1)
+        {
+            throw new IllegalArgumentException("maxBatchCount must be positive but was " + maxBatchCount);
+        }
+        this.delegate = delegate;
+        this.maxBatchCount = maxBatchCount;
+    }
+
+    public static AdaptiveBatchingExecutorService adapt(ExecutorService delegate)
+    {
+        return AdaptiveBatchingExecutorService.adapt(delegate, ParallelIterate.getDefaultTaskCount() * 4);
+    }
+
+    /**
+     * @param maxBatchCount The maximum number of batches the input is split into, however cheap each batch is.
+     */
+    public static AdaptiveBatchingExecutorService adapt(ExecutorService delegate, int maxBatchCount)
+    {
+        if (delegate instanceof AdaptiveBatchingExecutorService)
+        {
+            return AdaptiveBatchingExecutorService.adapt(((AdaptiveBatchingExecutorService) delegate).delegate, maxBatchCount);
+        }
+        return new AdaptiveBatchingExecutorService(delegate, maxBatchCount);
+    }
+
+    public ExecutorService getDelegate()
+    {
+        return this.delegate;
+    }
+
+    public int getMaxBatchCount()
+    {
+        return this.maxBatchCount;
+    }
+
+    /**
+     * Returns how long to wait for the first batch of a parallel iterable to report its timing before falling back to
+     * the configured batch size.
+     */
+    public long getSampleWaitNanos()
+    {
+        return SAMPLE_WAIT_NANOS;
+    }
+
+    /**
+     * Returns whether sampling should stop after {@code sampleSize} elements took {@code sampleNanos}.
+     */
+    public boolean isSampleComplete(long sampleNanos, int sampleSize)
+    {
+        return sampleNanos >= MIN_SAMPLE_NANOS || sampleSize >= MAX_SAMPLE_SIZE;
+    }
+
+    /**
+     * Returns the number of elements per batch for the {@code remaining} elements, given that {@code sampleSize}
+     * elements took {@code sampleNanos} to process. A result of {@code remaining} or more means that the remaining
+     * elements should not be split.
+     */
+    public int batchSize(long sampleNanos, int sampleSize, int remaining)
+    {
+        if (remaining <= 1)
+        {
+            return 1;
+        }
+        long targetBatchSize = sampleNanos <= 0L
+                ? remaining
+                : TARGET_BATCH_NANOS * sampleSize / sampleNanos;
+        long minBatchSize = ((long) remaining + this.maxBatchCount - 1L) / this.maxBatchCount;
+        return (int) Math.min(remaining, Math.max(Math.max(1L, minBatchSize), targetBatchSize));
+    }
+
+    @Override
+    public void execute(Runnable command)
+    {
+        this.delegate.execute(command);
+    }
+
+    @Override
+    public void shutdown()
+    {
+        this.delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow()
+    {
+        return this.delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown()
+    {
+        return this.delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated()
+    {
+        return this.delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        return this.delegate.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.getClass().getSimpleName() + '[' + this.delegate + ']';
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.ArrayListIterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * Runs the parallel forEach algorithms of {@link ParallelIterate} and {@link ParallelArrayIterate} on a
+ * {@link ForkJoinPool}. Instead of submitting one task per section up front, the input is recursively split in halves
+ * down to sections of about {@code size / (taskCount * SPLIT_FACTOR)} elements. Idle workers steal the unstarted halves
+ * from busy ones, so a few expensive sections no longer leave the other threads waiting.
+ * <p>
+ * The procedures of the sections are combined in the calling thread, in the order of the sections, once all of them
+ * have completed.
+ *
+ * @since 11.0
+ */
+final class ForkJoinProcedureRunner
+{
+    /**
+     * The number of sections created per requested task, so that there are sections left to steal when the work is
+     * unevenly distributed.
+     */
+    static final int SPLIT_FACTOR = 4;
+
+    private ForkJoinProcedureRunner()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    static <T, BT extends Procedure<? super T>> void executeAndCombine(
+            ForkJoinPool pool,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            List<T> list,
+            int taskCount)
+    {
+        int size = list.size();
+        ListRangeTask<T, BT> task = new ListRangeTask<>(
+                procedureFactory::create,
+                list,
+                0,
+                size,
+                ForkJoinProcedureRunner.sectionSize(size, taskCount));
+        ForkJoinProcedureRunner.invokeAndCombine(pool, combiner, task);
+    }
+
+    static <T, BT extends Procedure<? super T>> void executeAndCombine(
+            ForkJoinPool pool,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            T[] array,
+            int taskCount)
+    {
+        int size = array.length;
+        ArrayRangeTask<T, BT> task = new ArrayRangeTask<>(
+                procedureFactory::create,
+                array,
+                0,
+                size,
+                ForkJoinProcedureRunner.sectionSize(size, taskCount));
+        ForkJoinProcedureRunner.invokeAndCombine(pool, combiner, task);
+    }
+
+    static <T, BT extends Procedure<? super T>> void executeAndCombine(
+            ForkJoinPool pool,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            BatchIterable<T> batchIterable,
+            int taskCount)
+    {
+        int size = batchIterable.size();
+        int sectionCount = Math.min(size, batchIterable.getBatchCount(ForkJoinProcedureRunner.sectionSize(size, taskCount)));
+        BatchRangeTask<T, BT> task = new BatchRangeTask<>(
+                procedureFactory::create,
+                batchIterable,
+                sectionCount,
+                0,
+                sectionCount);
+        ForkJoinProcedureRunner.invokeAndCombine(pool, combiner, task);
+    }
+
+    static <T, BT extends ObjectIntProcedure<? super T>> void executeAndCombineWithIndex(
+            ForkJoinPool pool,
+            ObjectIntProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            List<T> list,
+            int taskCount)
+    {
+        int size = list.size();
+        ListWithIndexRangeTask<T, BT> task = new ListWithIndexRangeTask<>(
+                procedureFactory::create,
+                list,
+                0,
+                size,
+                ForkJoinProcedureRunner.sectionSize(size, taskCount));
+        ForkJoinProcedureRunner.invokeAndCombine(pool, combiner, task);
+    }
+
+    private static int sectionSize(int size, int taskCount)
+    {
+        return Math.max(1, size / (Math.max(1, taskCount) * SPLIT_FACTOR));
+    }
+
+    private static <BT> void invokeAndCombine(ForkJoinPool pool, Combiner<BT> combiner, RangeTask<BT> task)
+    {
+        MutableList<BT> procedures;
+        try
+        {
+            procedures = pool.invoke(task);
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", e);
+        }
+        if (combiner.useCombineOne())
+        {
+            procedures.each(combiner::combineOne);
+        }
+        else
+        {
+            combiner.combineAll(procedures);
+        }
+    }
+
+    /**
+     * Processes the range [start, end) with a single procedure if it is no larger than the threshold, and otherwise
+     * forks the upper half and processes the lower half itself. The result holds the procedures of all sections in
+     * range order.
+     */
+    private abstract static class RangeTask<BT> extends RecursiveTask<MutableList<BT>>
+    {
+        private static final long serialVersionUID = 1L;
+
+        protected final Function0<BT> procedureFactory;
+        protected final int start;
+        protected final int end;
+        protected final int threshold;
+
+        protected RangeTask(Function0<BT> procedureFactory, int start, int end, int threshold)
+        {
+            this.procedureFactory = procedureFactory;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        protected abstract RangeTask<BT> newSubtask(int subtaskStart, int subtaskEnd);
+
+        /**
+         * Applies the procedure to the non-empty range [from, to).
+         */
+        protected abstract void forEachInRange(BT procedure, int from, int to);
+
+        @Override
+        protected MutableList<BT> compute()
+        {
+            if (this.end - this.start <= this.threshold)
+            {
+                BT procedure = this.procedureFactory.value();
+                this.forEachInRange(procedure, this.start, this.end);
+                return FastList.newListWith(procedure);
+            }
+            int middle = (this.start + this.end) >>> 1;
+            RangeTask<BT> upper = this.newSubtask(middle, this.end);
+            upper.fork();
+            MutableList<BT> result = this.newSubtask(this.start, middle).compute();
+            result.addAll(upper.join());
+            return result;
+        }
+    }
+
+    private static final class ListRangeTask<T, BT extends Procedure<? super T>> extends RangeTask<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> list;
+
+        private ListRangeTask(Function0<BT> procedureFactory, List<T> list, int start, int end, int threshold)
+        {
+            super(procedureFactory, start, end, threshold);
+            this.list = list;
+        }
+
+        @Override
+        protected RangeTask<BT> newSubtask(int subtaskStart, int subtaskEnd)
+        {
+            return new ListRangeTask<>(this.procedureFactory, this.list, subtaskStart, subtaskEnd, this.threshold);
+        }
+
+        @Override
+        protected void forEachInRange(BT procedure, int from, int to)
+        {
+            int stop = to - 1;
+            if (this.list instanceof ListIterable)
+            {
+                ((ListIterable<T>) this.list).forEach(from, stop, procedure);
+            }
+            else if (this.list instanceof ArrayList)
+            {
+                ArrayListIterate.forEach((ArrayList<T>) this.list, from, stop, procedure);
+            }
+            else
+            {
+                ListIterate.forEach(this.list, from, stop, procedure);
+            }
+        }
+    }
+
+    private static final class ListWithIndexRangeTask<T, BT extends ObjectIntProcedure<? super T>> extends RangeTask<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> list;
+
+        private ListWithIndexRangeTask(Function0<BT> procedureFactory, List<T> list, int start, int end, int threshold)
+        {
+            super(procedureFactory, start, end, threshold);
+            this.list = list;
+        }
+
+        @Override
+        protected RangeTask<BT> newSubtask(int subtaskStart, int subtaskEnd)
+        {
+            return new ListWithIndexRangeTask<>(this.procedureFactory, this.list, subtaskStart, subtaskEnd, this.threshold);
+        }
+
+        @Override
+        protected void forEachInRange(BT procedure, int from, int to)
+        {
+            int stop = to - 1;
+            if (this.list instanceof MutableList)
+            {
+                ((MutableList<T>) this.list).forEachWithIndex(from, stop, procedure);
+            }
+            else if (this.list instanceof ArrayList)
+            {
+                ArrayListIterate.forEachWithIndex((ArrayList<T>) this.list, from, stop, procedure);
+            }
+            else
+            {
+                ListIterate.forEachWithIndex(this.list, from, stop, procedure);
+            }
+        }
+    }
+
+    private static final class ArrayRangeTask<T, BT extends Procedure<? super T>> extends RangeTask<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] array;
+
+        private ArrayRangeTask(Function0<BT> procedureFactory, T[] array, int start, int end, int threshold)
+        {
+            super(procedureFactory, start, end, threshold);
+            this.array = array;
+        }
+
+        @Override
+        protected RangeTask<BT> newSubtask(int subtaskStart, int subtaskEnd)
+        {
+            return new ArrayRangeTask<>(this.procedureFactory, this.array, subtaskStart, subtaskEnd, this.threshold);
+        }
+
+        @Override
+        protected void forEachInRange(BT procedure, int from, int to)
+        {
+            ArrayIterate.forEach(this.array, from, to - 1, procedure);
+        }
+    }
+
+    /**
+     * Splits the section indexes of a {@link BatchIterable}, so each leaf runs exactly one section.
+     */
+    private static final class BatchRangeTask<T, BT extends Procedure<? super T>> extends RangeTask<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final BatchIterable<T> batchIterable;
+        private final int sectionCount;
+
+        private BatchRangeTask(Function0<BT> procedureFactory, BatchIterable<T> batchIterable, int sectionCount, int start, int end)
+        {
+            super(procedureFactory, start, end, 1);
+            this.batchIterable = batchIterable;
+            this.sectionCount = sectionCount;
+        }
+
+        @Override
+        protected RangeTask<BT> newSubtask(int subtaskStart, int subtaskEnd)
+        {
+            return new BatchRangeTask<>(this.procedureFactory, this.batchIterable, this.sectionCount, subtaskStart, subtaskEnd);
+        }
+
+        @Override
+        protected void forEachInRange(BT procedure, int from, int to)
+        {
+            for (int sectionIndex = from; sectionIndex < to; sectionIndex++)
+            {
+                this.batchIterable.batchForEach(procedure, sectionIndex, this.sectionCount);
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.parallel;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -65,6 +66,10 @@ public final class ParallelArrayIterate
                 ArrayIterate.forEach(array, procedure);
                 ParallelArrayIterate.combineSingleProcedure(combiner, procedure);
             }
+            else if (executor instanceof ForkJoinPool)
+            {
+                ForkJoinProcedureRunner.executeAndCombine((ForkJoinPool) executor, procedureFactory, combiner, array, taskCount);
+            }
             else
             {
                 int threadCount = Math.min(size, taskCount);
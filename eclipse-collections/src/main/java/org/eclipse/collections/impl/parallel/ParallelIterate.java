@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -45,6 +46,7 @@ import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
@@ -52,6 +54,7 @@ import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
 
@@ -62,16 +65,41 @@ import static org.eclipse.collections.impl.factory.Iterables.iList;
  * <p>
  * All Collections that are not either a {@link RandomAccess} or {@link List} are first converted to a Java array
  * using {@link Iterate#toArray(Iterable)}, and then run with one of the {@code ParallelArrayIterate.forEach} methods.
+ * <p>
+ * When the executor is a {@link ForkJoinPool}, the input is not pre-split into a fixed number of tasks. It is instead
+ * split recursively into smaller sections which idle threads can steal from busy ones, which keeps all threads working
+ * when some sections are much more expensive than others. The default executor can be switched to a ForkJoinPool
+ * without changing any call sites by setting the system property {@value #WORK_STEALING_PROPERTY} to {@code true}.
+ * <p>
+ * When the executor is an {@link AdaptiveBatchingExecutorService}, the fork size and task count are not taken from the
+ * arguments but from the measured cost of the procedure on the first elements. Setting the system property
+ * {@value #ADAPTIVE_BATCHING_PROPERTY} to {@code true} makes the default executor adaptive.
  *
  * @see ParallelArrayIterate
  */
 public final class ParallelIterate
 {
+    /**
+     * The system property which, when set to {@code true}, makes the default executor a work-stealing
+     * {@link ForkJoinPool}.
+     *
+     * @since 11.0
+     */
+    public static final String WORK_STEALING_PROPERTY = "org.eclipse.collections.impl.parallel.ParallelIterate.workStealing";
+
+    /**
+     * The system property which, when set to {@code true}, wraps the default executor in an
+     * {@link AdaptiveBatchingExecutorService}.
+     *
+     * @since 11.0
+     */
+    public static final String ADAPTIVE_BATCHING_PROPERTY = "org.eclipse.collections.impl.parallel.ParallelIterate.adaptiveBatching";
+
     static final int DEFAULT_MIN_FORK_SIZE = 10000;
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
-    static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
+    static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newDefaultExecutor();
 
     private ParallelIterate()
     {
@@ -247,6 +275,10 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            ForkJoinProcedureRunner.executeAndCombineWithIndex((ForkJoinPool) executor, procedureFactory, combiner, list, taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, taskCount);
@@ -437,7 +469,15 @@ public final class ParallelIterate
     {
         if (Iterate.notEmpty(iterable))
         {
-            if (iterable instanceof BatchIterable)
+            if (executor instanceof AdaptiveBatchingExecutorService)
+            {
+                ParallelIterate.forEachAdaptively(
+                        iterable,
+                        procedureFactory,
+                        combiner,
+                        (AdaptiveBatchingExecutorService) executor);
+            }
+            else if (iterable instanceof BatchIterable)
             {
                 ParallelIterate.forEachInBatchWithExecutor(
                         (BatchIterable<T>) iterable,
@@ -471,6 +511,74 @@ public final class ParallelIterate
         }
     }
 
+    /**
+     * Runs the procedure on a prefix of the input in the calling thread until the sample is large enough to be timed,
+     * then either finishes the input serially or splits the rest into batches of about
+     * {@link AdaptiveBatchingExecutorService#TARGET_BATCH_NANOS} each. Inputs which are not random access lists are
+     * copied to an array first.
+     */
+    private static <T, BT extends Procedure<? super T>> void forEachAdaptively(
+            Iterable<T> iterable,
+            ProcedureFactory<BT> procedureFactory,
+            Combiner<BT> combiner,
+            AdaptiveBatchingExecutorService executor)
+    {
+        List<T> list = (iterable instanceof RandomAccess || iterable instanceof ListIterable) && iterable instanceof List
+                ? (List<T>) iterable
+                : ArrayAdapter.adapt((T[]) Iterate.toArray(iterable));
+        int size = list.size();
+        BT sampleProcedure = procedureFactory.create();
+        int sampleSize = 0;
+        long sampleNanos = 0L;
+        int chunkSize = AdaptiveBatchingExecutorService.MIN_SAMPLE_SIZE;
+        while (sampleSize < size && !executor.isSampleComplete(sampleNanos, sampleSize))
+        {
+            int chunkEnd = Math.min(size, Math.min(sampleSize + chunkSize, AdaptiveBatchingExecutorService.MAX_SAMPLE_SIZE));
+            long start = System.nanoTime();
+            ListIterate.forEach(list, sampleSize, chunkEnd - 1, sampleProcedure);
+            sampleNanos += System.nanoTime() - start;
+            sampleSize = chunkEnd;
+            chunkSize *= 2;
+        }
+        int remaining = size - sampleSize;
+        int batchSize = executor.batchSize(sampleNanos, sampleSize, remaining);
+        if (batchSize >= remaining)
+        {
+            if (remaining > 0)
+            {
+                ListIterate.forEach(list, sampleSize, size - 1, sampleProcedure);
+            }
+            if (combiner.useCombineOne())
+            {
+                combiner.combineOne(sampleProcedure);
+            }
+            else
+            {
+                combiner.combineAll(iList(sampleProcedure));
+            }
+        }
+        else
+        {
+            int taskCount = (remaining - 1) / batchSize + 1;
+            List<T> rest = list.subList(sampleSize, size);
+            if (combiner.useCombineOne())
+            {
+                combiner.combineOne(sampleProcedure);
+                ParallelIterate.forEachInListOnExecutor(rest, procedureFactory, combiner, 1, taskCount, executor.getDelegate());
+            }
+            else
+            {
+                ParallelIterate.forEachInListOnExecutor(
+                        rest,
+                        procedureFactory,
+                        new SamplePrependingCombiner<>(sampleProcedure, combiner),
+                        1,
+                        taskCount,
+                        executor.getDelegate());
+            }
+        }
+    }
+
     public static <T, BT extends Procedure<? super T>> void forEachInListOnExecutor(
             List<T> list,
             ProcedureFactory<BT> procedureFactory,
@@ -493,6 +601,10 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            ForkJoinProcedureRunner.executeAndCombine((ForkJoinPool) executor, procedureFactory, combiner, list, taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, taskCount);
@@ -524,6 +636,10 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            ForkJoinProcedureRunner.executeAndCombine((ForkJoinPool) executor, procedureFactory, combiner, set, taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, Math.min(taskCount, set.getBatchCount((int) Math.ceil((double) size / (double) taskCount))));
@@ -1333,6 +1449,29 @@ public final class ParallelIterate
         return result;
     }
 
+    private static ExecutorService newDefaultExecutor()
+    {
+        ExecutorService executor = Boolean.getBoolean(ParallelIterate.WORK_STEALING_PROPERTY)
+                ? ParallelIterate.newWorkStealingExecutor(ParallelIterate.getDefaultMaxThreadPoolSize())
+                : ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
+        if (Boolean.getBoolean(ParallelIterate.ADAPTIVE_BATCHING_PROPERTY))
+        {
+            return AdaptiveBatchingExecutorService.adapt(executor);
+        }
+        return executor;
+    }
+
+    /**
+     * Returns a brand new ForkJoinPool with the specified parallelism. When it is passed as the executor to the methods
+     * of this class, the work is split recursively and balanced between the threads of the pool by work stealing.
+     *
+     * @since 11.0
+     */
+    public static ForkJoinPool newWorkStealingExecutor(int parallelism)
+    {
+        return new ForkJoinPool(parallelism);
+    }
+
     /**
      * Returns a brand new ExecutorService using the specified poolName with the specified maximum thread pool size. The
      * same poolName may be used more than once resulting in multiple pools with the same name.
@@ -1377,6 +1516,41 @@ public final class ParallelIterate
         return TASK_RATIO;
     }
 
+    /**
+     * Combines the procedure used to sample the cost of the first elements ahead of the procedures of the batches.
+     */
+    private static final class SamplePrependingCombiner<BT> implements Combiner<BT>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final BT sampleProcedure;
+        private final Combiner<BT> delegate;
+
+        private SamplePrependingCombiner(BT sampleProcedure, Combiner<BT> delegate)
+        {
+            this.sampleProcedure = sampleProcedure;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void combineAll(Iterable<BT> thingsToCombine)
+        {
+            this.delegate.combineAll(FastList.newListWith(this.sampleProcedure).withAll(thingsToCombine));
+        }
+
+        @Override
+        public void combineOne(BT thingToCombine)
+        {
+            this.delegate.combineOne(thingToCombine);
+        }
+
+        @Override
+        public boolean useCombineOne()
+        {
+            return false;
+        }
+    }
+
     private static final class SumByDoubleProcedure<T, V> implements Procedure<T>, ProcedureFactory<SumByDoubleProcedure<T, V>>
     {
         private final MutableMap<V, DoubleDoublePair> map = Maps.mutable.of();
@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * ImmutableCompactHashSet is an {@link org.eclipse.collections.api.set.ImmutableSet} stored in a single open addressed
+ * table whose capacity is computed exactly from the number of elements at construction, rather than rounded up to a
+ * power of two with room to grow like {@link org.eclipse.collections.impl.set.mutable.UnifiedSet}. The elements are
+ * stored at a load factor of 7/8, with no chained buckets, plus one byte per slot recording how far the element in that
+ * slot is from its home slot.
+ * <p>
+ * Elements are placed with Robin Hood linear probing, so a lookup only calls equals on elements that share its home
+ * slot, and stops at the first slot whose element is closer to home than the one being looked up would be.
+ *
+ * @since 11.0
+ */
+public final class ImmutableCompactHashSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final double LOAD_FACTOR = 0.875;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    /**
+     * The probe byte of a slot is zero if the slot is empty, and otherwise one more than the distance of its element
+     * from its home slot. Distances that do not fit in a byte are recorded as SATURATED, which never ends a lookup early.
+     */
+    private static final int SATURATED = 0xFF;
+
+    private static final ImmutableCompactHashSet<?> EMPTY = new TableBuilder<>(0).build();
+
+    private final Object[] table;
+    private final byte[] probes;
+    private final int size;
+
+    private ImmutableCompactHashSet(Object[] table, byte[] probes, int size)
+    {
+        this.table = table;
+        this.probes = probes;
+        this.size = size;
+    }
+
+    public static <T> ImmutableCompactHashSet<T> empty()
+    {
+        return (ImmutableCompactHashSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableCompactHashSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof ImmutableCompactHashSet<?>)
+        {
+            return (ImmutableCompactHashSet<T>) iterable;
+        }
+        TableBuilder<T> builder = new TableBuilder<>(Iterate.sizeOf(iterable));
+        for (T element : iterable)
+        {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    public static <T> ImmutableCompactHashSet<T> newSetWith(T... elements)
+    {
+        return ImmutableCompactHashSet.newSet(Arrays.asList(elements));
+    }
+
+    private static int capacityFor(int size)
+    {
+        return Math.max(size + 1, (int) Math.ceil(size / LOAD_FACTOR));
+    }
+
+    /**
+     * Maps the spread hash code onto [0, capacity) with a multiply and shift, so the capacity need not be a power of two.
+     */
+    private static int home(Object element, int capacity)
+    {
+        int hash = element == null ? 0 : element.hashCode();
+        return (int) (((hash * GOLDEN_RATIO) & 0xFFFFFFFFL) * capacity >>> 32);
+    }
+
+    private static boolean nullSafeEquals(Object element, Object other)
+    {
+        return element == other || element != null && element.equals(other);
+    }
+
+    /**
+     * Returns the slot holding the element, or -1 if the element is absent.
+     */
+    private int slotOf(Object element)
+    {
+        byte[] probes = this.probes;
+        int capacity = probes.length;
+        int index = ImmutableCompactHashSet.home(element, capacity);
+        for (int distance = 1; ; distance++)
+        {
+            int probe = probes[index] & SATURATED;
+            if (probe == distance || probe == SATURATED)
+            {
+                if (ImmutableCompactHashSet.nullSafeEquals(element, this.table[index]))
+                {
+                    return index;
+                }
+            }
+            else if (probe < distance)
+            {
+                return -1;
+            }
+            if (++index == capacity)
+            {
+                index = 0;
+            }
+        }
+    }
+
+    private int nextSlot(int index)
+    {
+        int next = index;
+        while (next < this.probes.length && this.probes[next] == 0)
+        {
+            next++;
+        }
+        return next;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.slotOf(object) >= 0;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new SlotIterator();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        int slot = this.nextSlot(0);
+        return slot < this.probes.length ? (T) this.table[slot] : null;
+    }
+
+    @Override
+    public T getLast()
+    {
+        for (int i = this.probes.length - 1; i >= 0; i--)
+        {
+            if (this.probes[i] != 0)
+            {
+                return (T) this.table[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                procedure.value((T) this.table[i]);
+            }
+        }
+    }
+
+    @Override
+    public ImmutableCompactHashSet<T> newWith(T element)
+    {
+        if (this.contains(element))
+        {
+            return this;
+        }
+        TableBuilder<T> builder = new TableBuilder<>(this.size + 1);
+        builder.addAll(this, null);
+        builder.add(element);
+        return builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashSet<T> newWithout(T element)
+    {
+        int slot = this.slotOf(element);
+        if (slot < 0)
+        {
+            return this;
+        }
+        boolean[] removed = new boolean[this.probes.length];
+        removed[slot] = true;
+        return this.without(removed, 1);
+    }
+
+    @Override
+    public ImmutableCompactHashSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        TableBuilder<T> builder = new TableBuilder<>(this.size + Iterate.sizeOf(elements));
+        builder.addAll(this, null);
+        for (T element : elements)
+        {
+            builder.add(element);
+        }
+        return builder.size == this.size ? this : builder.build();
+    }
+
+    @Override
+    public ImmutableCompactHashSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        boolean[] removed = new boolean[this.probes.length];
+        int removedCount = 0;
+        for (T element : elements)
+        {
+            int slot = this.slotOf(element);
+            if (slot >= 0 && !removed[slot])
+            {
+                removed[slot] = true;
+                removedCount++;
+            }
+        }
+        return this.without(removed, removedCount);
+    }
+
+    private ImmutableCompactHashSet<T> without(boolean[] removed, int removedCount)
+    {
+        if (removedCount == 0)
+        {
+            return this;
+        }
+        if (removedCount == this.size)
+        {
+            return ImmutableCompactHashSet.empty();
+        }
+        TableBuilder<T> builder = new TableBuilder<>(this.size - removedCount);
+        builder.addAll(this, removed);
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (object == this)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        if (other.size() != this.size)
+        {
+            return false;
+        }
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0 && !other.contains(this.table[i]))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.probes.length; i++)
+        {
+            if (this.probes[i] != 0)
+            {
+                Object element = this.table[i];
+                hashCode += element == null ? 0 : element.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableCompactHashSetSerializationProxy<>(this);
+    }
+
+    /**
+     * Fills a table sized for an expected number of elements. Distances are tracked exactly in an int array while
+     * elements are placed, and only saturated into bytes when the set is built.
+     */
+    private static final class TableBuilder<T>
+    {
+        private final Object[] table;
+        private final int[] distances;
+        private int size;
+
+        private TableBuilder(int expectedSize)
+        {
+            int capacity = ImmutableCompactHashSet.capacityFor(expectedSize);
+            this.table = new Object[capacity];
+            this.distances = new int[capacity];
+        }
+
+        private void addAll(ImmutableCompactHashSet<?> set, boolean[] skip)
+        {
+            for (int i = 0; i < set.probes.length; i++)
+            {
+                if (set.probes[i] != 0 && (skip == null || !skip[i]))
+                {
+                    this.add(set.table[i]);
+                }
+            }
+        }
+
+        private void add(Object element)
+        {
+            int capacity = this.distances.length;
+            int index = ImmutableCompactHashSet.home(element, capacity);
+            Object current = element;
+            int currentDistance = 1;
+            boolean searching = true;
+            while (true)
+            {
+                int distance = this.distances[index];
+                if (distance == 0)
+                {
+                    this.table[index] = current;
+                    this.distances[index] = currentDistance;
+                    this.size++;
+                    return;
+                }
+                if (searching && distance == currentDistance && ImmutableCompactHashSet.nullSafeEquals(current, this.table[index]))
+                {
+                    return;
+                }
+                if (distance < currentDistance)
+                {
+                    Object displaced = this.table[index];
+                    this.table[index] = current;
+                    this.distances[index] = currentDistance;
+                    current = displaced;
+                    currentDistance = distance;
+                    searching = false;
+                }
+                currentDistance++;
+                if (++index == capacity)
+                {
+                    index = 0;
+                }
+            }
+        }
+
+        private ImmutableCompactHashSet<T> build()
+        {
+            int capacity = this.distances.length;
+            if (capacity - ImmutableCompactHashSet.capacityFor(this.size) > capacity >>> 3)
+            {
+                // Duplicate elements left the table too sparse, so rebuild it at the exact size
+                TableBuilder<T> exact = new TableBuilder<>(this.size);
+                for (int i = 0; i < capacity; i++)
+                {
+                    if (this.distances[i] != 0)
+                    {
+                        exact.add(this.table[i]);
+                    }
+                }
+                return exact.build();
+            }
+            byte[] probes = new byte[this.distances.length];
+            for (int i = 0; i < probes.length; i++)
+            {
+                probes[i] = (byte) Math.min(this.distances[i], SATURATED);
+            }
+            return new ImmutableCompactHashSet<>(this.table, probes, this.size);
+        }
+    }
+
+    private final class SlotIterator implements Iterator<T>
+    {
+        private int index = ImmutableCompactHashSet.this.nextSlot(0);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableCompactHashSet.this.probes.length;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int slot = this.index;
+            this.index = ImmutableCompactHashSet.this.nextSlot(slot + 1);
+            return (T) ImmutableCompactHashSet.this.table[slot];
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static class ImmutableCompactHashSetSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableCompactHashSet<T> set;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableCompactHashSetSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableCompactHashSetSerializationProxy(ImmutableCompactHashSet<T> set)
+        {
+            this.set = set;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.set.size());
+            for (int i = 0; i < this.set.probes.length; i++)
+            {
+                if (this.set.probes[i] != 0)
+                {
+                    out.writeObject(this.set.table[i]);
+                }
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            TableBuilder<T> builder = new TableBuilder<>(size);
+            for (int i = 0; i < size; i++)
+            {
+                builder.add(in.readObject());
+            }
+            this.set = builder.build();
+        }
+
+        protected Object readResolve()
+        {
+            return this.set;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.map.immutable.ImmutableHashTrieMap;
+
+/**
+ * ImmutableHashTrieSet is a persistent {@link org.eclipse.collections.api.set.ImmutableSet} backed by the keys of an
+ * {@link ImmutableHashTrieMap}, in the same way that java.util.HashSet is backed by a HashMap.
+ * {@link #newWith(Object)} and {@link #newWithout(Object)} copy only the trie nodes on the path to the element and
+ * share the rest with the original set.
+ *
+ * @since 11.0
+ */
+public final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object PRESENT = Boolean.TRUE;
+
+    private static final ImmutableHashTrieSet<?> EMPTY = new ImmutableHashTrieSet<>(ImmutableHashTrieMap.empty());
+
+    private final ImmutableHashTrieMap<T, Object> map;
+
+    private ImmutableHashTrieSet(ImmutableHashTrieMap<T, Object> map)
+    {
+        this.map = map;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> empty()
+    {
+        return (ImmutableHashTrieSet<T>) EMPTY;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSet(Iterable<? extends T> iterable)
+    {
+        return ImmutableHashTrieSet.<T>empty().newWithAll(iterable);
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        ImmutableHashTrieMap<T, Object> map = ImmutableHashTrieMap.empty();
+        for (T element : elements)
+        {
+            map = map.newWithKeyValue(element, PRESENT);
+        }
+        return ImmutableHashTrieSet.wrap(map);
+    }
+
+    private static <T> ImmutableHashTrieSet<T> wrap(ImmutableHashTrieMap<T, Object> map)
+    {
+        return map.isEmpty() ? ImmutableHashTrieSet.empty() : new ImmutableHashTrieSet<>(map);
+    }
+
+    private ImmutableHashTrieSet<T> withMap(ImmutableHashTrieMap<T, Object> newMap)
+    {
+        return newMap == this.map ? this : ImmutableHashTrieSet.wrap(newMap);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.map.size();
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.map.containsKey(object);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.map.keySet().iterator();
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.map.keysView().getFirst();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.map.keysView().getLast();
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.map.forEachKey(procedure);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWith(T element)
+    {
+        return this.withMap(this.map.newWithKeyValue(element, PRESENT));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithout(T element)
+    {
+        return this.withMap(this.map.newWithoutKey(element));
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableHashTrieMap<T, Object> newMap = this.map;
+        for (T element : elements)
+        {
+            newMap = newMap.newWithKeyValue(element, PRESENT);
+        }
+        return this.withMap(newMap);
+    }
+
+    @Override
+    public ImmutableHashTrieSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        return this.withMap(this.map.newWithoutAllKeys(elements));
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (object == this)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> set = (Set<?>) object;
+        return set.size() == this.size() && set.containsAll(this.map.keySet());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.map.keySet().hashCode();
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableHashTrieSetSerializationProxy<>(this);
+    }
+
+    private static class ImmutableHashTrieSetSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableHashTrieSet<T> set;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableHashTrieSetSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        private ImmutableHashTrieSetSerializationProxy(ImmutableHashTrieSet<T> set)
+        {
+            this.set = set;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.set.size());
+            for (T element : this.set)
+            {
+                out.writeObject(element);
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            ImmutableHashTrieMap<T, Object> map = ImmutableHashTrieMap.empty();
+            for (int i = 0; i < size; i++)
+            {
+                map = map.newWithKeyValue((T) in.readObject(), PRESENT);
+            }
+            this.set = ImmutableHashTrieSet.wrap(map);
+        }
+
+        protected Object readResolve()
+        {
+            return this.set;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.factory.set.ImmutableSetBuilder;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+
+/**
+ * The builder returned by {@link ImmutableSetFactoryImpl#builder(int)}. Sets of more than four elements are built as an
+ * {@link ImmutableUnifiedSet} wrapping the backing {@link UnifiedSet}.
+ *
+ * @since 11.0
+ */
+final class ImmutableSetBuilderImpl<T> implements ImmutableSetBuilder<T>
+{
+    private UnifiedSet<T> delegate;
+    private boolean shared;
+
+    ImmutableSetBuilderImpl(UnifiedSet<T> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ImmutableSetBuilder<T> add(T element)
+    {
+        this.unshare();
+        this.delegate.add(element);
+        return this;
+    }
+
+    @Override
+    public ImmutableSetBuilder<T> addAll(Iterable<? extends T> elements)
+    {
+        this.unshare();
+        this.delegate.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.delegate.size();
+    }
+
+    private void unshare()
+    {
+        if (this.shared)
+        {
+            this.delegate = this.delegate.clone();
+            this.shared = false;
+        }
+    }
+
+    @Override
+    public ImmutableSet<T> build()
+    {
+        if (this.delegate.size() <= 4)
+        {
+            return ImmutableSetFactoryImpl.INSTANCE.with((T[]) this.delegate.toArray());
+        }
+        this.shared = true;
+        return new ImmutableUnifiedSet<>(this.delegate);
+    }
+}
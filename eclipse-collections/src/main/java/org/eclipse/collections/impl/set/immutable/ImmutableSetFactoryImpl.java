@@ -12,8 +12,10 @@ package org.eclipse.collections.impl.set.immutable;
 
 import java.util.Objects;
 
+import org.eclipse.collections.api.factory.set.ImmutableSetBuilder;
 import org.eclipse.collections.api.factory.set.ImmutableSetFactory;
 import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.utility.Iterate;
 
 public class ImmutableSetFactoryImpl implements ImmutableSetFactory
@@ -175,4 +177,38 @@ public class ImmutableSetFactoryImpl implements ImmutableSetFactory
         }
         return this.with((T[]) Iterate.toArray(items));
     }
+
+    @Override
+    public <T> ImmutableSet<T> emptyPersistent()
+    {
+        return ImmutableHashTrieSet.empty();
+    }
+
+    @Override
+    public <T> ImmutableSet<T> withAllPersistent(Iterable<? extends T> items)
+    {
+        if (items instanceof ImmutableHashTrieSet<?>)
+        {
+            return (ImmutableSet<T>) items;
+        }
+        return ImmutableHashTrieSet.newSet(items);
+    }
+
+    @Override
+    public <T> ImmutableSet<T> withAllCompact(Iterable<? extends T> items)
+    {
+        return ImmutableCompactHashSet.newSet(items);
+    }
+
+    @Override
+    public <T> ImmutableSetBuilder<T> builder()
+    {
+        return new ImmutableSetBuilderImpl<>(UnifiedSet.newSet());
+    }
+
+    @Override
+    public <T> ImmutableSetBuilder<T> builder(int expectedSize)
+    {
+        return new ImmutableSetBuilderImpl<>(UnifiedSet.newSet(expectedSize));
+    }
 }
@@ -29,7 +29,7 @@ final class ImmutableUnifiedSet<T>
 
     private final UnifiedSet<T> delegate;
 
-    private ImmutableUnifiedSet(UnifiedSet<T> delegate)
+    ImmutableUnifiedSet(UnifiedSet<T> delegate)
     {
         this.delegate = delegate;
     }
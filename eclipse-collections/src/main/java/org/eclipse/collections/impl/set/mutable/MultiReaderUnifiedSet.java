@@ -105,9 +105,14 @@ public final class MultiReaderUnifiedSet<T>
     }
 
     private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock)
+    {
+        this(newDelegate, newLock, new ReadWriteLockWrapper(newLock));
+    }
+
+    private MultiReaderUnifiedSet(MutableSet<T> newDelegate, ReadWriteLock newLock, ReadWriteLockWrapper newLockWrapper)
     {
         this.lock = newLock;
-        this.lockWrapper = new ReadWriteLockWrapper(newLock);
+        this.lockWrapper = newLockWrapper;
         this.delegate = newDelegate;
     }
 
@@ -131,6 +136,35 @@ public final class MultiReaderUnifiedSet<T>
         return new MultiReaderUnifiedSet<>(UnifiedSet.newSetWith(elements));
     }
 
+    /**
+     * Creates an empty MultiReaderUnifiedSet whose {@link #size()}, {@link #isEmpty()} and {@link #notEmpty()} read the
+     * delegate without taking the read lock unless a writer interferes. See
+     * {@link AbstractMultiReaderMutableCollection.OptimisticReadWriteLockWrapper}. Copies made by {@code clone()},
+     * {@code newEmpty()} and serialization always take the read lock.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet()
+    {
+        return MultiReaderUnifiedSet.optimistic(UnifiedSet.newSet());
+    }
+
+    /**
+     * Creates a MultiReaderUnifiedSet like {@link #newOptimisticSet()} containing the elements of {@code iterable}.
+     *
+     * @since 11.0
+     */
+    public static <T> MultiReaderUnifiedSet<T> newOptimisticSet(Iterable<T> iterable)
+    {
+        return MultiReaderUnifiedSet.optimistic(UnifiedSet.newSet(iterable));
+    }
+
+    private static <T> MultiReaderUnifiedSet<T> optimistic(MutableSet<T> newDelegate)
+    {
+        ReadWriteLock newLock = new ReentrantReadWriteLock();
+        return new MultiReaderUnifiedSet<>(newDelegate, newLock, new OptimisticReadWriteLockWrapper(newLock));
+    }
+
     @Override
     protected MutableSet<T> getDelegate()
     {
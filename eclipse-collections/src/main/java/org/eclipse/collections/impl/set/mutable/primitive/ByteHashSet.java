@@ -17,11 +17,14 @@ import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.ByteIterable;
 import org.eclipse.collections.api.LazyByteIterable;
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.ParallelByteIterable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
 import org.eclipse.collections.api.block.function.primitive.ByteToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectByteToObjectFunction;
@@ -806,6 +809,18 @@ public final class ByteHashSet implements MutableByteSet, Externalizable
         return new LazyByteIterableAdapter(this);
     }
 
+    /**
+     * The set holds at most 256 values in four bit groups, so it is copied into a {@link ByteArrayList} which is then
+     * split into batches.
+     *
+     * @since 11.0
+     */
+    @Beta
+    public ParallelByteIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return ByteArrayList.newList(this).asParallel(executorService, batchSize);
+    }
+
     @Override
     public long sum()
     {
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.util.Arrays;
+
+/**
+ * Operations on the control bytes of the hash tables that probe a whole group of slots at once, in the style of
+ * SwissTable. Every slot of such a table has a control byte, and the control bytes of {@link #GROUP_SIZE} consecutive
+ * slots are packed into one long, so that a lookup tests a whole group with a few SWAR (SIMD within a register)
+ * operations instead of one key comparison per slot.
+ * <p>
+ * The control byte of an occupied slot holds the low seven bits of the hash code of its key, which is never negative.
+ * Free slots are either {@link #EMPTY} or {@link #DELETED}. A lookup visits groups in the order given by
+ * {@link #nextGroup(int, int, int)} until it finds the key or a group with an empty slot, comparing keys only where
+ * the seven bits match. A group that has never been full ends every probe sequence that reaches it, so a miss usually
+ * reads a single group.
+ *
+ * @since 11.0
+ */
+public final class ControlGroups
+{
+    public static final int GROUP_SIZE = 8;
+    public static final int GROUP_SHIFT = 3;
+
+    public static final byte EMPTY = (byte) 0x80;
+    public static final byte DELETED = (byte) 0xFE;
+
+    private static final long EMPTY_GROUP = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private ControlGroups()
+    {
+        throw new AssertionError("Suppress default constructor for noninstantiability");
+    }
+
+    /**
+     * Returns the groups for a table of at least {@code capacity} slots, all empty. The number of groups is a power of
+     * two.
+     */
+    public static long[] newGroups(int capacity)
+    {
+        int groupCount = 1;
+        while (groupCount << GROUP_SHIFT < capacity)
+        {
+            groupCount <<= 1;
+        }
+        long[] groups = new long[groupCount];
+        Arrays.fill(groups, EMPTY_GROUP);
+        return groups;
+    }
+
+    /**
+     * Returns the number of slots that may be occupied or deleted before the table must be rehashed, which keeps at
+     * least one slot in eight empty.
+     */
+    public static int maxLoad(long[] groups)
+    {
+        return groups.length * (GROUP_SIZE - 1);
+    }
+
+    /**
+     * Mixes a hash code so that both the bits used to select the first group and the seven bits stored in the control
+     * byte depend on all of its bits.
+     */
+    public static int mix(int hashCode)
+    {
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    public static int firstGroup(int hash, int groupCount)
+    {
+        return (hash >>> 7) & (groupCount - 1);
+    }
+
+    /**
+     * Returns the group after {@code group} in a probe sequence. The sequence moves by 1, 2, 3, ... groups, which visits
+     * every group of a power of two sized table exactly once in the first {@code groupCount} steps.
+     */
+    public static int nextGroup(int group, int step, int groupCount)
+    {
+        return (group + step) & (groupCount - 1);
+    }
+
+    public static byte controlOf(int hash)
+    {
+        return (byte) (hash & 0x7F);
+    }
+
+    /**
+     * Returns a mask with the high bit set in the byte of every slot of the group whose control byte is
+     * {@code control}. Borrows can also set the bit of a slot next to a match whose control byte is {@code control + 1},
+     * so the caller must still compare the key of every slot in the mask.
+     */
+    public static long match(long group, byte control)
+    {
+        long bytes = group ^ (LOW_BITS * control);
+        return (bytes - LOW_BITS) & ~bytes & HIGH_BITS;
+    }
+
+    public static long matchEmpty(long group)
+    {
+        return group & ~(group << 6) & HIGH_BITS;
+    }
+
+    public static long matchEmptyOrDeleted(long group)
+    {
+        return group & HIGH_BITS;
+    }
+
+    public static long matchFull(long group)
+    {
+        return ~group & HIGH_BITS;
+    }
+
+    /**
+     * Returns the index within its group of the lowest slot in a non-zero mask.
+     */
+    public static int lowestSlot(long mask)
+    {
+        return Long.numberOfTrailingZeros(mask) >>> 3;
+    }
+
+    public static long withoutLowestSlot(long mask)
+    {
+        return mask & (mask - 1L);
+    }
+
+    public static boolean isFull(long[] groups, int slot)
+    {
+        return (byte) (groups[slot >>> GROUP_SHIFT] >>> ((slot & (GROUP_SIZE - 1)) << 3)) >= 0;
+    }
+
+    public static boolean isEmpty(long[] groups, int slot)
+    {
+        return (byte) (groups[slot >>> GROUP_SHIFT] >>> ((slot & (GROUP_SIZE - 1)) << 3)) == EMPTY;
+    }
+
+    public static void setControl(long[] groups, int slot, byte control)
+    {
+        int group = slot >>> GROUP_SHIFT;
+        int shift = (slot & (GROUP_SIZE - 1)) << 3;
+        groups[group] = groups[group] & ~(0xFFL << shift) | (control & 0xFFL) << shift;
+    }
+
+    /**
+     * Returns the first free slot in the probe sequence of {@code hash}.
+     */
+    public static int findFreeSlot(long[] groups, int hash)
+    {
+        int group = ControlGroups.firstGroup(hash, groups.length);
+        for (int step = 1; ; step++)
+        {
+            long free = ControlGroups.matchEmptyOrDeleted(groups[group]);
+            if (free != 0L)
+            {
+                return (group << GROUP_SHIFT) + ControlGroups.lowestSlot(free);
+            }
+            group = ControlGroups.nextGroup(group, step, groups.length);
+        }
+    }
+
+    /**
+     * Frees an occupied slot and returns true if it became empty rather than deleted. A slot can be made empty only
+     * when its group still has an empty slot, since then no probe sequence has ever continued past the group.
+     */
+    public static boolean free(long[] groups, int slot)
+    {
+        boolean empty = ControlGroups.matchEmpty(groups[slot >>> GROUP_SHIFT]) != 0L;
+        ControlGroups.setControl(groups, slot, empty ? EMPTY : DELETED);
+        return empty;
+    }
+
+    public static void clear(long[] groups)
+    {
+        Arrays.fill(groups, EMPTY_GROUP);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+
+import sun.misc.Unsafe;
+
+/**
+ * A block of zero-initialized native memory outside the garbage collected heap, used as the backing store of the
+ * off-heap primitive collections. Unlike a direct ByteBuffer, a block may be larger than 2GB.
+ * <p>
+ * The typed accessors address the block as an array of the accessed type, so {@code getLong(2)} reads bytes 16 to 23.
+ * Every access is bounds checked, since an access outside the block would corrupt the process rather than throw. The
+ * memory is released by {@link #free()}, after which every access throws IllegalStateException. A block is not
+ * released by the garbage collector, so a block which is never freed is leaked. DirectMemory is not thread-safe.
+ *
+ * @since 11.0
+ */
+public final class DirectMemory
+{
+    private static final Unsafe UNSAFE = DirectMemory.getUnsafe();
+
+    private long address;
+    private long byteSize;
+    private boolean freed;
+
+    public DirectMemory(long byteSize)
+    {
+        if (byteSize < 0L)
+        {
+            throw new IllegalArgumentException("size cannot be less than 0: " + byteSize);
+        }
+        this.address = UNSAFE.allocateMemory(Math.max(byteSize, 1L));
+        this.byteSize = byteSize;
+        UNSAFE.setMemory(this.address, byteSize, (byte) 0);
+    }
+
+    public long byteSize()
+    {
+        return this.byteSize;
+    }
+
+    public boolean isFreed()
+    {
+        return this.freed;
+    }
+
+    /**
+     * Resizes this block, keeping the contents which fit in the new size. Memory added at the end is zeroed.
+     */
+    public void reallocate(long newByteSize)
+    {
+        this.checkNotFreed();
+        if (newByteSize < 0L)
+        {
+            throw new IllegalArgumentException("size cannot be less than 0: " + newByteSize);
+        }
+        this.address = UNSAFE.reallocateMemory(this.address, Math.max(newByteSize, 1L));
+        if (newByteSize > this.byteSize)
+        {
+            UNSAFE.setMemory(this.address + this.byteSize, newByteSize - this.byteSize, (byte) 0);
+        }
+        this.byteSize = newByteSize;
+    }
+
+    /**
+     * Copies {@code byteCount} bytes within this block. The source and target ranges may overlap.
+     */
+    public void copy(long fromByteOffset, long toByteOffset, long byteCount)
+    {
+        this.checkRange(fromByteOffset, byteCount);
+        this.checkRange(toByteOffset, byteCount);
+        UNSAFE.copyMemory(this.address + fromByteOffset, this.address + toByteOffset, byteCount);
+    }
+
+    /**
+     * Sets {@code byteCount} bytes starting at {@code byteOffset} to zero.
+     */
+    public void clear(long byteOffset, long byteCount)
+    {
+        this.checkRange(byteOffset, byteCount);
+        UNSAFE.setMemory(this.address + byteOffset, byteCount, (byte) 0);
+    }
+
+    public byte getByte(long index)
+    {
+        return UNSAFE.getByte(this.addressOf(index, 0));
+    }
+
+    public void putByte(long index, byte value)
+    {
+        UNSAFE.putByte(this.addressOf(index, 0), value);
+    }
+
+    public short getShort(long index)
+    {
+        return UNSAFE.getShort(this.addressOf(index, 1));
+    }
+
+    public void putShort(long index, short value)
+    {
+        UNSAFE.putShort(this.addressOf(index, 1), value);
+    }
+
+    public char getChar(long index)
+    {
+        return UNSAFE.getChar(this.addressOf(index, 1));
+    }
+
+    public void putChar(long index, char value)
+    {
+        UNSAFE.putChar(this.addressOf(index, 1), value);
+    }
+
+    public int getInt(long index)
+    {
+        return UNSAFE.getInt(this.addressOf(index, 2));
+    }
+
+    public void putInt(long index, int value)
+    {
+        UNSAFE.putInt(this.addressOf(index, 2), value);
+    }
+
+    public long getLong(long index)
+    {
+        return UNSAFE.getLong(this.addressOf(index, 3));
+    }
+
+    public void putLong(long index, long value)
+    {
+        UNSAFE.putLong(this.addressOf(index, 3), value);
+    }
+
+    public float getFloat(long index)
+    {
+        return UNSAFE.getFloat(this.addressOf(index, 2));
+    }
+
+    public void putFloat(long index, float value)
+    {
+        UNSAFE.putFloat(this.addressOf(index, 2), value);
+    }
+
+    public double getDouble(long index)
+    {
+        return UNSAFE.getDouble(this.addressOf(index, 3));
+    }
+
+    public void putDouble(long index, double value)
+    {
+        UNSAFE.putDouble(this.addressOf(index, 3), value);
+    }
+
+    /**
+     * Releases the memory of this block. Calling free on a block which has already been freed has no effect.
+     */
+    public void free()
+    {
+        if (!this.freed)
+        {
+            UNSAFE.freeMemory(this.address);
+            this.address = 0L;
+            this.byteSize = 0L;
+            this.freed = true;
+        }
+    }
+
+    private long addressOf(long index, int shift)
+    {
+        long offset = index << shift;
+        if (index < 0L || offset + (1L << shift) > this.byteSize)
+        {
+            this.checkNotFreed();
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + (this.byteSize >> shift));
+        }
+        return this.address + offset;
+    }
+
+    private void checkRange(long byteOffset, long byteCount)
+    {
+        if (byteOffset < 0L || byteCount < 0L || byteOffset + byteCount > this.byteSize)
+        {
+            this.checkNotFreed();
+            throw new IndexOutOfBoundsException("Range: [" + byteOffset + ", " + (byteOffset + byteCount) + ") Size: " + this.byteSize);
+        }
+    }
+
+    private void checkNotFreed()
+    {
+        if (this.freed)
+        {
+            throw new IllegalStateException("Memory has already been freed");
+        }
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged((PrivilegedExceptionAction<Unsafe>) () -> {
+                    Field field = Unsafe.class.getDeclaredField("theUnsafe");
+                    field.setAccessible(true);
+                    return (Unsafe) field.get(null);
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+}
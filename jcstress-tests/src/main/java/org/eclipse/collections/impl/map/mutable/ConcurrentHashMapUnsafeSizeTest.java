@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+@JCStressTest
+@Outcome(id = "3", expect = Expect.ACCEPTABLE)
+@Outcome(expect = Expect.FORBIDDEN)
+@State
+public class ConcurrentHashMapUnsafeSizeTest
+{
+    private final ConcurrentHashMapUnsafe<Integer, Boolean> map = ConcurrentHashMapUnsafe.newMap();
+
+    public ConcurrentHashMapUnsafeSizeTest()
+    {
+        this.map.put(0, true);
+        this.map.put(1, true);
+    }
+
+    @Actor
+    public void put2()
+    {
+        this.map.put(2, true);
+    }
+
+    @Actor
+    public void put3()
+    {
+        this.map.put(3, true);
+    }
+
+    @Actor
+    public void put4()
+    {
+        this.map.put(4, true);
+    }
+
+    @Actor
+    public void remove0()
+    {
+        this.map.remove(0);
+    }
+
+    @Actor
+    public void remove1()
+    {
+        this.map.remove(1);
+    }
+
+    @Arbiter
+    public void after(I_Result r)
+    {
+        r.r1 = this.map.size();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.bag.mutable.MultiReaderHashBag;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares MultiReaderHashBag and ConcurrentHashBag counting tokens drawn from a fixed vocabulary from several threads
+ * at once, alone and with reader threads looking up counts next to them.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentBagCountingTest extends AbstractJMHTestRunner
+{
+    private static final int TOKENS = 1_000;
+    private static final int WRITERS = 8;
+    private static final int READERS = 2;
+
+    @Param({"MultiReaderHashBag", "ConcurrentHashBag"})
+    public String type;
+
+    private final String[] tokens = new String[TOKENS];
+    private MutableBag<String> bag;
+
+    @Setup(Level.Trial)
+    public void setUpTokens()
+    {
+        for (int i = 0; i < TOKENS; i++)
+        {
+            this.tokens[i] = "token" + i;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpBag()
+    {
+        this.bag = "ConcurrentHashBag".equals(this.type) ? ConcurrentHashBag.newBag() : MultiReaderHashBag.newBag();
+    }
+
+    private String nextToken()
+    {
+        return this.tokens[ThreadLocalRandom.current().nextInt(TOKENS)];
+    }
+
+    @Benchmark
+    @Group("count")
+    @GroupThreads(WRITERS)
+    public boolean add()
+    {
+        return this.bag.add(this.nextToken());
+    }
+
+    @Benchmark
+    @Group("countOccurrences")
+    @GroupThreads(WRITERS)
+    public int addOccurrences()
+    {
+        return this.bag.addOccurrences(this.nextToken(), 3);
+    }
+
+    @Benchmark
+    @Group("countWithReaders")
+    @GroupThreads(WRITERS)
+    public boolean addWithReaders()
+    {
+        return this.bag.add(this.nextToken());
+    }
+
+    @Benchmark
+    @Group("countWithReaders")
+    @GroupThreads(READERS)
+    public int occurrencesOf()
+    {
+        return this.bag.occurrencesOf(this.nextToken());
+    }
+}
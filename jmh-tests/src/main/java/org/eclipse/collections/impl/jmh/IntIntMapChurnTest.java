@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.RobinHoodIntIntHashMap;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares IntIntHashMap, which leaves a tombstone for every removed key, with RobinHoodIntIntHashMap, which shifts
+ * entries back instead, on a map whose keys slide through a window: every step puts a new key, removes the oldest key
+ * and looks up a key in the middle of the window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IntIntMapChurnTest extends AbstractJMHTestRunner
+{
+    private static final int STREAM_FACTOR = 4;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private int[] keys;
+    private MutableIntIntMap intIntHashMap;
+    private MutableIntIntMap robinHoodIntIntHashMap;
+    private int intIntHashMapPosition;
+    private int robinHoodIntIntHashMapPosition;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        MutableIntSet distinct = new IntHashSet(this.size * STREAM_FACTOR);
+        while (distinct.size() < this.size * STREAM_FACTOR)
+        {
+            distinct.add(random.nextInt());
+        }
+        this.keys = distinct.toArray();
+        this.intIntHashMap = new IntIntHashMap();
+        this.robinHoodIntIntHashMap = new RobinHoodIntIntHashMap();
+        for (int i = 0; i < this.size; i++)
+        {
+            this.intIntHashMap.put(this.keys[i], i);
+            this.robinHoodIntIntHashMap.put(this.keys[i], i);
+        }
+        this.intIntHashMapPosition = this.size;
+        this.robinHoodIntIntHashMapPosition = this.size;
+    }
+
+    @Benchmark
+    public void intIntHashMap()
+    {
+        this.intIntHashMapPosition = this.churn(this.intIntHashMap, this.intIntHashMapPosition);
+    }
+
+    @Benchmark
+    public void robinHoodIntIntHashMap()
+    {
+        this.robinHoodIntIntHashMapPosition = this.churn(this.robinHoodIntIntHashMap, this.robinHoodIntIntHashMapPosition);
+    }
+
+    /**
+     * Slides the window of keys in the map forward by {@code size} steps, starting at {@code position} in the stream
+     * of keys, and returns the position after the last step.
+     */
+    private int churn(MutableIntIntMap map, int position)
+    {
+        int length = this.keys.length;
+        int current = position;
+        for (int i = 0; i < this.size; i++)
+        {
+            map.put(this.keys[current % length], current);
+            map.removeKey(this.keys[(current - this.size) % length]);
+            int key = this.keys[(current - this.size / 2) % length];
+            if (!map.containsKey(key))
+            {
+                throw new AssertionError(key + " not in map");
+            }
+            current++;
+        }
+        if (map.size() != this.size)
+        {
+            throw new AssertionError("size is " + map.size());
+        }
+        return current % length + length;
+    }
+}
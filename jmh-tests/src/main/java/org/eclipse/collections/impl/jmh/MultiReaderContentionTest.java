@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.MultiReaderFastList;
+import org.eclipse.collections.impl.set.mutable.MultiReaderUnifiedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares MultiReaderUnifiedSet and MultiReaderFastList taking the read lock for every read with the optimistic
+ * versions, with several reader threads alone and with one writer thread next to them.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiReaderContentionTest extends AbstractJMHTestRunner
+{
+    private static final int SIZE = 1_000;
+    private static final int READERS = 4;
+
+    @Param({"false", "true"})
+    public boolean optimistic;
+
+    private MultiReaderUnifiedSet<Integer> set;
+    private MultiReaderFastList<Integer> list;
+
+    @Setup
+    public void setUp()
+    {
+        Interval elements = Interval.zeroTo(SIZE - 1);
+        this.set = this.optimistic ? MultiReaderUnifiedSet.newOptimisticSet(elements) : MultiReaderUnifiedSet.newSet(elements);
+        this.list = this.optimistic ? MultiReaderFastList.newOptimisticList(elements) : MultiReaderFastList.newList(elements);
+    }
+
+    @Benchmark
+    @Group("setReadOnly")
+    @GroupThreads(READERS)
+    public int setSize()
+    {
+        return this.set.size();
+    }
+
+    @Benchmark
+    @Group("setReadMostly")
+    @GroupThreads(READERS)
+    public int setSizeWithWriter()
+    {
+        return this.set.size();
+    }
+
+    @Benchmark
+    @Group("setReadMostly")
+    @GroupThreads(1)
+    public boolean setWriter()
+    {
+        this.set.add(SIZE);
+        return this.set.remove(SIZE);
+    }
+
+    @Benchmark
+    @Group("listReadOnly")
+    @GroupThreads(READERS)
+    public Integer listGet()
+    {
+        return this.list.get(SIZE / 2);
+    }
+
+    @Benchmark
+    @Group("listReadMostly")
+    @GroupThreads(READERS)
+    public Integer listGetWithWriter()
+    {
+        return this.list.get(SIZE / 2);
+    }
+
+    @Benchmark
+    @Group("listReadMostly")
+    @GroupThreads(1)
+    public boolean listWriter()
+    {
+        this.list.add(SIZE);
+        return this.list.remove((Object) SIZE);
+    }
+}
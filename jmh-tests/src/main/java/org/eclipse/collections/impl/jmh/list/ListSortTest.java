@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.list;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.block.comparator.primitive.LongComparator;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares sortThis with sortThisParallel on FastList and primitive array lists. The lists are refilled with the same
+ * unsorted values before every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListSortTest extends AbstractJMHTestRunner
+{
+    private static final Comparator<Integer> REVERSE_ORDER = Comparator.reverseOrder();
+    private static final LongComparator LONG_REVERSE_ORDER = (a, b) -> Long.compare(b, a);
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private Integer[] boxedValues;
+    private int[] intValues;
+    private long[] longValues;
+
+    private FastList<Integer> fastList;
+    private IntArrayList intList;
+    private LongArrayList longList;
+
+    @Setup(Level.Trial)
+    public void setUpValues()
+    {
+        Random random = new Random(42L);
+        this.boxedValues = new Integer[this.size];
+        this.intValues = new int[this.size];
+        this.longValues = new long[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            long value = random.nextLong();
+            this.boxedValues[i] = (int) value;
+            this.intValues[i] = (int) value;
+            this.longValues[i] = value;
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpLists()
+    {
+        this.fastList = FastList.newListWith(this.boxedValues.clone());
+        this.intList = IntArrayList.newListWith(this.intValues.clone());
+        this.longList = LongArrayList.newListWith(this.longValues.clone());
+    }
+
+    @Benchmark
+    public FastList<Integer> serial_fastList()
+    {
+        return this.fastList.sortThis();
+    }
+
+    @Benchmark
+    public FastList<Integer> parallel_fastList()
+    {
+        return this.fastList.sortThisParallel();
+    }
+
+    @Benchmark
+    public FastList<Integer> serial_fastList_comparator()
+    {
+        return this.fastList.sortThis(REVERSE_ORDER);
+    }
+
+    @Benchmark
+    public FastList<Integer> parallel_fastList_comparator()
+    {
+        return this.fastList.sortThisParallel(REVERSE_ORDER);
+    }
+
+    @Benchmark
+    public IntArrayList serial_intList()
+    {
+        return this.intList.sortThis();
+    }
+
+    @Benchmark
+    public IntArrayList parallel_intList()
+    {
+        return this.intList.sortThisParallel();
+    }
+
+    @Benchmark
+    public LongArrayList serial_longList()
+    {
+        return this.longList.sortThis();
+    }
+
+    @Benchmark
+    public LongArrayList parallel_longList()
+    {
+        return this.longList.sortThisParallel();
+    }
+
+    @Benchmark
+    public LongArrayList serial_longList_comparator()
+    {
+        return this.longList.sortThis(LONG_REVERSE_ORDER);
+    }
+
+    @Benchmark
+    public LongArrayList parallel_longList_comparator()
+    {
+        return this.longList.sortThisParallel(LONG_REVERSE_ORDER);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Every thread puts and then removes its own keys in one shared map, so the map never resizes and the only
+ * contended memory is the size counter. Run with increasing thread counts to see how each map scales.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+public class ConcurrentMapContendedPutTest extends AbstractJMHTestRunner
+{
+    private static final int KEYS_PER_THREAD = 1024;
+
+    @Param({"ec", "ecUnsafe", "jdk"})
+    public String mapType;
+
+    private ConcurrentMap<Integer, Boolean> map;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Setup
+    public void setUp()
+    {
+        int capacity = KEYS_PER_THREAD * Runtime.getRuntime().availableProcessors() * 2;
+        switch (this.mapType)
+        {
+            case "ec":
+                this.map = ConcurrentHashMap.newMap(capacity);
+                break;
+            case "ecUnsafe":
+                this.map = ConcurrentHashMapUnsafe.newMap(capacity);
+                break;
+            case "jdk":
+                this.map = new java.util.concurrent.ConcurrentHashMap<>(capacity);
+                break;
+            default:
+                throw new IllegalArgumentException(this.mapType);
+        }
+    }
+
+    @Benchmark
+    public void putRemove(ThreadKeys threadKeys)
+    {
+        ConcurrentMap<Integer, Boolean> localMap = this.map;
+        Integer[] localKeys = threadKeys.keys;
+        for (Integer key : localKeys)
+        {
+            localMap.put(key, Boolean.TRUE);
+        }
+        for (Integer key : localKeys)
+        {
+            localMap.remove(key);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKeys
+    {
+        private Integer[] keys;
+
+        @Setup
+        public void setUp(ConcurrentMapContendedPutTest benchmark)
+        {
+            int offset = benchmark.threadCount.getAndIncrement() * KEYS_PER_THREAD;
+            this.keys = new Integer[KEYS_PER_THREAD];
+            for (int i = 0; i < KEYS_PER_THREAD; i++)
+            {
+                this.keys[i] = offset + i;
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
+import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares BTreeSortedMap with TreeSortedMap for random puts, ascending (time-series style) puts, random gets, full
+ * ordered iteration and iteration of small subMap ranges.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortedMapTest extends AbstractJMHTestRunner
+{
+    private static final int RANGE_COUNT = 1_000;
+    private static final int RANGE_WIDTH = 100;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Integer[] randomKeys;
+    private Integer[] ascendingKeys;
+    private Integer[] rangeStarts;
+
+    private MutableSortedMap<Integer, Integer> treeSortedMap;
+    private MutableSortedMap<Integer, Integer> bTreeSortedMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        this.randomKeys = new Integer[this.size];
+        this.ascendingKeys = new Integer[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            this.randomKeys[i] = random.nextInt();
+            this.ascendingKeys[i] = i;
+        }
+        this.rangeStarts = new Integer[RANGE_COUNT];
+        for (int i = 0; i < RANGE_COUNT; i++)
+        {
+            this.rangeStarts[i] = this.randomKeys[random.nextInt(this.size)];
+        }
+        this.treeSortedMap = SortedMapTest.fill(TreeSortedMap.newMap(), this.randomKeys);
+        this.bTreeSortedMap = SortedMapTest.fill(BTreeSortedMap.newMap(), this.randomKeys);
+    }
+
+    private static MutableSortedMap<Integer, Integer> fill(MutableSortedMap<Integer, Integer> map, Integer[] keys)
+    {
+        for (Integer key : keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public MutableSortedMap<Integer, Integer> put_random_treeSortedMap()
+    {
+        return SortedMapTest.fill(TreeSortedMap.newMap(), this.randomKeys);
+    }
+
+    @Benchmark
+    public MutableSortedMap<Integer, Integer> put_random_bTreeSortedMap()
+    {
+        return SortedMapTest.fill(BTreeSortedMap.newMap(), this.randomKeys);
+    }
+
+    @Benchmark
+    public MutableSortedMap<Integer, Integer> put_ascending_treeSortedMap()
+    {
+        return SortedMapTest.fill(TreeSortedMap.newMap(), this.ascendingKeys);
+    }
+
+    @Benchmark
+    public MutableSortedMap<Integer, Integer> put_ascending_bTreeSortedMap()
+    {
+        return SortedMapTest.fill(BTreeSortedMap.newMap(), this.ascendingKeys);
+    }
+
+    @Benchmark
+    public long get_treeSortedMap()
+    {
+        return SortedMapTest.get(this.treeSortedMap, this.randomKeys);
+    }
+
+    @Benchmark
+    public long get_bTreeSortedMap()
+    {
+        return SortedMapTest.get(this.bTreeSortedMap, this.randomKeys);
+    }
+
+    private static long get(MutableSortedMap<Integer, Integer> map, Integer[] keys)
+    {
+        long sum = 0L;
+        for (Integer key : keys)
+        {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachKeyValue_treeSortedMap()
+    {
+        long[] sum = new long[1];
+        this.treeSortedMap.forEachKeyValue((key, value) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long forEachKeyValue_bTreeSortedMap()
+    {
+        long[] sum = new long[1];
+        this.bTreeSortedMap.forEachKeyValue((key, value) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long subMapScan_treeSortedMap()
+    {
+        return this.subMapScan(this.treeSortedMap);
+    }
+
+    @Benchmark
+    public long subMapScan_bTreeSortedMap()
+    {
+        return this.subMapScan(this.bTreeSortedMap);
+    }
+
+    private long subMapScan(MutableSortedMap<Integer, Integer> map)
+    {
+        long sum = 0L;
+        for (Integer start : this.rangeStarts)
+        {
+            int count = 0;
+            for (Integer value : map.tailMap(start).values())
+            {
+                sum += value;
+                if (++count == RANGE_WIDTH)
+                {
+                    break;
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableIntIntMap;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.SwissHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.SwissIntIntHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the group probed SwissHashMap and SwissIntIntHashMap with UnifiedMap and IntIntHashMap for gets of present
+ * keys, gets of absent keys and puts into an empty map.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SwissHashMapTest extends AbstractJMHTestRunner
+{
+    private static final int RANDOM_COUNT = 9;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private String[] stringKeys;
+    private String[] absentStringKeys;
+    private int[] intKeys;
+    private int[] absentIntKeys;
+
+    private MutableMap<String, String> unifiedMap;
+    private MutableMap<String, String> swissHashMap;
+    private MutableIntIntMap intIntHashMap;
+    private MutableIntIntMap swissIntIntHashMap;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random(123456789012345L);
+        this.stringKeys = new String[this.size];
+        this.absentStringKeys = new String[this.size];
+        this.intKeys = new int[this.size];
+        this.absentIntKeys = new int[this.size];
+        for (int i = 0; i < this.size; i++)
+        {
+            // present and absent keys differ in length, so they can never collide
+            this.stringKeys[i] = RandomStringUtils.random(RANDOM_COUNT, 0, 0, false, true, null, random);
+            this.absentStringKeys[i] = RandomStringUtils.random(RANDOM_COUNT + 1, 0, 0, false, true, null, random);
+            this.intKeys[i] = random.nextInt() & ~1;
+            this.absentIntKeys[i] = random.nextInt() | 1;
+        }
+        this.unifiedMap = SwissHashMapTest.fill(UnifiedMap.newMap(), this.stringKeys);
+        this.swissHashMap = SwissHashMapTest.fill(SwissHashMap.newMap(), this.stringKeys);
+        this.intIntHashMap = SwissHashMapTest.fill(new IntIntHashMap(), this.intKeys);
+        this.swissIntIntHashMap = SwissHashMapTest.fill(new SwissIntIntHashMap(), this.intKeys);
+    }
+
+    private static MutableMap<String, String> fill(MutableMap<String, String> map, String[] keys)
+    {
+        for (String key : keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static MutableIntIntMap fill(MutableIntIntMap map, int[] keys)
+    {
+        for (int key : keys)
+        {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static int get(MutableMap<String, String> map, String[] keys)
+    {
+        int found = 0;
+        for (String key : keys)
+        {
+            if (map.get(key) != null)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static long get(MutableIntIntMap map, int[] keys)
+    {
+        long sum = 0L;
+        for (int key : keys)
+        {
+            sum += map.getIfAbsent(key, -1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int getHit_unifiedMap()
+    {
+        return SwissHashMapTest.get(this.unifiedMap, this.stringKeys);
+    }
+
+    @Benchmark
+    public int getHit_swissHashMap()
+    {
+        return SwissHashMapTest.get(this.swissHashMap, this.stringKeys);
+    }
+
+    @Benchmark
+    public int getMiss_unifiedMap()
+    {
+        return SwissHashMapTest.get(this.unifiedMap, this.absentStringKeys);
+    }
+
+    @Benchmark
+    public int getMiss_swissHashMap()
+    {
+        return SwissHashMapTest.get(this.swissHashMap, this.absentStringKeys);
+    }
+
+    @Benchmark
+    public MutableMap<String, String> put_unifiedMap()
+    {
+        return SwissHashMapTest.fill(UnifiedMap.newMap(), this.stringKeys);
+    }
+
+    @Benchmark
+    public MutableMap<String, String> put_swissHashMap()
+    {
+        return SwissHashMapTest.fill(SwissHashMap.newMap(), this.stringKeys);
+    }
+
+    @Benchmark
+    public long getHit_intIntHashMap()
+    {
+        return SwissHashMapTest.get(this.intIntHashMap, this.intKeys);
+    }
+
+    @Benchmark
+    public long getHit_swissIntIntHashMap()
+    {
+        return SwissHashMapTest.get(this.swissIntIntHashMap, this.intKeys);
+    }
+
+    @Benchmark
+    public long getMiss_intIntHashMap()
+    {
+        return SwissHashMapTest.get(this.intIntHashMap, this.absentIntKeys);
+    }
+
+    @Benchmark
+    public long getMiss_swissIntIntHashMap()
+    {
+        return SwissHashMapTest.get(this.swissIntIntHashMap, this.absentIntKeys);
+    }
+
+    @Benchmark
+    public MutableIntIntMap put_intIntHashMap()
+    {
+        return SwissHashMapTest.fill(new IntIntHashMap(), this.intKeys);
+    }
+
+    @Benchmark
+    public MutableIntIntMap put_swissIntIntHashMap()
+    {
+        return SwissHashMapTest.fill(new SwissIntIntHashMap(), this.intKeys);
+    }
+}
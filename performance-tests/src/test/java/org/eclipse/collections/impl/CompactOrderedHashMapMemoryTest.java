@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the retained heap of LinkedHashMap, which backs OrderedMapAdapter, against CompactOrderedHashMap. The keys
+ * and values are shared between all copies, so the difference is the table and entry overhead alone.
+ */
+public class CompactOrderedHashMapMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompactOrderedHashMapMemoryTest.class);
+
+    private static final int COPIES = 1_000;
+
+    @Test
+    @Category(MemoryTests.class)
+    public void orderedMapFootprint()
+    {
+        for (int size : new int[]{10, 100, 1_000, 10_000})
+        {
+            Map<Integer, Integer> source = new LinkedHashMap<>(Interval.oneTo(size).toMap(each -> each, each -> each));
+            long linked = CompactOrderedHashMapMemoryTest.bytesPerCopy(source, LinkedHashMap::new);
+            long compact = CompactOrderedHashMapMemoryTest.bytesPerCopy(source, CompactOrderedHashMap::new);
+            LOGGER.info("Ordered map size {}: LinkedHashMap {} bytes, CompactOrderedHashMap {} bytes", size, linked, compact);
+            Assert.assertTrue(compact < linked);
+        }
+    }
+
+    private static <S> long bytesPerCopy(S source, Function<S, ?> factory)
+    {
+        Object[] copies = new Object[COPIES];
+        long before = CompactOrderedHashMapMemoryTest.usedMemory();
+        for (int i = 0; i < COPIES; i++)
+        {
+            copies[i] = factory.apply(source);
+        }
+        long after = CompactOrderedHashMapMemoryTest.usedMemory();
+        Assert.assertNotNull(copies[COPIES - 1]);
+        return (after - before) / COPIES;
+    }
+
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++)
+        {
+            System.gc();
+            Thread.yield();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
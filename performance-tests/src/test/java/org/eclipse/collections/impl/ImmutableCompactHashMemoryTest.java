@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl;
+
+import java.util.function.Function;
+
+import org.eclipse.collections.impl.bag.immutable.ImmutableCompactHashBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.immutable.ImmutableCompactHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.set.immutable.ImmutableCompactHashSet;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the retained heap of the default immutable hash map, set and bag against the exact-sized compact ones. The
+ * keys and values are shared between all copies, so the difference is the table overhead alone.
+ */
+public class ImmutableCompactHashMemoryTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImmutableCompactHashMemoryTest.class);
+
+    private static final int COPIES = 1_000;
+
+    @Test
+    @Category(MemoryTests.class)
+    public void immutableMapFootprint()
+    {
+        for (int size : new int[]{10, 100, 1_000, 10_000})
+        {
+            UnifiedMap<Integer, Integer> source = UnifiedMap.newMap(Interval.oneTo(size).toMap(each -> each, each -> each));
+            long unified = ImmutableCompactHashMemoryTest.bytesPerCopy(source, each -> each.toImmutable());
+            long compact = ImmutableCompactHashMemoryTest.bytesPerCopy(source, ImmutableCompactHashMap::newMap);
+            LOGGER.info("ImmutableMap size {}: ImmutableUnifiedMap {} bytes, ImmutableCompactHashMap {} bytes", size, unified, compact);
+            Assert.assertTrue(compact < unified);
+        }
+    }
+
+    @Test
+    @Category(MemoryTests.class)
+    public void immutableSetFootprint()
+    {
+        for (int size : new int[]{10, 100, 1_000, 10_000})
+        {
+            UnifiedSet<Integer> source = UnifiedSet.newSet(Interval.oneTo(size));
+            long unified = ImmutableCompactHashMemoryTest.bytesPerCopy(source, each -> each.toImmutable());
+            long compact = ImmutableCompactHashMemoryTest.bytesPerCopy(source, ImmutableCompactHashSet::newSet);
+            LOGGER.info("ImmutableSet size {}: ImmutableUnifiedSet {} bytes, ImmutableCompactHashSet {} bytes", size, unified, compact);
+            Assert.assertTrue(compact < unified);
+        }
+    }
+
+    @Test
+    @Category(MemoryTests.class)
+    public void immutableBagFootprint()
+    {
+        for (int size : new int[]{100, 1_000, 10_000})
+        {
+            HashBag<Integer> source = HashBag.newBag();
+            Interval.oneTo(size).each(each -> source.addOccurrences(each, each % 5 + 1));
+            long hashBag = ImmutableCompactHashMemoryTest.bytesPerCopy(source, Bags.immutable::withAll);
+            long compact = ImmutableCompactHashMemoryTest.bytesPerCopy(source, ImmutableCompactHashBag::newBag);
+            LOGGER.info("ImmutableBag size {}: ImmutableHashBag {} bytes, ImmutableCompactHashBag {} bytes", size, hashBag, compact);
+            Assert.assertTrue(compact < hashBag);
+        }
+    }
+
+    private static <S> long bytesPerCopy(S source, Function<S, ?> factory)
+    {
+        Object[] copies = new Object[COPIES];
+        long before = ImmutableCompactHashMemoryTest.usedMemory();
+        for (int i = 0; i < COPIES; i++)
+        {
+            copies[i] = factory.apply(source);
+        }
+        long after = ImmutableCompactHashMemoryTest.usedMemory();
+        Assert.assertNotNull(copies[COPIES - 1]);
+        return (after - before) / COPIES;
+    }
+
+    private static long usedMemory()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++)
+        {
+            System.gc();
+            Thread.yield();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.ParallelTests;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.CompositeFastList;
+import org.eclipse.collections.impl.parallel.SerialParallelPerformanceTest.TimeKeeper;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the pooled executor used by default by {@link ParallelIterate} with a work-stealing {@link ForkJoinPool}
+ * on uniform workloads and on skewed workloads, where the elements at the start of the input are much more expensive
+ * than the rest.
+ */
+public class ParallelIterateWorkStealingPerformanceTest
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelIterateWorkStealingPerformanceTest.class);
+
+    private static final int SCALE_FACTOR = Integer.parseInt(System.getProperty("scaleFactor", "100"));
+
+    private static final int WARM_UP_COUNT = Integer.parseInt(System.getProperty("WarmupCount", "20"));
+    private static final int RUN_COUNT = Integer.parseInt(System.getProperty("ParallelRunCount", "50"));
+
+    private static final int COUNT = 1000 * SCALE_FACTOR;
+
+    /**
+     * The first tenth of the elements are this many times more expensive than the rest.
+     */
+    private static final int SKEW = 50;
+
+    private final ExecutorService pooledExecutor = ParallelIterate.newPooledExecutor(
+            this.getClass().getSimpleName(),
+            true);
+    private final ForkJoinPool workStealingExecutor = ParallelIterate.newWorkStealingExecutor(
+            ParallelIterate.getDefaultMaxThreadPoolSize());
+
+    @After
+    public void tearDown()
+    {
+        this.pooledExecutor.shutdown();
+        this.workStealingExecutor.shutdown();
+    }
+
+    @Test
+    @Category(ParallelTests.class)
+    public void select()
+    {
+        this.measure("Select", false, (iterable, executor) -> Verify.assertNotEmpty(
+                ParallelIterate.select(iterable, ParallelIterateWorkStealingPerformanceTest.isEven(), new CompositeFastList<>(), 10000, executor, true)));
+    }
+
+    @Test
+    @Category(ParallelTests.class)
+    public void skewedSelect()
+    {
+        this.measure("SkewedSelect", true, (iterable, executor) -> Verify.assertNotEmpty(
+                ParallelIterate.select(iterable, ParallelIterateWorkStealingPerformanceTest.isEven(), new CompositeFastList<>(), 10000, executor, true)));
+    }
+
+    @Test
+    @Category(ParallelTests.class)
+    public void count()
+    {
+        this.measure("Count", false, (iterable, executor) -> Assert.assertTrue(
+                ParallelIterate.count(iterable, ParallelIterateWorkStealingPerformanceTest.isEven(), 10000, executor) > 0));
+    }
+
+    @Test
+    @Category(ParallelTests.class)
+    public void skewedGroupBy()
+    {
+        this.measure("SkewedGroupBy", true, (iterable, executor) -> Verify.assertNotEmpty(
+                ParallelIterate.groupBy(iterable, ParallelIterateWorkStealingPerformanceTest.mod(100), 10000, executor)));
+    }
+
+    private void measure(String algorithmName, boolean skewed, Algorithm algorithm)
+    {
+        LOGGER.info("*** Algorithm: {}", algorithmName);
+        LOGGER.info("Available Processors: {}", Runtime.getRuntime().availableProcessors());
+        LOGGER.info("Default Thread Pool Size: {}", ParallelIterate.getDefaultMaxThreadPoolSize());
+        MutableList<Integer> list = Interval.oneTo(COUNT).toList();
+        MutableList<Integer> iterable = skewed ? list.collect(ParallelIterateWorkStealingPerformanceTest.skewedCost()) : list;
+        for (int i = 0; i < 2; i++)
+        {
+            TimeKeeper.logAverageMillisecondsToRun(
+                    "Pooled " + algorithmName + " size: " + COUNT,
+                    () -> algorithm.run(iterable, this.pooledExecutor),
+                    RUN_COUNT,
+                    WARM_UP_COUNT);
+            TimeKeeper.logAverageMillisecondsToRun(
+                    "WorkStealing " + algorithmName + " size: " + COUNT,
+                    () -> algorithm.run(iterable, this.workStealingExecutor),
+                    RUN_COUNT,
+                    WARM_UP_COUNT);
+        }
+    }
+
+    private static Predicate<Integer> isEven()
+    {
+        return each -> ParallelIterateWorkStealingPerformanceTest.work(each) % 2 == 0;
+    }
+
+    private static Function<Integer, Integer> mod(int divisor)
+    {
+        return each -> ParallelIterateWorkStealingPerformanceTest.work(each) % divisor;
+    }
+
+    /**
+     * Marks the elements of the first tenth of the input as expensive by negating them.
+     */
+    private static Function<Integer, Integer> skewedCost()
+    {
+        return each -> each <= COUNT / 10 ? -each : each;
+    }
+
+    /**
+     * Burns a few cycles per element, SKEW times more for negative (expensive) elements, and returns the absolute value.
+     */
+    private static int work(int each)
+    {
+        int rounds = each < 0 ? SKEW : 1;
+        int value = Math.abs(each);
+        int hash = value;
+        for (int i = 0; i < rounds * 16; i++)
+        {
+            hash = hash * 31 + i;
+        }
+        return hash == 0 && value == 0 ? 1 : value;
+    }
+
+    private interface Algorithm
+    {
+        void run(MutableList<Integer> iterable, ExecutorService executor);
+    }
+}
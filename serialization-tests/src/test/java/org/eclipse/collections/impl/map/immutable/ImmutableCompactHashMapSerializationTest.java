@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Test;
+
+public class ImmutableCompactHashMapSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGxvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5pbW11dGFibGUuSW1tdXRh\n"
+                        + "YmxlQ29tcGFjdEhhc2hNYXAkSW1tdXRhYmxlQ29tcGFjdEhhc2hNYXBTZXJpYWxpemF0aW9uUHJv\n"
+                        + "eHkAAAAAAAAAAQwAAHhwdwQAAAAEc3IAEWphdmEubGFuZy5JbnRlZ2VyEuKgpPeBhzgCAAFJAAV2\n"
+                        + "YWx1ZXhyABBqYXZhLmxhbmcuTnVtYmVyhqyVHQuU4IsCAAB4cAAAAAJxAH4ABHNxAH4AAgAAAARx\n"
+                        + "AH4ABXNxAH4AAgAAAAFxAH4ABnNxAH4AAgAAAANxAH4AB3g=",
+                ImmutableCompactHashMap.newMapWith(
+                        Tuples.pair(1, 1),
+                        Tuples.pair(2, 2),
+                        Tuples.pair(3, 3),
+                        Tuples.pair(4, 4)));
+    }
+}
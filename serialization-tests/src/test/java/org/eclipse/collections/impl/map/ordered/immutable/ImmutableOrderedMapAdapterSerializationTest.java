@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.ordered.immutable;
+
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableOrderedMapAdapterSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAE1vcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5vcmRlcmVkLmltbXV0YWJs\n"
+                        + "ZS5JbW11dGFibGVPcmRlcmVkTWFwQWRhcHRlcgAAAAAAAAABAgABTAAIZGVsZWdhdGV0AEhMb3Jn\n"
+                        + "L2VjbGlwc2UvY29sbGVjdGlvbnMvaW1wbC9tYXAvb3JkZXJlZC9tdXRhYmxlL0NvbXBhY3RPcmRl\n"
+                        + "cmVkSGFzaE1hcDt4cHNyAEZvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm1hcC5vcmRlcmVk\n"
+                        + "Lm11dGFibGUuQ29tcGFjdE9yZGVyZWRIYXNoTWFwAAAAAAAAAAEMAAB4cHcEAAAAAHg=",
+                new ImmutableOrderedMapAdapter<>(CompactOrderedHashMap.newMap()));
+    }
+}
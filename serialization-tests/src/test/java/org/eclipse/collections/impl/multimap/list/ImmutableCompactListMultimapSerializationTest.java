@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.api.multimap.MutableMultimap;
+import org.eclipse.collections.impl.multimap.MultimapSerializationTestCase;
+
+public class ImmutableCompactListMultimapSerializationTest
+        extends MultimapSerializationTestCase
+{
+    @Override
+    protected MutableMultimap<String, String> createEmpty()
+    {
+        return FastListMultimap.newMultimap();
+    }
+
+    @Override
+    protected Multimap<String, String> getMultimapUnderTest()
+    {
+        FastListMultimap<String, String> multimap = FastListMultimap.newMultimap();
+        multimap.put("A", "A");
+        multimap.put("A", "B");
+        multimap.put("A", "B");
+        multimap.put("B", "A");
+        return multimap.toCompactImmutable();
+    }
+
+    @Override
+    public String getSerializedForm()
+    {
+        return "rO0ABXNyAHZvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLm11bHRpbWFwLmxpc3QuSW1tdXRh\n"
+                + "YmxlQ29tcGFjdExpc3RNdWx0aW1hcCRJbW11dGFibGVDb21wYWN0TGlzdE11bHRpbWFwU2VyaWFs\n"
+                + "aXphdGlvblByb3h5AAAAAAAAAAEMAAB4cHcEAAAAAnQAAUF3BAAAAANxAH4AAnQAAUJxAH4AA3EA\n"
+                + "fgADdwQAAAABcQB+AAJ4";
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.immutable.ordered;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.collections.api.map.ImmutableOrderedMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.map.ordered.immutable.ImmutableOrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.eclipse.collections.impl.test.junit.Java8Runner;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.test.UnmodifiableIterableTestCase;
+import org.eclipse.collections.test.map.OrderedMapIterableTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
+
+@RunWith(Java8Runner.class)
+public class ImmutableOrderedMapAdapterTest implements OrderedMapIterableTestCase, UnmodifiableIterableTestCase
+{
+    @Override
+    public <T> ImmutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new CompactOrderedHashMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return new ImmutableOrderedMapAdapter<>(result);
+    }
+
+    @Override
+    public <K, V> ImmutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new CompactOrderedHashMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return new ImmutableOrderedMapAdapter<>(result);
+    }
+
+    @Override
+    @Test
+    public void MapIterable_flipUniqueValues()
+    {
+        MapIterable<String, Integer> map = this.newWithKeysValues("Three", 3, "Two", 2, "One", 1);
+        MapIterable<Integer, String> result = map.flipUniqueValues();
+        assertEquals(Lists.mutable.with(3, 2, 1), result.keysView().toList());
+        assertEquals(Lists.mutable.with("Three", "Two", "One"), result.valuesView().toList());
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> this.newWithKeysValues(1, "2", 2, "2").flipUniqueValues());
+    }
+
+    @Test
+    public void copiesTheSourceMap()
+    {
+        MutableOrderedMap<String, Integer> source = CompactOrderedHashMap.newWithKeysValues("a", 1, "b", 2);
+        ImmutableOrderedMap<String, Integer> map = source.toImmutable();
+        source.put("c", 3);
+        source.put("a", 4);
+        assertEquals("{a=1, b=2}", map.toString());
+        assertSame(map, map.toImmutable());
+    }
+
+    @Test
+    public void mutationGuards()
+    {
+        Map<String, Integer> map = this.<String, Integer>newWithKeysValues("a", 1, "b", 2).castToMap();
+
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", 3));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> map.putAll(CompactOrderedHashMap.newWithKeysValues("c", 3)));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> map.values().remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().clear());
+
+        Map.Entry<String, Integer> entry = map.entrySet().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> entry.setValue(42));
+
+        Iterator<Map.Entry<String, Integer>> entryIterator = map.entrySet().iterator();
+        entryIterator.next();
+        assertThrows(UnsupportedOperationException.class, entryIterator::remove);
+
+        assertEquals("{a=1, b=2}", map.toString());
+    }
+
+    @Test
+    public void newWithAndWithoutLeaveTheOriginalUnchanged()
+    {
+        ImmutableOrderedMap<String, Integer> map = this.newWithKeysValues("a", 1, "b", 2);
+
+        assertEquals("{a=1, b=2, c=3}", map.newWithKeyValue("c", 3).toString());
+        assertEquals("{a=3, b=2}", map.newWithKeyValue("a", 3).toString());
+        assertEquals("{a=1, b=2, c=3, d=4}", map.newWithAllKeyValues(Lists.mutable.with(Tuples.pair("c", 3), Tuples.pair("d", 4))).toString());
+        assertEquals("{a=1, b=2, c=3}", map.newWithMap(CompactOrderedHashMap.newWithKeysValues("c", 3)).toString());
+        assertEquals("{a=1, b=2, c=3}", map.newWithMapIterable(CompactOrderedHashMap.newWithKeysValues("c", 3)).toString());
+        assertEquals("{a=1, b=2, c=3}", map.newWithAllKeyValueArguments(Tuples.pair("c", 3)).toString());
+        assertEquals("{b=2}", map.newWithoutKey("a").toString());
+        assertEquals("{}", map.newWithoutAllKeys(Lists.mutable.with("a", "b")).toString());
+        assertEquals("{a=1, b=2}", map.toString());
+    }
+}
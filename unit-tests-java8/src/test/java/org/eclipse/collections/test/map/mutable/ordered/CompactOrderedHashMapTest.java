@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.mutable.ordered;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableOrderedMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.eclipse.collections.impl.test.junit.Java8Runner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.fail;
+
+@RunWith(Java8Runner.class)
+public class CompactOrderedHashMapTest implements MutableOrderedMapTestCase
+{
+    @Override
+    public <T> MutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new CompactOrderedHashMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return result;
+    }
+
+    @Override
+    public <K, V> MutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new CompactOrderedHashMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return result;
+    }
+
+    @Override
+    @Test
+    public void MapIterable_flipUniqueValues()
+    {
+        MapIterable<String, Integer> map = this.newWithKeysValues("Three", 3, "Two", 2, "One", 1);
+        MapIterable<Integer, String> result = map.flipUniqueValues();
+        assertEquals(Lists.mutable.with(3, 2, 1), result.keysView().toList());
+        assertEquals(Lists.mutable.with("Three", "Two", "One"), result.valuesView().toList());
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> this.newWithKeysValues(1, "2", 2, "2").flipUniqueValues());
+    }
+
+    @Test
+    public void keepsInsertionOrderThroughRemovalsAndGrowth()
+    {
+        Random random = new Random(12345L);
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        CompactOrderedHashMap<Integer, Integer> actual = new CompactOrderedHashMap<>();
+        for (int i = 0; i < 20_000; i++)
+        {
+            Integer key = random.nextInt(500);
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(actual.values()));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void removedKeyPutAgainMovesToTheEnd()
+    {
+        CompactOrderedHashMap<String, Integer> map = CompactOrderedHashMap.newWithKeysValues("a", 1, "b", 2, "c", 3);
+        map.put("a", 4);
+        assertEquals("{a=4, b=2, c=3}", map.toString());
+        map.remove("a");
+        map.put("a", 5);
+        assertEquals("{b=2, c=3, a=5}", map.toString());
+        map.put(null, null);
+        assertEquals("{b=2, c=3, a=5, null=null}", map.toString());
+        assertEquals(map, map.clone());
+    }
+
+    @Test
+    public void iteratorRemoveKeepsOrder()
+    {
+        CompactOrderedHashMap<Integer, Integer> map = new CompactOrderedHashMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        int expectedKey = 0;
+        while (iterator.hasNext())
+        {
+            Integer key = iterator.next();
+            assertEquals(Integer.valueOf(expectedKey++), key);
+            if (key % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        assertEquals(100, expectedKey);
+        assertEquals(34, map.size());
+        for (int i = 100; i < 200; i++)
+        {
+            map.put(i, i);
+        }
+        assertEquals(Integer.valueOf(0), map.keysView().getFirst());
+        assertEquals(Integer.valueOf(199), map.keysView().getLast());
+        assertEquals(134, map.size());
+    }
+
+    @Test
+    public void orderedOperationsSkipRemovedEntries()
+    {
+        CompactOrderedHashMap<String, Integer> map = CompactOrderedHashMap.newWithKeysValues("a", 1, "b", 2, "c", 3);
+        map.put("d", 4);
+        map.put("e", 5);
+        map.remove("b");
+        map.remove("e");
+
+        assertEquals("{d=4, c=3, a=1}", map.toReversed().toString());
+        assertEquals("{a=1}", map.takeWhile(each -> each < 3).toString());
+        assertEquals("{c=3, d=4}", map.dropWhile(each -> each < 3).toString());
+        assertEquals(Lists.mutable.with(1), map.partitionWhile(each -> each < 3).getSelected());
+        assertEquals(Lists.mutable.with(4, 3, 1), map.asReversed().toList());
+        assertEquals(Lists.mutable.with(1, 3, 4), map.toStack().toList().reverseThis());
+        assertEquals(2, map.indexOf(4));
+        assertEquals(1, map.detectIndex(each -> each > 1));
+        assertEquals(2, map.detectLastIndex(each -> each > 1));
+        assertEquals(-1, map.detectIndex(each -> each > 4));
+
+        MutableList<Integer> range = Lists.mutable.empty();
+        map.forEach(2, 1, range::add);
+        assertEquals(Lists.mutable.with(4, 3), range);
+    }
+
+    @Test
+    public void uniqueKeysAndValues()
+    {
+        CompactOrderedHashMap<String, Integer> map = CompactOrderedHashMap.newWithKeysValues("a", 1, "b", 2, "c", 3);
+
+        assertEquals("{1=a, 2=b, 3=c}", map.flipUniqueValues().toString());
+        assertEquals("{2=1, 3=2, 4=3}", map.groupByUniqueKey(each -> each + 1).toString());
+        assertEquals(Lists.mutable.with("a"), map.flip().get(1));
+
+        map.put("d", 1);
+        assertThrows(IllegalStateException.class, map::flipUniqueValues);
+        assertThrows(IllegalStateException.class, () -> map.groupByUniqueKey(each -> each % 2));
+    }
+
+    @Test
+    public void toImmutableAndAsSynchronized()
+    {
+        CompactOrderedHashMap<String, Integer> map = CompactOrderedHashMap.newWithKeysValues("a", 1, "b", 2, "c", 3);
+
+        ImmutableOrderedMap<String, Integer> immutable = map.toImmutable();
+        map.put("d", 4);
+        assertEquals("{a=1, b=2, c=3}", immutable.toString());
+        assertEquals("{a=1, b=2, c=3, e=5}", immutable.newWithKeyValue("e", 5).toString());
+        assertThrows(UnsupportedOperationException.class, () -> immutable.castToMap().put("e", 5));
+
+        MutableOrderedMap<String, Integer> synchronizedMap = map.asSynchronized();
+        synchronizedMap.put("e", 5);
+        assertEquals("{a=1, b=2, c=3, d=4, e=5}", map.toString());
+        assertEquals("{e=5, d=4, c=3, b=2, a=1}", synchronizedMap.toReversed().toString());
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.test.map.mutable.ordered;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableOrderedMap;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.map.ordered.mutable.CompactOrderedHashMap;
+import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
+import org.eclipse.collections.impl.map.ordered.mutable.SynchronizedMutableOrderedMap;
+import org.eclipse.collections.impl.test.junit.Java8Runner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(Java8Runner.class)
+public class SynchronizedMutableOrderedMapTest implements MutableOrderedMapTestCase
+{
+    @Override
+    public <T> MutableOrderedMap<Object, T> newWith(T... elements)
+    {
+        int i = elements.length;
+        MutableOrderedMap<Object, T> result = new CompactOrderedHashMap<>();
+        for (T each : elements)
+        {
+            assertNull(result.put(i, each));
+            i--;
+        }
+        return SynchronizedMutableOrderedMap.of(result);
+    }
+
+    @Override
+    public <K, V> MutableOrderedMap<K, V> newWithKeysValues(Object... elements)
+    {
+        if (elements.length % 2 != 0)
+        {
+            fail(String.valueOf(elements.length));
+        }
+
+        MutableOrderedMap<K, V> result = new CompactOrderedHashMap<>();
+        for (int i = 0; i < elements.length; i += 2)
+        {
+            assertNull(result.put((K) elements[i], (V) elements[i + 1]));
+        }
+        return SynchronizedMutableOrderedMap.of(result);
+    }
+
+    @Override
+    @Test
+    public void MapIterable_flipUniqueValues()
+    {
+        MapIterable<String, Integer> map = this.newWithKeysValues("Three", 3, "Two", 2, "One", 1);
+        MapIterable<Integer, String> result = map.flipUniqueValues();
+        assertEquals(Lists.mutable.with(3, 2, 1), result.keysView().toList());
+        assertEquals(Lists.mutable.with("Three", "Two", "One"), result.valuesView().toList());
+
+        assertThrows(
+                IllegalStateException.class,
+                () -> this.newWithKeysValues(1, "2", 2, "2").flipUniqueValues());
+    }
+
+    @Test
+    public void delegatesUnderTheLock()
+    {
+        Object lock = new Object();
+        LockCheckingMap<String, Integer> delegate = new LockCheckingMap<>(lock);
+        MutableOrderedMap<String, Integer> map = SynchronizedMutableOrderedMap.of(OrderedMapAdapter.adapt(delegate), lock);
+
+        map.put("a", 1);
+        map.put("b", 2);
+        map.putAll(CompactOrderedHashMap.newWithKeysValues("c", 3));
+        assertEquals(Integer.valueOf(1), map.get("a"));
+        assertEquals(Integer.valueOf(2), map.removeKey("b"));
+        assertEquals("{a=1}", map.take(1).toString());
+        assertEquals("{c=3}", map.drop(1).toString());
+        assertEquals("{a=2, c=4}", map.collectValues((key, value) -> value + 1).toString());
+        assertEquals(Lists.mutable.with(1, 3), map.select(each -> each > 0));
+        assertTrue(map.keySet().contains("c"));
+        assertTrue(map.values().contains(3));
+        assertEquals(2, map.entrySet().size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertTrue(delegate.calls > 0);
+    }
+
+    @Test
+    public void asSynchronizedAndAsUnmodifiable()
+    {
+        MutableOrderedMap<String, Integer> map = SynchronizedMutableOrderedMap.of(CompactOrderedHashMap.newWithKeysValues("a", 1));
+        assertSame(map, map.asSynchronized());
+        assertThrows(UnsupportedOperationException.class, () -> map.asUnmodifiable().put("b", 2));
+        assertThrows(IllegalArgumentException.class, () -> SynchronizedMutableOrderedMap.of(null));
+    }
+
+    private static final class LockCheckingMap<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object lock;
+        private int calls;
+
+        private LockCheckingMap(Object lock)
+        {
+            this.lock = lock;
+        }
+
+        private void checkLock()
+        {
+            assertTrue(Thread.holdsLock(this.lock));
+            this.calls++;
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            this.checkLock();
+            return super.get(key);
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            this.checkLock();
+            return super.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            this.checkLock();
+            return super.remove(key);
+        }
+
+        @Override
+        public void clear()
+        {
+            this.checkLock();
+            super.clear();
+        }
+
+        @Override
+        public Set<K> keySet()
+        {
+            this.checkLock();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<V> values()
+        {
+            this.checkLock();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet()
+        {
+            this.checkLock();
+            return super.entrySet();
+        }
+    }
+}
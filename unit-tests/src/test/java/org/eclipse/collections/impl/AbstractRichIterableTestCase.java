@@ -149,6 +149,8 @@ import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
 import org.eclipse.collections.impl.list.primitive.IntInterval;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.multimap.primitive.IntObjectSetMultimap;
+import org.eclipse.collections.impl.multimap.primitive.LongObjectSetMultimap;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.mutable.primitive.BooleanHashSet;
 import org.eclipse.collections.impl.set.mutable.primitive.ByteHashSet;
@@ -1823,6 +1825,27 @@ public abstract class AbstractRichIterableTestCase
         Assert.assertEquals(expected, actualWithTarget);
     }
 
+    @Test
+    public void groupByInt()
+    {
+        RichIterable<Integer> collection = this.newWith(1, 2, 3, 4, 5, 6, 7);
+        IntObjectSetMultimap<Integer> multimap = collection.groupByInt(each -> each % 2, IntObjectSetMultimap.newMultimap());
+        Assert.assertEquals(7, multimap.size());
+        Assert.assertEquals(2, multimap.sizeDistinct());
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 3, 5, 7), multimap.get(1));
+        Assert.assertEquals(UnifiedSet.newSetWith(2, 4, 6), multimap.get(0));
+    }
+
+    @Test
+    public void groupByLong()
+    {
+        RichIterable<Integer> collection = this.newWith(1, 2, 3, 4, 5, 6, 7);
+        LongObjectSetMultimap<Integer> multimap = collection.groupByLong(each -> each * 10_000_000_000L, LongObjectSetMultimap.newMultimap());
+        Assert.assertEquals(7, multimap.size());
+        Assert.assertEquals(7, multimap.sizeDistinct());
+        Assert.assertEquals(UnifiedSet.newSetWith(3), multimap.get(30_000_000_000L));
+    }
+
     @Test
     public void groupByUniqueKey()
     {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.eclipse.collections.api.bag.ImmutableBag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.utility.StringIterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableCompactHashBag}.
+ */
+public class ImmutableCompactHashBagTest extends ImmutableBagTestCase
+{
+    @Override
+    protected ImmutableBag<String> newBag()
+    {
+        return ImmutableCompactHashBag.newBagWith("1", "2", "2", "3", "3", "3", "4", "4", "4", "4");
+    }
+
+    @Override
+    protected <T> ImmutableBag<T> newWith(T... littleElements)
+    {
+        return ImmutableCompactHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected int numKeys()
+    {
+        return 4;
+    }
+
+    @Override
+    @Test
+    public void testSize()
+    {
+        Verify.assertIterableSize(10, this.newBag());
+    }
+
+    @Override
+    public void toStringOfItemToCount()
+    {
+        Assert.assertEquals("{}", ImmutableCompactHashBag.newBagWith().toStringOfItemToCount());
+        Assert.assertEquals("{1=3}", ImmutableCompactHashBag.newBagWith("1", "1", "1").toStringOfItemToCount());
+        String actual = ImmutableCompactHashBag.newBagWith("1", "2", "2").toStringOfItemToCount();
+        Assert.assertTrue("{1=1, 2=2}".equals(actual) || "{2=2, 1=1}".equals(actual));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableCompactHashBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id));
+    }
+
+    @Override
+    @Test
+    public void groupByUniqueKey_target()
+    {
+        ImmutableBag<Integer> immutableBag = ImmutableCompactHashBag.newBagWith(1, 2, 3);
+        Assert.assertEquals(Maps.immutable.of(0, 0, 1, 1, 2, 2, 3, 3), immutableBag.groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(0, 0)));
+    }
+
+    @Override
+    @Test
+    public void getFirst()
+    {
+        ImmutableBag<Integer> bag = this.newWith(1, 2, 3);
+        Assert.assertEquals(bag.iterator().next(), bag.getFirst());
+        Assert.assertNull(ImmutableCompactHashBag.empty().getFirst());
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        ImmutableBag<String> strings = this.newBag();
+        MutableBag<String> result = Bags.mutable.of();
+        Iterator<String> iterator = strings.iterator();
+        while (iterator.hasNext())
+        {
+            result.add(iterator.next());
+        }
+        Assert.assertEquals(strings, result);
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+        Assert.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Override
+    @Test
+    public void testToString()
+    {
+        String string = this.newBag().toString();
+        Assert.assertEquals(this.newBag().size(), string.split(", ").length);
+        for (int i = 1; i <= this.numKeys(); i++)
+        {
+            Assert.assertEquals(i, StringIterate.occurrencesOf(string, String.valueOf(i)));
+        }
+    }
+
+    @Test
+    public void largeBag()
+    {
+        HashBag<Integer> expected = HashBag.newBag();
+        Interval.oneTo(10_000).each(each -> expected.addOccurrences(each, each % 7 + 1));
+        ImmutableBag<Integer> bag = ImmutableCompactHashBag.newBag(expected);
+        Assert.assertEquals(expected, bag);
+        Assert.assertEquals(bag, expected);
+        Assert.assertEquals(expected.hashCode(), bag.hashCode());
+        Assert.assertEquals(expected.size(), bag.size());
+        Assert.assertEquals(10_000, bag.sizeDistinct());
+        Interval.fromTo(-1, 10_001).each(each -> Assert.assertEquals(expected.occurrencesOf(each), bag.occurrencesOf(each)));
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+
+        ImmutableBag<Integer> odds = bag.selectByOccurrences(occurrences -> occurrences % 2 == 1);
+        Verify.assertInstanceOf(ImmutableCompactHashBag.class, odds);
+        Assert.assertEquals(expected.selectByOccurrences(occurrences -> occurrences % 2 == 1), odds);
+    }
+
+    @Test
+    public void lookupsMatchHashBag()
+    {
+        Random random = new Random(42L);
+        HashBag<Integer> expected = HashBag.newBag();
+        for (int i = 0; i < 50_000; i++)
+        {
+            expected.add(random.nextInt(20_000));
+        }
+        ImmutableBag<Integer> actual = ImmutableCompactHashBag.newBag(expected);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.sizeDistinct(), actual.sizeDistinct());
+        Interval.fromTo(-1, 20_000).each(each -> Assert.assertEquals(expected.occurrencesOf(each), actual.occurrencesOf(each)));
+        Assert.assertEquals(expected, ImmutableCompactHashBag.newBag(expected.toList()));
+    }
+
+    @Test
+    public void newWithAndNewWithoutShareTheTable()
+    {
+        ImmutableCompactHashBag<String> bag = ImmutableCompactHashBag.newBagWith("a", "b", "b", null);
+        ImmutableCompactHashBag<String> moreB = bag.newWith("b");
+        Assert.assertEquals(3, moreB.occurrencesOf("b"));
+        Assert.assertEquals(2, bag.occurrencesOf("b"));
+        Assert.assertEquals(5, moreB.size());
+        Assert.assertEquals(HashBag.newBagWith("a", "b", null), bag.newWithout("b").newWithout("b").newWith("b"));
+        Assert.assertEquals(HashBag.newBagWith("a", "b", "b"), bag.newWithout(null));
+        Assert.assertEquals(HashBag.newBagWith("a", "b", "b", null, "c"), bag.newWith("c"));
+        Assert.assertSame(bag, bag.newWithout("c"));
+        Assert.assertSame(ImmutableCompactHashBag.empty(), ImmutableCompactHashBag.newBagWith("a").newWithout("a"));
+        Assert.assertEquals(HashBag.newBagWith("a", "b", "b", null, "b", "c", "c"), bag.newWithAll(HashBag.newBagWith("b", "c", "c")));
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableBag<Integer> bag = Bags.immutable.withAllCompact(HashBag.newBagWith(1, 2, 2, 3, 3, 3));
+        Verify.assertInstanceOf(ImmutableCompactHashBag.class, bag);
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 2, 3, 3, 3), bag);
+        Assert.assertSame(bag, Bags.immutable.withAllCompact(bag));
+        Assert.assertEquals(HashBag.newBagWith(1, 1, 2), Bags.immutable.withAllCompact(Lists.mutable.with(1, 2, 1)));
+    }
+}
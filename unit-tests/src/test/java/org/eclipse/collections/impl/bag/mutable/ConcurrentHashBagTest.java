@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    private static final int THREADS = 8;
+
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void newBagWith()
+    {
+        ConcurrentHashBag<String> bag = new ConcurrentHashBag<String>().with("apple", "apple");
+        Verify.assertBagsEqual(HashBag.newBagWith("apple", "apple"), bag);
+
+        bag.with("hope", "hope", "hope");
+        Verify.assertBagsEqual(HashBag.newBagWith("apple", "apple", "hope", "hope", "hope"), bag);
+        Verify.assertBagsEqual(HashBag.newBagWith(1, 2, 2), ConcurrentHashBag.newBag(FastList.newListWith(1, 2, 2)));
+    }
+
+    @Test
+    public void nullItem()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith(null, null, "a");
+        Assert.assertEquals(2, bag.occurrencesOf(null));
+        Assert.assertTrue(bag.contains(null));
+        Assert.assertEquals(HashBag.newBagWith(null, null, "a"), bag);
+        Assert.assertEquals(HashBag.newBagWith(null, null, "a").hashCode(), bag.hashCode());
+        Assert.assertTrue(bag.removeOccurrences(null, 5));
+        Assert.assertFalse(bag.contains(null));
+        Verify.assertSize(1, bag);
+    }
+
+    @Test
+    public void iteratorRemoveAfterHasNext()
+    {
+        MutableBag<String> bag = this.newWith("a", "b", "b");
+        Iterator<String> iterator = bag.iterator();
+        Assert.assertThrows(IllegalStateException.class, iterator::remove);
+        String first = iterator.next();
+        Assert.assertTrue(iterator.hasNext());
+        iterator.remove();
+        Assert.assertThrows(IllegalStateException.class, iterator::remove);
+        Assert.assertEquals("a".equals(first) ? 0 : 1, bag.occurrencesOf(first));
+        Verify.assertSize(2, bag);
+    }
+
+    @Test
+    public void countsFromManyThreads() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int i = 0; i < THREADS; i++)
+            {
+                futures.add(executor.submit(() -> Interval.oneTo(10_000).each(each -> bag.addOccurrences(each % 100, 2))));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(THREADS * 20_000, bag.size());
+        Assert.assertEquals(100, bag.sizeDistinct());
+        Assert.assertTrue(bag.allSatisfyWithOccurrences((each, occurrences) -> occurrences == THREADS * 200));
+    }
+
+    @Test
+    public void addAndRemoveFromManyThreads() throws Exception
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int i = 0; i < THREADS; i++)
+            {
+                futures.add(executor.submit(() ->
+                {
+                    for (int j = 0; j < 20_000; j++)
+                    {
+                        bag.add(j % 10);
+                        Assert.assertTrue(bag.occurrencesOf(j % 10) > 0);
+                        Assert.assertTrue(bag.remove(j % 10));
+                        bag.forEachWithOccurrences((each, occurrences) -> Assert.assertTrue(occurrences > 0));
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+    }
+}
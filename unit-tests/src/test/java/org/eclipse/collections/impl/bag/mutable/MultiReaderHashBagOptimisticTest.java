@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderHashBag#newOptimisticBag()}.
+ */
+public class MultiReaderHashBagOptimisticTest extends MultiReaderHashBagTest
+{
+    @Override
+    protected <T> MultiReaderHashBag<T> newWith(T... littleElements)
+    {
+        return MultiReaderHashBag.newOptimisticBag(HashBag.newBagWith(littleElements));
+    }
+
+    @Test
+    public void readsWhileWriting() throws InterruptedException
+    {
+        MultiReaderHashBag<Integer> bag = MultiReaderHashBag.newOptimisticBag(Interval.zeroTo(99));
+        Thread writer = new Thread(() ->
+        {
+            for (int i = 100; i < 100_000; i++)
+            {
+                bag.add(i);
+                bag.add(50);
+                bag.remove(50);
+                bag.remove(i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive())
+        {
+            Assert.assertTrue(bag.contains(50));
+            int occurrences = bag.occurrencesOf(50);
+            Assert.assertTrue(occurrences == 1 || occurrences == 2);
+            int size = bag.size();
+            Assert.assertTrue(size >= 100 && size <= 102);
+        }
+        writer.join();
+        Assert.assertEquals(HashBag.newBag(Interval.zeroTo(99)), bag);
+    }
+}
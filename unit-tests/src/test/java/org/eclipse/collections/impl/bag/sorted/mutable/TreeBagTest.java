@@ -80,6 +80,26 @@ public class TreeBagTest extends AbstractMutableSortedBagTestCase
         Verify.assertSortedBagsEqual(TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 4), sortedBag);
     }
 
+    @Test
+    public void bTreeBag()
+    {
+        TreeBag<Integer> bag = TreeBag.newBTreeBag(Comparators.reverseNaturalOrder());
+        for (int i = 0; i < 1_000; i++)
+        {
+            bag.addOccurrences(i % 200, 2);
+        }
+        Assert.assertEquals(2_000, bag.size());
+        Assert.assertEquals(200, bag.sizeDistinct());
+        Assert.assertEquals(10, bag.occurrencesOf(42));
+        Assert.assertEquals(Integer.valueOf(199), bag.getFirst());
+        bag.removeOccurrences(199, 10);
+        Assert.assertEquals(Integer.valueOf(198), bag.getFirst());
+        Verify.assertSortedBagsEqual(TreeBag.newBag(bag), bag);
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(1, 1, 2), TreeBag.<Integer>newBTreeBag().with(2, 1, 1));
+    }
+
     @Override
     @Test
     public void serialization()
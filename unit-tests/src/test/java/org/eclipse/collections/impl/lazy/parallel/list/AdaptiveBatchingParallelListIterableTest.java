@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.AdaptiveBatchingExecutorService;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBatchingParallelListIterableTest extends ParallelListIterableTestCase
+{
+    @Override
+    protected ParallelListIterable<Integer> classUnderTest()
+    {
+        return this.newWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4);
+    }
+
+    @Override
+    protected ParallelListIterable<Integer> newWith(Integer... littleElements)
+    {
+        return FastList.newListWith(littleElements).asParallel(AdaptiveBatchingExecutorService.adapt(this.executorService), this.batchSize);
+    }
+
+    @Override
+    protected ListIterable<Integer> getExpectedWith(Integer... littleElements)
+    {
+        return FastList.newListWith(littleElements);
+    }
+
+    @Test
+    public void split_cheap_elements()
+    {
+        MutableList<Integer> list = Interval.oneTo(100_000).toList();
+        ListIterableParallelIterable<Integer> parallelIterable =
+                (ListIterableParallelIterable<Integer>) list.asParallel(AdaptiveBatchingExecutorService.adapt(this.executorService, 8), 1);
+        Iterator<RootListBatch<Integer>> batches = parallelIterable.split().iterator();
+        RootListBatch<Integer> sample = batches.next();
+        Assert.assertEquals(AdaptiveBatchingExecutorService.MIN_SAMPLE_SIZE, sample.count(each -> true));
+        int batchCount = 0;
+        int elementCount = 0;
+        while (batches.hasNext())
+        {
+            elementCount += batches.next().count(each -> true);
+            batchCount++;
+        }
+        Assert.assertEquals(100_000 - AdaptiveBatchingExecutorService.MIN_SAMPLE_SIZE, elementCount);
+        Assert.assertTrue(String.valueOf(batchCount), batchCount <= 8);
+    }
+
+    @Test
+    public void split_expensive_elements()
+    {
+        MutableList<Integer> list = Interval.oneTo(1_000).toList();
+        ListIterableParallelIterable<Integer> parallelIterable =
+                (ListIterableParallelIterable<Integer>) list.asParallel(AdaptiveBatchingExecutorService.adapt(this.executorService, 100), 1_000);
+        Iterator<RootListBatch<Integer>> batches = parallelIterable.split().iterator();
+        batches.next().forEach(each -> {
+            try
+            {
+                Thread.sleep(1L);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+        int batchCount = 0;
+        while (batches.hasNext())
+        {
+            batches.next();
+            batchCount++;
+        }
+        Assert.assertTrue(String.valueOf(batchCount), batchCount > 50);
+    }
+
+    @Test
+    public void split_sample_not_run_uses_batch_size()
+    {
+        MutableList<Integer> list = Interval.oneTo(1_000).toList();
+        ListIterableParallelIterable<Integer> parallelIterable =
+                (ListIterableParallelIterable<Integer>) list.asParallel(AdaptiveBatchingExecutorService.adapt(this.executorService), 100);
+        Iterator<RootListBatch<Integer>> batches = parallelIterable.split().iterator();
+        batches.next();
+        Assert.assertEquals(100, batches.next().count(each -> true));
+    }
+
+    @Test
+    public void select_preserves_order_across_adaptive_batches()
+    {
+        MutableList<Integer> list = Interval.oneTo(200_000).toList();
+        Assert.assertEquals(
+                list.select(each -> each % 3 == 0),
+                list.asParallel(AdaptiveBatchingExecutorService.adapt(this.executorService), 1).select(each -> each % 3 == 0).toList());
+    }
+}
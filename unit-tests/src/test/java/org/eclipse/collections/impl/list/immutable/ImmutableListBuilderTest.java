@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.api.factory.list.ImmutableListBuilder;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableListBuilderImpl}.
+ */
+public class ImmutableListBuilderTest
+{
+    @Test
+    public void buildEmpty()
+    {
+        Assert.assertSame(Lists.immutable.empty(), Lists.immutable.builder().build());
+        Assert.assertSame(Lists.immutable.empty(), Lists.immutable.builder(0).build());
+    }
+
+    @Test
+    public void buildSmall()
+    {
+        for (int size = 1; size <= 10; size++)
+        {
+            ImmutableList<Integer> list = Lists.immutable.<Integer>builder().addAll(Interval.oneTo(size)).build();
+            Assert.assertEquals(Interval.oneTo(size), list);
+            Assert.assertEquals(Lists.immutable.withAll(Interval.oneTo(size)).getClass(), list.getClass());
+        }
+    }
+
+    @Test
+    public void buildExpectedSize()
+    {
+        ImmutableListBuilder<Integer> builder = Lists.immutable.builder(100);
+        for (int i = 1; i <= 100; i++)
+        {
+            builder.add(i);
+        }
+        Assert.assertEquals(100, builder.size());
+        ImmutableList<Integer> list = builder.build();
+        Verify.assertInstanceOf(ImmutableArrayList.class, list);
+        Assert.assertEquals(Interval.oneTo(100), list);
+    }
+
+    @Test
+    public void buildGrowsPastExpectedSize()
+    {
+        ImmutableListBuilder<Integer> builder = Lists.immutable.builder(1);
+        Interval.oneTo(1_000).each(builder::add);
+        builder.addAll(Interval.fromTo(1_001, 2_000)).add(null);
+        ImmutableList<Integer> list = builder.build();
+        Verify.assertSize(2_001, list);
+        Assert.assertEquals(Interval.oneTo(2_000), list.take(2_000));
+        Assert.assertNull(list.getLast());
+    }
+
+    @Test
+    public void reuseAfterBuild()
+    {
+        ImmutableListBuilder<Integer> builder = Lists.immutable.<Integer>builder(20).addAll(Interval.oneTo(20));
+        ImmutableList<Integer> first = builder.build();
+        ImmutableList<Integer> second = builder.add(21).build();
+        ImmutableList<Integer> third = builder.build();
+
+        Assert.assertEquals(Interval.oneTo(20), first);
+        Assert.assertEquals(Interval.oneTo(21), second);
+        Assert.assertEquals(second, third);
+
+        builder.add(22);
+        Assert.assertEquals(Interval.oneTo(21), third);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeExpectedSize()
+    {
+        Lists.immutable.builder(-1);
+    }
+}
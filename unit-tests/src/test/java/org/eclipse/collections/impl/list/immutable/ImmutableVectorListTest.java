@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableVectorList}.
+ */
+public class ImmutableVectorListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableVectorList.newListWith(1, 2, 3);
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableList<Integer> list = ImmutableVectorList.empty();
+        FastList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 40_000; i++)
+        {
+            list = list.newWith(i);
+            expected.add(i);
+        }
+        Verify.assertInstanceOf(ImmutableVectorList.class, list);
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(list, expected);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        Assert.assertEquals(Integer.valueOf(33_333), list.get(33_333));
+        Assert.assertEquals(expected, FastList.newList(list));
+        Verify.assertPostSerializedEqualsAndHashCode(list);
+    }
+
+    @Test
+    public void newWithAll()
+    {
+        ImmutableList<Integer> list = ImmutableVectorList.newListWith(1, 2, 3);
+        ImmutableList<Integer> withAll = list.newWithAll(Interval.fromTo(4, 5_000));
+        Verify.assertInstanceOf(ImmutableVectorList.class, withAll);
+        Assert.assertEquals(Interval.oneTo(3), list);
+        Assert.assertEquals(Interval.oneTo(5_000), withAll);
+        Assert.assertEquals(Interval.oneTo(5_033), withAll.newWithAll(Interval.fromTo(5_001, 5_033)));
+    }
+
+    @Test
+    public void newWithout()
+    {
+        ImmutableList<Integer> list = ImmutableVectorList.newList(Interval.oneTo(2_000));
+        ImmutableList<Integer> shrunk = list;
+        for (int i = 2_000; i > 1_000; i--)
+        {
+            shrunk = shrunk.newWithout(i);
+        }
+        Assert.assertEquals(Interval.oneTo(1_000), shrunk);
+        Assert.assertEquals(Interval.oneTo(1_001), shrunk.newWith(1_001));
+        Assert.assertEquals(Interval.oneTo(2_000), list);
+        Assert.assertSame(ImmutableVectorList.empty(), ImmutableVectorList.newListWith(1).newWithout(1));
+
+        ImmutableList<Integer> withoutFirst = list.newWithout(1);
+        Assert.assertEquals(Interval.fromTo(2, 2_000), withoutFirst);
+        Assert.assertSame(list, list.newWithout(0));
+        Assert.assertEquals(Interval.fromTo(1_001, 2_000), list.newWithoutAll(Interval.oneTo(1_000)));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableVectorList.class, Lists.immutable.emptyPersistent());
+        ImmutableList<Integer> list = Lists.immutable.withAllPersistent(Interval.oneTo(3));
+        Verify.assertInstanceOf(ImmutableVectorList.class, list);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), list);
+        Assert.assertSame(list, Lists.immutable.withAllPersistent(list));
+        Verify.assertInstanceOf(ImmutableVectorList.class, list.newWith(4));
+    }
+}
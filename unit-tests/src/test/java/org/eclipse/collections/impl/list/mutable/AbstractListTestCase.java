@@ -589,6 +589,41 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(Interval.fromToBy(1000, 1, -1).toList(), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        MutableList<Integer> actual = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisParallel();
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), actual);
+    }
+
+    @Test
+    public void sortThisParallel_large()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(20_000).toArray()).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisParallel();
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(Interval.oneTo(20_000).toList(), actual);
+    }
+
+    @Test
+    public void sortThisParallel_with_comparator_large()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(20_000).toArray()).shuffleThis();
+        MutableList<Integer> sorted = actual.sortThisParallel(Collections.reverseOrder());
+        Assert.assertSame(actual, sorted);
+        Assert.assertEquals(Interval.fromToBy(20_000, 1, -1).toList(), actual);
+    }
+
+    @Test
+    public void sortThisParallel_with_comparator_is_stable()
+    {
+        MutableList<Integer> actual = this.newWith(Interval.oneTo(20_000).toArray());
+        actual.sortThisParallel(Comparator.comparingInt(each -> each % 10));
+        Assert.assertEquals(Interval.oneTo(20_000).toList().sortThis(Comparator.comparingInt(each -> each % 10)), actual);
+    }
+
     @Test
     public void sortThisBy()
     {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.mutable;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderFastList#newOptimisticList()}.
+ */
+public class MultiReaderFastListOptimisticTest extends MultiReaderFastListTest
+{
+    @Override
+    protected <T> MultiReaderFastList<T> newWith(T... littleElements)
+    {
+        return MultiReaderFastList.newOptimisticList(FastList.newListWith(littleElements));
+    }
+
+    @Test
+    public void readsWhileWriting() throws InterruptedException
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList(Interval.zeroTo(99));
+        Thread writer = new Thread(() ->
+        {
+            for (int i = 0; i < 100_000; i++)
+            {
+                list.add(100);
+                list.remove(100);
+            }
+        });
+        writer.start();
+        while (writer.isAlive())
+        {
+            Assert.assertTrue(list.contains(50));
+            Assert.assertEquals(Integer.valueOf(50), list.get(50));
+            int size = list.size();
+            Assert.assertTrue(size == 100 || size == 101);
+        }
+        writer.join();
+        Assert.assertEquals(FastList.newList(Interval.zeroTo(99)), list);
+    }
+
+    @Test
+    public void readsInsideWriteLock()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList(Interval.oneTo(3));
+        list.withWriteLockAndDelegate(delegate ->
+        {
+            delegate.add(4);
+            Assert.assertEquals(4, list.size());
+            Assert.assertTrue(list.contains(4));
+            list.add(5);
+        });
+        Assert.assertEquals(FastList.newListWith(1, 2, 3, 4, 5), list);
+    }
+
+    @Test
+    public void subListSharesLock()
+    {
+        MultiReaderFastList<Integer> list = MultiReaderFastList.newOptimisticList(Interval.oneTo(5));
+        MutableList<Integer> subList = list.subList(1, 3);
+        subList.add(10);
+        Assert.assertEquals(6, list.size());
+        Assert.assertTrue(list.contains(10));
+        Assert.assertEquals(Integer.valueOf(10), list.get(3));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableCompactHashMap}.
+ */
+public class ImmutableCompactHashMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableCompactHashMap.newMapWith(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest();
+        Assert.assertEquals(UnifiedMap.newMap(map.castToMap()).toString().length(), map.toString().length());
+        Assert.assertEquals(map, ImmutableCompactHashMap.newMap(map.castToMap()));
+    }
+
+    @Test
+    public void lookupsMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        UnifiedMap<Integer, Integer> expected = UnifiedMap.newMap();
+        for (int i = 0; i < 10_000; i++)
+        {
+            expected.put(random.nextInt(), i);
+        }
+        expected.put(null, -1);
+        ImmutableMap<Integer, Integer> actual = ImmutableCompactHashMap.newMap(expected);
+
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.keySet(), actual.castToMap().keySet());
+        expected.forEachKeyValue((key, value) -> Assert.assertEquals(value, actual.get(key)));
+        for (int i = 0; i < 10_000; i++)
+        {
+            int key = random.nextInt();
+            Assert.assertEquals(expected.get(key), actual.get(key));
+        }
+        Verify.assertPostSerializedEqualsAndHashCode(actual);
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        // Every string of n "Aa" or "BB" pairs has the same hash code, so all 512 keys share a home slot
+        MutableList<String> keys = FastList.newList();
+        for (int bits = 0; bits < 512; bits++)
+        {
+            StringBuilder key = new StringBuilder();
+            for (int i = 0; i < 9; i++)
+            {
+                key.append((bits & (1 << i)) == 0 ? "Aa" : "BB");
+            }
+            keys.add(key.toString());
+        }
+        UnifiedMap<String, Integer> expected = UnifiedMap.newMap();
+        keys.forEachWithIndex(expected::put);
+        ImmutableMap<String, Integer> actual = ImmutableCompactHashMap.newMap(expected);
+
+        Assert.assertEquals(expected, actual);
+        keys.forEachWithIndex((key, index) -> Assert.assertEquals(Integer.valueOf(index), actual.get(key)));
+        Assert.assertNull(actual.get("AaAaAaAaAaAaAaAaCC"));
+        Assert.assertEquals(keys.subList(1, 512).toSet(), actual.newWithoutKey(keys.get(0)).castToMap().keySet());
+    }
+
+    @Test
+    public void updatesReturnCompactMaps()
+    {
+        ImmutableMap<Integer, String> map = ImmutableCompactHashMap.newMap(Interval.oneTo(100).toMap(each -> each, String::valueOf));
+        ImmutableMap<Integer, String> updated = map.newWithKeyValue(101, "101").newWithKeyValue(1, "one").newWithoutKey(2);
+        Verify.assertInstanceOf(ImmutableCompactHashMap.class, updated);
+        Verify.assertSize(100, updated);
+        Assert.assertEquals("one", updated.get(1));
+        Assert.assertNull(updated.get(2));
+        Assert.assertEquals("1", map.get(1));
+
+        Assert.assertSame(map, map.newWithoutKey(0));
+        Assert.assertSame(map, map.newWithKeyValue(1, map.get(1)));
+        Assert.assertSame(ImmutableCompactHashMap.empty(), map.newWithoutAllKeys(Interval.oneTo(100)));
+
+        ImmutableMap<Integer, String> evens = map.select((key, value) -> key % 2 == 0);
+        Verify.assertInstanceOf(ImmutableCompactHashMap.class, evens);
+        Assert.assertEquals(Interval.evensFromTo(2, 100).toMap(each -> each, String::valueOf), evens);
+        Assert.assertEquals(map.reject((key, value) -> key % 2 == 1), evens);
+
+        ImmutableMap<Integer, Integer> lengths = map.collectValues((key, value) -> value.length());
+        Verify.assertInstanceOf(ImmutableCompactHashMap.class, lengths);
+        Assert.assertEquals(Integer.valueOf(3), lengths.get(100));
+    }
+
+    @Test
+    public void nullValues()
+    {
+        ImmutableMap<Integer, String> map = ImmutableCompactHashMap.<Integer, String>empty().newWithKeyValue(1, null);
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals("default", map.getIfAbsentValue(2, "default"));
+        Assert.assertNull(map.getIfAbsentValue(1, "default"));
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllCompact(UnifiedMap.newWithKeysValues(1, "1", 2, "2"));
+        Verify.assertInstanceOf(ImmutableCompactHashMap.class, map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), map);
+        Assert.assertSame(map, Maps.immutable.withAllCompact(map.castToMap()));
+        Verify.assertInstanceOf(ImmutableCompactHashMap.class, Maps.immutable.withAllCompact(UnifiedMap.newMap()));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Random;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMapWith(Tuples.pair(1, "1"), Tuples.pair(2, "2"), Tuples.pair(3, "3"), Tuples.pair(4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    @Test
+    public void randomUpdatesMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        UnifiedMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<Integer, Integer> actual = ImmutableHashTrieMap.empty();
+        for (int i = 0; i < 20_000; i++)
+        {
+            int key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0)
+            {
+                expected.remove(key);
+                actual = actual.newWithoutKey(key);
+            }
+            else
+            {
+                expected.put(key, i);
+                actual = actual.newWithKeyValue(key, i);
+            }
+        }
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, actual);
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.keySet(), actual.castToMap().keySet());
+        Assert.assertEquals(expected.size(), actual.keysView().size());
+        Verify.assertPostSerializedEqualsAndHashCode(actual);
+    }
+
+    @Test
+    public void updatesShareStructureWithOriginal()
+    {
+        ImmutableMap<Integer, String> original = ImmutableHashTrieMap.newMap(Interval.oneTo(1_000).toMap(each -> each, String::valueOf));
+        ImmutableMap<Integer, String> updated = original.newWithKeyValue(1_001, "1001").newWithoutKey(1);
+
+        Verify.assertSize(1_000, original);
+        Assert.assertEquals("1", original.get(1));
+        Assert.assertNull(original.get(1_001));
+        Verify.assertSize(1_000, updated);
+        Assert.assertNull(updated.get(1));
+        Assert.assertEquals("1001", updated.get(1_001));
+
+        Assert.assertSame(original, original.newWithoutKey(5_000));
+        Assert.assertSame(original, original.newWithKeyValue(1, original.get(1)));
+    }
+
+    @Test
+    public void removalRestoresCanonicalShape()
+    {
+        ImmutableMap<Integer, Integer> small = ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, 1, 33, 33));
+        ImmutableMap<Integer, Integer> grown = small.newWithAllKeyValues(Interval.fromTo(100, 2_000).collect(each -> Tuples.pair(each, each)));
+        ImmutableMap<Integer, Integer> shrunk = grown.newWithoutAllKeys(Interval.fromTo(100, 2_000));
+        Assert.assertEquals(small, shrunk);
+        Assert.assertEquals("{1=1, 33=33}", shrunk.toString());
+        Assert.assertSame(ImmutableHashTrieMap.empty(), shrunk.newWithoutKey(1).newWithoutKey(33));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        // "Aa" and "BB" have the same hash code, so these keys all have equal hash codes
+        ImmutableMap<String, Integer> map = ImmutableHashTrieMap.<String, Integer>empty()
+                .newWithKeyValue("AaAa", 1)
+                .newWithKeyValue("AaBB", 2)
+                .newWithKeyValue("BBAa", 3)
+                .newWithKeyValue("BBBB", 4)
+                .newWithKeyValue(null, 5);
+        Verify.assertSize(5, map);
+        Assert.assertEquals(Integer.valueOf(3), map.get("BBAa"));
+        Assert.assertEquals(Integer.valueOf(5), map.get(null));
+        Assert.assertNull(map.get("CCCC"));
+
+        ImmutableMap<String, Integer> replaced = map.newWithKeyValue("AaBB", 20);
+        Assert.assertEquals(Integer.valueOf(20), replaced.get("AaBB"));
+        Assert.assertEquals(Integer.valueOf(2), map.get("AaBB"));
+
+        ImmutableMap<String, Integer> removed = map.newWithoutKey("AaAa").newWithoutKey("BBBB").newWithoutKey("AaBB");
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("BBAa", 3, null, 5), removed);
+        Assert.assertEquals(Interval.oneTo(5).toBag(), map.toBag());
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+    }
+
+    @Test
+    public void nullValues()
+    {
+        ImmutableMap<Integer, String> map = ImmutableHashTrieMap.<Integer, String>empty().newWithKeyValue(1, null);
+        Assert.assertTrue(map.containsKey(1));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals("default", map.getIfAbsentValue(2, "default"));
+        Assert.assertNull(map.getIfAbsentValue(1, "default"));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, Maps.immutable.emptyPersistent());
+        ImmutableMap<Integer, String> map = Maps.immutable.withAllPersistent(UnifiedMap.newWithKeysValues(1, "1", 2, "2"));
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2"), map);
+        Assert.assertSame(map, Maps.immutable.withAllPersistent(map.castToMap()));
+    }
+}
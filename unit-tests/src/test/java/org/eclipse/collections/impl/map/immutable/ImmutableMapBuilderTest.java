@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.api.factory.map.ImmutableMapBuilder;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableMapBuilderImpl}.
+ */
+public class ImmutableMapBuilderTest
+{
+    @Test
+    public void buildEmpty()
+    {
+        Assert.assertSame(Maps.immutable.empty(), Maps.immutable.builder().build());
+    }
+
+    @Test
+    public void buildSmall()
+    {
+        ImmutableMap<Integer, String> map = Maps.immutable.<Integer, String>builder()
+                .put(1, "1")
+                .put(2, "2")
+                .put(1, "one")
+                .build();
+        Verify.assertInstanceOf(ImmutableDoubletonMap.class, map);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "one", 2, "2"), map);
+    }
+
+    @Test
+    public void buildLarge()
+    {
+        ImmutableMapBuilder<Integer, String> builder = Maps.immutable.builder(1_000);
+        Interval.oneTo(1_000).each(each -> builder.put(each, String.valueOf(each)));
+        builder.putAll(UnifiedMap.newWithKeysValues(1_001, "1001", null, null));
+        Assert.assertEquals(1_002, builder.size());
+        ImmutableMap<Integer, String> map = builder.build();
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, map);
+        Verify.assertSize(1_002, map);
+        Assert.assertEquals("500", map.get(500));
+        Verify.assertContainsKeyValue(null, null, map);
+    }
+
+    @Test
+    public void reuseAfterBuild()
+    {
+        ImmutableMapBuilder<Integer, Integer> builder = Maps.immutable.builder();
+        Interval.oneTo(10).each(each -> builder.put(each, each));
+        ImmutableMap<Integer, Integer> first = builder.build();
+        ImmutableMap<Integer, Integer> second = builder.put(1, 100).build();
+
+        Assert.assertEquals(Integer.valueOf(1), first.get(1));
+        Assert.assertEquals(Integer.valueOf(100), second.get(1));
+
+        builder.put(11, 11);
+        Verify.assertSize(10, second);
+        Assert.assertNull(second.get(11));
+    }
+}
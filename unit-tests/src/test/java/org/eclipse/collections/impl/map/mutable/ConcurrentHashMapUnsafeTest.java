@@ -385,6 +385,32 @@ public class ConcurrentHashMapUnsafeTest extends ConcurrentHashMapTestCase
         }, 1, this.executor);
     }
 
+    @Test
+    public void concurrentPutDuringResize()
+    {
+        ConcurrentHashMapUnsafe<Integer, Integer> map = ConcurrentHashMapUnsafe.newMap();
+        Assert.assertEquals(0, map.getResizeCount());
+        Assert.assertEquals(0L, map.getLastResizeDurationNanos());
+        ParallelIterate.forEach(Interval.oneTo(100), each ->
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                Assert.assertNull(map.put(each + i * 1000, each));
+            }
+        }, 1, this.executor);
+        Verify.assertSize(100000, map);
+        Interval.oneTo(100).forEach((int each) ->
+        {
+            for (int i = 0; i < 1000; i++)
+            {
+                Assert.assertEquals(Integer.valueOf(each), map.get(each + i * 1000));
+            }
+        });
+        Assert.assertTrue(map.getResizeCount() > 0);
+        Assert.assertTrue(map.getLastResizeDurationNanos() > 0L);
+        Assert.assertTrue(map.getTotalResizeDurationNanos() >= map.getLastResizeDurationNanos());
+    }
+
     @Test
     public void emptyToString()
     {
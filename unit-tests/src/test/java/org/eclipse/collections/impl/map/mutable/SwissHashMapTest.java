@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.AbstractMap;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SwissHashMap}.
+ */
+public class SwissHashMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return SwissHashMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return SwissHashMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return SwissHashMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return SwissHashMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return SwissHashMap.<K, V>newWithKeysValues(key1, value1, key2, value2, key3, value3).withKeysValues(key4, value4);
+    }
+
+    @Test
+    public void randomPutsAndRemovesMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        UnifiedMap<Integer, Integer> expected = UnifiedMap.newMap();
+        SwissHashMap<Integer, Integer> actual = SwissHashMap.newMap();
+        for (int i = 0; i < 100_000; i++)
+        {
+            Integer key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), actual.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), actual.put(key, i));
+            }
+            Assert.assertEquals(expected.size(), actual.size());
+        }
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Interval.fromTo(-1, 5_000).each(each -> Assert.assertEquals(expected.get(each), actual.get(each)));
+    }
+
+    @Test
+    public void collidingKeys()
+    {
+        // Every string of n "Aa" or "BB" pairs has the same hash code, so all 512 keys share a probe sequence
+        SwissHashMap<String, Integer> map = SwissHashMap.newMap();
+        for (int bits = 0; bits < 512; bits++)
+        {
+            StringBuilder key = new StringBuilder();
+            for (int i = 0; i < 9; i++)
+            {
+                key.append((bits & (1 << i)) == 0 ? "Aa" : "BB");
+            }
+            map.put(key.toString(), bits);
+        }
+        Verify.assertSize(512, map);
+        Assert.assertEquals(Integer.valueOf(0), map.get("AaAaAaAaAaAaAaAaAa"));
+        Assert.assertEquals(Integer.valueOf(511), map.remove("BBBBBBBBBBBBBBBBBB"));
+        Assert.assertNull(map.get("BBBBBBBBBBBBBBBBBB"));
+        Assert.assertEquals(Integer.valueOf(510), map.get("AaBBBBBBBBBBBBBBBB"));
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        SwissHashMap<Integer, String> map = SwissHashMap.newMap();
+        Interval.oneTo(100).each(each -> map.put(each, String.valueOf(each)));
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 2 == 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.oddsFromTo(1, 99).toSet(), map.keySet());
+        Iterator<Integer> removeTwice = map.keySet().iterator();
+        removeTwice.next();
+        removeTwice.remove();
+        Assert.assertThrows(IllegalStateException.class, removeTwice::remove);
+        Verify.assertSize(49, map);
+
+        Iterator<String> values = map.iterator();
+        values.next();
+        map.put(200, "200");
+        Assert.assertThrows(ConcurrentModificationException.class, values::next);
+    }
+
+    @Test
+    public void entrySetWritesThrough()
+    {
+        SwissHashMap<Integer, String> map = SwissHashMap.newWithKeysValues(1, "1", 2, "2", null, null);
+        for (Map.Entry<Integer, String> entry : map.entrySet())
+        {
+            entry.setValue(String.valueOf(entry.getKey()) + '!');
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1!", 2, "2!", null, "null!"), map);
+        Assert.assertTrue(map.entrySet().remove(new AbstractMap.SimpleEntry<>(null, "null!")));
+        Assert.assertFalse(map.entrySet().remove(new AbstractMap.SimpleEntry<>(1, "1")));
+        Verify.assertSize(2, map);
+    }
+
+    @Test
+    public void reusesDeletedSlots()
+    {
+        SwissHashMap<Integer, Integer> map = SwissHashMap.newMap(100);
+        for (int i = 0; i < 1_000_000; i++)
+        {
+            map.put(i, i);
+            map.remove(i - 50);
+        }
+        Verify.assertSize(50, map);
+        Assert.assertEquals(Interval.fromTo(999_950, 999_999).toSet(), map.keySet());
+    }
+
+    @Test
+    public void serialization()
+    {
+        SwissHashMap<Integer, String> map = SwissHashMap.newMap();
+        Interval.oneTo(1_000).each(each -> map.put(each, String.valueOf(each)));
+        map.put(null, null);
+        Verify.assertPostSerializedEqualsAndHashCode(map);
+        Verify.assertEqualsAndHashCode(map, map.clone());
+    }
+}
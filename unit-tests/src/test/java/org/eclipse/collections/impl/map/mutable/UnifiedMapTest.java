@@ -13,12 +13,16 @@ package org.eclipse.collections.impl.map.mutable;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
@@ -172,6 +176,34 @@ public class UnifiedMapTest extends UnifiedMapTestCase
         this.batchForEachEmptyBatchIterable(UnifiedMap.<Integer, Integer>newMap());
     }
 
+    @Test
+    public void asParallel_views_chains_and_nulls()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.<Integer, Integer>newMap(5)
+                .withKeysValues(COLLISION_1, 1, COLLISION_2, 2, COLLISION_3, 3, 1, 4)
+                .withKeysValues(2, 5, 3, 6, null, 7, 4, null);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            for (int batchSize = 1; batchSize <= 16; batchSize++)
+            {
+                Assert.assertEquals(HashBag.newBag(map.keySet()), map.keysView().asParallel(executorService, batchSize).toBag());
+                Assert.assertEquals(HashBag.newBag(map.values()), map.valuesView().asParallel(executorService, batchSize).toBag());
+                Assert.assertEquals(map.keyValuesView().toBag(), map.keyValuesView().asParallel(executorService, batchSize).toBag());
+                Assert.assertTrue(map.keysView().asParallel(executorService, batchSize).anySatisfy(Objects::isNull));
+                Assert.assertEquals(COLLISION_3, map.keysView().asParallel(executorService, batchSize).detect(COLLISION_3::equals));
+                Assert.assertFalse(map.valuesView().asParallel(executorService, batchSize).allSatisfy(Objects::nonNull));
+                Assert.assertEquals(
+                        Tuples.pair(4, null),
+                        map.keyValuesView().asParallel(executorService, batchSize).detect(each -> each.getTwo() == null));
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void batchForEachKey()
     {
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void testConstructors()
+    {
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        BTreeSortedMap<Integer, String> sortedMap = BTreeSortedMap.newMap(unifiedMap);
+        BTreeSortedMap<Integer, String> revSortedMap = BTreeSortedMap.newMap(
+                Comparators.reverseNaturalOrder(),
+                unifiedMap);
+
+        Verify.assertMapsEqual(unifiedMap, sortedMap);
+        Verify.assertMapsEqual(unifiedMap, revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3), sortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(3, 2, 1), revSortedMap.keySet().toList());
+
+        BTreeSortedMap<Integer, String> sortedMap2 = BTreeSortedMap.newMap(revSortedMap);
+        Assert.assertEquals(revSortedMap.comparator(), sortedMap2.comparator());
+        Verify.assertMapsEqual(revSortedMap, sortedMap2);
+    }
+
+    @Test
+    public void newMapWithPairs()
+    {
+        BTreeSortedMap<Integer, Integer> revSortedMap = BTreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(),
+                Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+
+        Verify.assertSize(4, revSortedMap);
+
+        Verify.assertMapsEqual(
+                UnifiedMap.newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1)),
+                revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(4, 3, 2, 1), revSortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3, 4), revSortedMap.valuesView().toList());
+    }
+
+    @Override
+    @Test
+    public void testClone()
+    {
+        super.testClone();
+        BTreeSortedMap<Integer, Integer> sortedMap = BTreeSortedMap.<Integer, Integer>newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+        MutableSortedMap<Integer, Integer> clone = sortedMap.clone();
+        Assert.assertNotSame(sortedMap, clone);
+        Assert.assertEquals(sortedMap, clone);
+        sortedMap.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+    }
+
+    @Test
+    public void putAndRemoveAcrossManyLeaves()
+    {
+        BTreeSortedMap<Integer, String> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        Random random = new Random(42L);
+        for (int i = 0; i < 20_000; i++)
+        {
+            Integer key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, String.valueOf(i)), map.put(key, String.valueOf(i)));
+            }
+        }
+        Verify.assertMapsEqual(expected, map);
+        Assert.assertEquals(expected, map);
+        Assert.assertEquals(expected.hashCode(), map.hashCode());
+        Assert.assertEquals(FastList.newList(expected.keySet()), map.keySet().toList());
+        Assert.assertEquals(FastList.newList(expected.values()), map.valuesView().toList());
+        Assert.assertEquals(expected.firstKey(), map.firstKey());
+        Assert.assertEquals(expected.lastKey(), map.lastKey());
+
+        expected.keySet().forEach(map::remove);
+        Verify.assertEmpty(map);
+        map.put(1, "1");
+        Assert.assertEquals(BTreeSortedMap.newMapWith(1, "1"), map);
+    }
+
+    @Test
+    public void putInKeyOrder()
+    {
+        BTreeSortedMap<Integer, Integer> ascending = BTreeSortedMap.newMap();
+        BTreeSortedMap<Integer, Integer> descending = BTreeSortedMap.newMap();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ascending.put(i, i);
+            descending.put(-i, i);
+        }
+        Verify.assertSize(10_000, ascending);
+        Verify.assertSize(10_000, descending);
+        Assert.assertEquals(Interval.zeroTo(9_999), ascending.keySet().toList());
+        Assert.assertEquals(Interval.fromTo(-9_999, 0), descending.keySet().toList());
+        Assert.assertEquals(Integer.valueOf(4_321), ascending.get(4_321));
+        Assert.assertEquals(Integer.valueOf(4_321), descending.get(-4_321));
+    }
+
+    @Test
+    public void rangeViews()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 1_000; i += 2)
+        {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+        Assert.assertEquals(expected.subMap(101, 501), map.subMap(101, 501));
+        Assert.assertEquals(FastList.newList(expected.subMap(100, 500).keySet()), map.subMap(100, 500).keySet().toList());
+        Assert.assertEquals(expected.headMap(250), map.headMap(250));
+        Assert.assertEquals(expected.tailMap(750), map.tailMap(750));
+        Assert.assertEquals(Integer.valueOf(102), map.subMap(101, 501).firstKey());
+        Assert.assertEquals(Integer.valueOf(500), map.subMap(101, 501).lastKey());
+        Assert.assertEquals(Integer.valueOf(498), map.subMap(101, 500).lastKey());
+        Verify.assertEmpty(map.subMap(101, 102));
+        Verify.assertSize(25, map.subMap(100, 200).subMap(100, 150));
+
+        MutableSortedMap<Integer, Integer> subMap = map.subMap(100, 200);
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.put(200, 200));
+        Assert.assertThrows(IllegalArgumentException.class, () -> subMap.subMap(50, 150));
+        subMap.put(101, 101);
+        Assert.assertEquals(Integer.valueOf(101), map.get(101));
+        subMap.clear();
+        Verify.assertEmpty(subMap);
+        Verify.assertSize(450, map);
+        Assert.assertFalse(map.containsKey(150));
+        Assert.assertTrue(map.containsKey(200));
+    }
+
+    @Test
+    public void iteratorRemoveAcrossLeaves()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        for (int i = 0; i < 1_000; i++)
+        {
+            map.put(i, i);
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next() % 3 != 0)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(Interval.fromToBy(0, 999, 3), map.keySet().toList());
+        Iterator<Integer> failFast = map.keySet().iterator();
+        failFast.next();
+        map.put(2, 2);
+        Assert.assertThrows(ConcurrentModificationException.class, failFast::next);
+    }
+
+    @Test
+    public void reverseAndWhileOperationsAcrossLeaves()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        for (int i = 0; i < 1_000; i++)
+        {
+            map.put(i, i % 10);
+        }
+
+        MutableSortedMap<Integer, Integer> reversed = map.toReversed();
+        Assert.assertEquals(map, reversed);
+        Assert.assertEquals(Interval.fromToBy(999, 0, -1), reversed.keySet().toList());
+        Assert.assertEquals(Integer.valueOf(999), reversed.firstKey());
+        Assert.assertEquals(Interval.fromToBy(999, 0, -1), FastList.newList(map::reverseKeyIterator));
+
+        Assert.assertEquals(Interval.zeroTo(8), map.takeWhile(each -> each < 9).keySet().toList());
+        Assert.assertEquals(Interval.fromTo(9, 999), map.dropWhile(each -> each < 9).keySet().toList());
+        Verify.assertSize(1_000, map.takeWhile(each -> true));
+        Verify.assertEmpty(map.dropWhile(each -> true));
+
+        PartitionMutableList<Integer> partition = map.partitionWhile(each -> each < 9);
+        Assert.assertEquals(Interval.zeroTo(8), partition.getSelected());
+        Verify.assertSize(991, partition.getRejected());
+        Assert.assertEquals(Integer.valueOf(9), partition.getRejected().getFirst());
+
+        Assert.assertEquals(Interval.zeroTo(9), map.distinct());
+        Assert.assertEquals(FastList.newListWith(2, 1), BTreeSortedMap.newMapWith(1, 2, 2, 1, 3, 2).distinct());
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test of {@link ConcurrentFastListMultimap}.
+ */
+public class ConcurrentFastListMultimapTest extends AbstractMutableListMultimapTestCase
+{
+    private static final int THREADS = 8;
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimap()
+    {
+        return ConcurrentFastListMultimap.newMultimap();
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeyValue(K key, V value)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key, value);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        return mutableMultimap;
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        ConcurrentFastListMultimap<K, V> mutableMultimap = this.newMultimap();
+        mutableMultimap.put(key1, value1);
+        mutableMultimap.put(key2, value2);
+        mutableMultimap.put(key3, value3);
+        mutableMultimap.put(key4, value4);
+        return mutableMultimap;
+    }
+
+    @SafeVarargs
+    @Override
+    public final <K, V> ConcurrentFastListMultimap<K, V> newMultimap(Pair<K, V>... pairs)
+    {
+        return ConcurrentFastListMultimap.newMultimap(pairs);
+    }
+
+    @Override
+    public <K, V> ConcurrentFastListMultimap<K, V> newMultimapFromPairs(Iterable<Pair<K, V>> inputIterable)
+    {
+        return ConcurrentFastListMultimap.newMultimap(inputIterable);
+    }
+
+    @SafeVarargs
+    @Override
+    protected final <V> FastList<V> createCollection(V... args)
+    {
+        return FastList.newListWith(args);
+    }
+
+    @Test
+    public void getReturnsSnapshot()
+    {
+        ConcurrentFastListMultimap<String, Integer> multimap = this.newMultimapWithKeysValues("A", 1, "A", 2);
+        MutableList<Integer> values = multimap.get("A");
+        multimap.put("A", 3);
+        Assert.assertEquals(FastList.newListWith(1, 2), values);
+        Assert.assertEquals(FastList.newListWith(1, 2, 3), multimap.get("A"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> values.add(4));
+        Assert.assertFalse(multimap.putAll("B", FastList.newList()));
+        Assert.assertFalse(multimap.containsKey("B"));
+        Assert.assertThrows(UnsupportedOperationException.class, multimap::asSynchronized);
+    }
+
+    @Test
+    public void putFromManyThreads() throws Exception
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        this.runInParallel(thread -> Interval.zeroTo(9_999).each(each -> multimap.put(each % 100, thread)));
+        Assert.assertEquals(THREADS * 10_000, multimap.size());
+        Assert.assertEquals(100, multimap.sizeDistinct());
+        multimap.forEachKeyMultiValues((key, values) -> Verify.assertIterableSize(THREADS * 100, values));
+    }
+
+    @Test
+    public void putAllIsAtomic() throws Exception
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        MutableList<Integer> batch = Interval.oneTo(10).toList();
+        this.runInParallel(thread ->
+        {
+            for (int i = 0; i < 2_000; i++)
+            {
+                if (thread % 2 == 0)
+                {
+                    multimap.putAll(i % 10, batch);
+                }
+                else
+                {
+                    multimap.forEachKeyMultiValues((key, values) -> Assert.assertEquals(0, Iterate.sizeOf(values) % 10));
+                    Assert.assertEquals(0, multimap.get(i % 10).size() % 10);
+                }
+            }
+        });
+        Assert.assertEquals(THREADS / 2 * 2_000 * 10, multimap.size());
+    }
+
+    @Test
+    public void putAndRemoveFromManyThreads() throws Exception
+    {
+        ConcurrentFastListMultimap<Integer, Integer> multimap = this.newMultimap();
+        this.runInParallel(thread ->
+        {
+            for (int i = 0; i < 20_000; i++)
+            {
+                Assert.assertTrue(multimap.put(i % 10, thread));
+                Assert.assertTrue(multimap.containsKeyAndValue(i % 10, thread));
+                Assert.assertTrue(multimap.remove(i % 10, thread));
+            }
+        });
+        Verify.assertEmpty(multimap);
+        Assert.assertEquals(0, multimap.sizeDistinct());
+        Assert.assertEquals(FastListMultimap.newMultimap(), multimap);
+    }
+
+    private void runInParallel(IntProcedure procedure) throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            MutableList<Future<?>> futures = FastList.newList();
+            for (int i = 0; i < THREADS; i++)
+            {
+                int thread = i;
+                futures.add(executor.submit(() -> procedure.value(thread)));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap.list;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
+import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Bags;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.multimap.AbstractImmutableMultimapTestCase;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.test.SerializeTestHelper;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableCompactListMultimapTest extends AbstractImmutableMultimapTestCase
+{
+    @Override
+    protected <K, V> ImmutableListMultimap<K, V> classUnderTest()
+    {
+        return FastListMultimap.<K, V>newMultimap().toCompactImmutable();
+    }
+
+    @Override
+    protected MutableList<String> mutableCollection()
+    {
+        return Lists.mutable.of();
+    }
+
+    @Override
+    public void noDuplicates()
+    {
+        // Lists allow duplicates
+    }
+
+    @Override
+    @Test
+    public void flip()
+    {
+        ImmutableListMultimap<String, Integer> multimap = this.<String, Integer>classUnderTest()
+                .newWith("Less than 2", 1)
+                .newWith("Less than 3", 1)
+                .newWith("Less than 3", 2)
+                .newWith("Less than 3", 2);
+        ImmutableBagMultimap<Integer, String> flipped = multimap.flip();
+        Assert.assertEquals(Bags.immutable.with("Less than 3", "Less than 3"), flipped.get(2));
+        Assert.assertEquals(Bags.immutable.with("Less than 2", "Less than 3"), flipped.get(1));
+    }
+
+    @Override
+    @Test
+    public void rejectKeysMultiValues()
+    {
+        MutableListMultimap<Integer, String> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.putAll(1, FastList.newListWith("1", "2", "3", "4", "1"));
+        mutableMultimap.putAll(2, FastList.newListWith("2", "3", "4", "5", "1"));
+        mutableMultimap.putAll(3, FastList.newListWith("2", "3", "4", "2"));
+        mutableMultimap.putAll(4, FastList.newListWith("1", "3", "4", "5"));
+        ImmutableListMultimap<Integer, String> immutableMap = ImmutableCompactListMultimap.newMultimap(mutableMultimap);
+        ImmutableListMultimap<Integer, String> rejectedMultimap = immutableMap.rejectKeysMultiValues((key, values) -> key % 2 == 0 || Iterate.sizeOf(values) > 4);
+        MutableListMultimap<Integer, String> expectedMultimap = FastListMultimap.newMultimap();
+        expectedMultimap.putAll(3, FastList.newListWith("2", "3", "4", "2"));
+        Verify.assertListMultimapsEqual(expectedMultimap.toImmutable(), rejectedMultimap);
+    }
+
+    @Override
+    @Test
+    public void collectKeysValues()
+    {
+        MutableListMultimap<String, Integer> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.putAll("1", FastList.newListWith(1, 2, 3, 4, 1));
+        mutableMultimap.putAll("2", FastList.newListWith(2, 3, 4, 5, 2));
+        ImmutableListMultimap<String, Integer> immutableMap = ImmutableCompactListMultimap.newMultimap(mutableMultimap);
+        ImmutableBagMultimap<Integer, String> collectedMultimap = immutableMap.collectKeysValues((key, value) -> Tuples.pair(Integer.valueOf(key), value + "Value"));
+        MutableBagMultimap<Integer, String> expectedMultimap = HashBagMultimap.newMultimap();
+        expectedMultimap.putAll(1, FastList.newListWith("1Value", "2Value", "3Value", "4Value", "1Value"));
+        expectedMultimap.putAll(2, FastList.newListWith("2Value", "3Value", "4Value", "5Value", "2Value"));
+        Verify.assertBagMultimapsEqual(expectedMultimap.toImmutable(), collectedMultimap);
+    }
+
+    @Test
+    public void equalToFastListMultimap()
+    {
+        FastListMultimap<Integer, Integer> mutableMultimap = FastListMultimap.newMultimap();
+        for (int i = 0; i < 10_000; i++)
+        {
+            mutableMultimap.put(i % 3_001, i);
+        }
+        ImmutableListMultimap<Integer, Integer> compact = mutableMultimap.toCompactImmutable();
+        Assert.assertEquals(mutableMultimap.size(), compact.size());
+        Assert.assertEquals(mutableMultimap.sizeDistinct(), compact.sizeDistinct());
+        Verify.assertEqualsAndHashCode(mutableMultimap, compact);
+        Verify.assertEqualsAndHashCode(mutableMultimap.toImmutable(), compact);
+        Assert.assertEquals(mutableMultimap.keyBag(), compact.keyBag());
+        Assert.assertEquals(mutableMultimap.keySet(), compact.keySet());
+        Assert.assertEquals(mutableMultimap.toMap(), compact.toMap());
+        for (int key = 0; key < 3_001; key++)
+        {
+            Assert.assertEquals(mutableMultimap.get(key), compact.get(key));
+        }
+        Verify.assertEmpty(compact.get(3_001));
+        Assert.assertFalse(compact.containsKey(3_001));
+    }
+
+    @Test
+    public void valuesKeepInsertionOrderPerKey()
+    {
+        FastListMultimap<String, Integer> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.putAll("A", FastList.newListWith(3, 1, 2, 1));
+        mutableMultimap.putAll("B", FastList.newListWith(5));
+        ImmutableListMultimap<String, Integer> compact = mutableMultimap.toCompactImmutable();
+        ImmutableList<Integer> values = compact.get("A");
+        Assert.assertEquals(Lists.immutable.with(3, 1, 2, 1), values);
+        Assert.assertEquals(Integer.valueOf(2), values.get(2));
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> values.get(4));
+        Assert.assertTrue(compact.containsKeyAndValue("A", 2));
+        Assert.assertFalse(compact.containsKeyAndValue("B", 2));
+        Assert.assertTrue(compact.containsValue(5));
+        Assert.assertEquals(Bags.mutable.with(3, 1, 2, 1, 5), compact.valuesView().toBag());
+
+        MutableList<String> pairs = Lists.mutable.empty();
+        compact.forEachKeyValue((key, value) -> pairs.add(key + value));
+        Assert.assertEquals(Bags.mutable.with("A3", "A1", "A2", "A1", "B5"), pairs.toBag());
+    }
+
+    @Test
+    public void nullKeysAndValues()
+    {
+        FastListMultimap<String, String> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.put(null, "A");
+        mutableMultimap.put(null, null);
+        mutableMultimap.put("B", null);
+        ImmutableListMultimap<String, String> compact = mutableMultimap.toCompactImmutable();
+        Assert.assertEquals(Lists.immutable.with("A", null), compact.get(null));
+        Assert.assertTrue(compact.containsKey(null));
+        Assert.assertTrue(compact.containsKeyAndValue("B", null));
+        Verify.assertEqualsAndHashCode(mutableMultimap, compact);
+        Assert.assertEquals(mutableMultimap.keySet(), compact.keySet());
+    }
+
+    @Test
+    public void modificationsStayCompact()
+    {
+        ImmutableListMultimap<String, Integer> compact = this.<String, Integer>classUnderTest()
+                .newWithAll("A", FastList.newListWith(1, 2))
+                .newWith("B", 3)
+                .newWithout("A", 1);
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, compact);
+        Assert.assertEquals(Lists.immutable.with(2), compact.get("A"));
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, compact.selectKeysValues((key, value) -> value > 2));
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, compact.collectValues(value -> value + 1));
+
+        MutableListMultimap<String, Integer> mutable = compact.toMutable();
+        mutable.put("A", 4);
+        Assert.assertEquals(Lists.immutable.with(2), compact.get("A"));
+        Assert.assertEquals(FastList.newListWith(2, 4), mutable.get("A"));
+    }
+
+    @Test
+    public void serializationKeepsCompactLayout()
+    {
+        FastListMultimap<String, Integer> mutableMultimap = FastListMultimap.newMultimap();
+        mutableMultimap.putAll("A", FastList.newListWith(1, 2, 1));
+        mutableMultimap.put("B", 3);
+        ImmutableListMultimap<String, Integer> compact = mutableMultimap.toCompactImmutable();
+        ImmutableListMultimap<String, Integer> deserialized = SerializeTestHelper.serializeDeserialize(compact);
+        Verify.assertInstanceOf(ImmutableCompactListMultimap.class, deserialized);
+        Verify.assertEqualsAndHashCode(compact, deserialized);
+    }
+}
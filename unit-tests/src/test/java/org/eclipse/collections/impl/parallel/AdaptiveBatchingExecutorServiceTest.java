@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveBatchingExecutorServiceTest
+{
+    private final ExecutorService delegate = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown()
+    {
+        this.delegate.shutdownNow();
+    }
+
+    @Test
+    public void adapt()
+    {
+        AdaptiveBatchingExecutorService adaptive = AdaptiveBatchingExecutorService.adapt(this.delegate, 10);
+        Assert.assertSame(this.delegate, adaptive.getDelegate());
+        Assert.assertEquals(10, adaptive.getMaxBatchCount());
+
+        AdaptiveBatchingExecutorService readapted = AdaptiveBatchingExecutorService.adapt(adaptive, 20);
+        Assert.assertSame(this.delegate, readapted.getDelegate());
+        Assert.assertEquals(20, readapted.getMaxBatchCount());
+
+        Assert.assertEquals(
+                ParallelIterate.getDefaultTaskCount() * 4,
+                AdaptiveBatchingExecutorService.adapt(this.delegate).getMaxBatchCount());
+
+        Assert.assertThrows(NullPointerException.class, () -> AdaptiveBatchingExecutorService.adapt(null));
+        Assert.assertThrows(IllegalArgumentException.class, () -> AdaptiveBatchingExecutorService.adapt(this.delegate, 0));
+    }
+
+    @Test
+    public void batchSize()
+    {
+        AdaptiveBatchingExecutorService adaptive = AdaptiveBatchingExecutorService.adapt(this.delegate, 10);
+
+        // 1,000ns per element gives 500 elements per batch
+        Assert.assertEquals(500, AdaptiveBatchingExecutorService.adapt(this.delegate, 1_000).batchSize(16_000L, 16, 100_000));
+
+        // Cheap work is not split into more than maxBatchCount batches
+        Assert.assertEquals(10_000, adaptive.batchSize(1_600L, 16, 100_000));
+
+        // Work too cheap to be worth splitting is not split
+        Assert.assertEquals(1_000, adaptive.batchSize(16L, 16, 1_000));
+        Assert.assertEquals(1_000, adaptive.batchSize(0L, 16, 1_000));
+
+        // Expensive work is split into batches of at least one element
+        Assert.assertEquals(1, adaptive.batchSize(TimeUnit.SECONDS.toNanos(1L), 1, 5));
+        Assert.assertEquals(1, adaptive.batchSize(16_000L, 16, 1));
+    }
+
+    @Test
+    public void isSampleComplete()
+    {
+        AdaptiveBatchingExecutorService adaptive = AdaptiveBatchingExecutorService.adapt(this.delegate);
+        Assert.assertFalse(adaptive.isSampleComplete(0L, AdaptiveBatchingExecutorService.MIN_SAMPLE_SIZE));
+        Assert.assertTrue(adaptive.isSampleComplete(AdaptiveBatchingExecutorService.MIN_SAMPLE_NANOS, 1));
+        Assert.assertTrue(adaptive.isSampleComplete(0L, AdaptiveBatchingExecutorService.MAX_SAMPLE_SIZE));
+    }
+
+    @Test
+    public void delegatesLifecycle() throws InterruptedException
+    {
+        AdaptiveBatchingExecutorService adaptive = AdaptiveBatchingExecutorService.adapt(this.delegate);
+        Assert.assertFalse(adaptive.isShutdown());
+        adaptive.shutdown();
+        Assert.assertTrue(this.delegate.isShutdown());
+        Assert.assertTrue(adaptive.awaitTermination(1L, TimeUnit.SECONDS));
+        Assert.assertTrue(adaptive.isTerminated());
+    }
+}
@@ -20,6 +20,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -88,6 +89,7 @@ public class ParallelIterateTest
 
     private ImmutableList<RichIterable<Integer>> iterables;
     private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final ForkJoinPool forkJoinPool = ParallelIterate.newWorkStealingExecutor(3);
 
     @Before
     public void setUp()
@@ -133,6 +135,7 @@ public class ParallelIterateTest
     public void tearDown()
     {
         this.executor.shutdown();
+        this.forkJoinPool.shutdown();
     }
 
     @Test
@@ -339,6 +342,167 @@ public class ParallelIterateTest
                         5));
     }
 
+    @Test
+    public void forEachWorkStealing()
+    {
+        MutableList<Integer> list = Interval.oneTo(1000).toList();
+        ImmutableList<Iterable<Integer>> sources = Lists.immutable.with(
+                list,
+                new ArrayList<>(list),
+                new LinkedList<>(list),
+                list.toSet(),
+                list.toBag(),
+                list.toMap(Functions.identity(), Functions.identity()));
+        for (Iterable<Integer> source : sources)
+        {
+            for (int taskCount = 1; taskCount <= 9; taskCount++)
+            {
+                IntegerSum sum = new IntegerSum(0);
+                ParallelIterate.forEach(source, new SumProcedure(sum), new SumCombiner(sum), 1, taskCount, this.forkJoinPool);
+                Assert.assertEquals(source.getClass().getSimpleName(), 500500, sum.getSum());
+            }
+        }
+    }
+
+    @Test
+    public void forEachWithIndexWorkStealing()
+    {
+        Integer[] array = new Integer[1000];
+        FastList<Integer> list = (FastList<Integer>) Interval.oneTo(1000).toList();
+        ParallelIterate.forEachWithIndex(
+                list,
+                new PassThruObjectIntProcedureFactory<>((each, index) -> array[index] = each),
+                new PassThruCombiner<>(),
+                1,
+                7,
+                this.forkJoinPool);
+        Assert.assertArrayEquals(list.toArray(new Integer[]{}), array);
+    }
+
+    @Test
+    public void workStealingKeepsOrderAndBalancesSkewedWork()
+    {
+        // The first elements are far more expensive than the rest, so pre-splitting would leave most threads idle
+        Predicate<Integer> skewedPredicate = each -> {
+            if (each <= 8)
+            {
+                try
+                {
+                    Thread.sleep(5L);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return each % 3 == 0;
+        };
+        MutableList<Integer> list = Interval.oneTo(20000).toList();
+        Assert.assertEquals(
+                list.select(skewedPredicate),
+                ParallelIterate.select(list, skewedPredicate, FastList.newList(), 100, this.forkJoinPool, false));
+        Assert.assertEquals(
+                list.collect(String::valueOf),
+                ParallelIterate.collect(list, String::valueOf, FastList.newList(), 100, this.forkJoinPool, false));
+        Assert.assertEquals(
+                list.count(skewedPredicate),
+                ParallelIterate.count(list, skewedPredicate, 100, this.forkJoinPool));
+        Assert.assertEquals(
+                list.toBag().groupBy(each -> each % 7),
+                HashBagMultimap.newMultimap(ParallelIterate.groupBy(list, each -> each % 7, 100, this.forkJoinPool)));
+    }
+
+    @Test
+    public void workStealingWithException()
+    {
+        Assert.assertThrows(
+                RuntimeException.class,
+                () -> ParallelIterate.forEach(
+                        ParallelIterateTest.createIntegerList(5),
+                        new PassThruProcedureFactory<>(EXCEPTION_PROCEDURE),
+                        new PassThruCombiner<>(),
+                        1,
+                        5,
+                        this.forkJoinPool));
+        Assert.assertThrows(
+                RuntimeException.class,
+                () -> ParallelIterate.forEachWithIndex(
+                        ParallelIterateTest.createIntegerList(5),
+                        new PassThruObjectIntProcedureFactory<>(EXCEPTION_OBJECT_INT_PROCEDURE),
+                        new PassThruCombiner<>(),
+                        1,
+                        5,
+                        this.forkJoinPool));
+    }
+
+    @Test
+    public void forEachAdaptiveBatching()
+    {
+        ExecutorService adaptiveExecutor = AdaptiveBatchingExecutorService.adapt(this.executor);
+        MutableList<Iterable<Integer>> sources = Lists.mutable.with(
+                Interval.oneTo(1000).toList(),
+                new LinkedList<>(Interval.oneTo(1000)),
+                Interval.oneTo(1000).toSet(),
+                Interval.oneTo(1000));
+        for (Iterable<Integer> source : sources)
+        {
+            IntegerSum sum = new IntegerSum(0);
+            ParallelIterate.forEach(source, new SumProcedure(sum), new SumCombiner(sum), 1, 1, adaptiveExecutor);
+            Assert.assertEquals(source.getClass().getSimpleName(), 500500, sum.getSum());
+        }
+    }
+
+    @Test
+    public void adaptiveBatchingKeepsOrderForCheapAndExpensiveWork()
+    {
+        ExecutorService adaptiveExecutor = AdaptiveBatchingExecutorService.adapt(this.executor, 16);
+        Predicate<Integer> cheapPredicate = each -> each % 3 == 0;
+        Predicate<Integer> expensivePredicate = each -> {
+            if (each % 100 == 0)
+            {
+                try
+                {
+                    Thread.sleep(1L);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return each % 3 == 0;
+        };
+        MutableList<Integer> list = Interval.oneTo(20000).toList();
+        for (Predicate<Integer> predicate : Lists.mutable.with(cheapPredicate, expensivePredicate))
+        {
+            Assert.assertEquals(
+                    list.select(predicate),
+                    ParallelIterate.select(list, predicate, FastList.newList(), 1, adaptiveExecutor, false));
+            Assert.assertEquals(
+                    list.count(predicate),
+                    ParallelIterate.count(list, predicate, 1, adaptiveExecutor));
+        }
+        Assert.assertEquals(
+                list.collect(String::valueOf),
+                ParallelIterate.collect(list, String::valueOf, FastList.newList(), 1, adaptiveExecutor, false));
+        Assert.assertEquals(
+                list.toBag().groupBy(each -> each % 7),
+                HashBagMultimap.newMultimap(ParallelIterate.groupBy(list, each -> each % 7, 1, adaptiveExecutor)));
+    }
+
+    @Test
+    public void adaptiveBatchingWithException()
+    {
+        Assert.assertThrows(
+                RuntimeException.class,
+                () -> ParallelIterate.forEach(
+                        ParallelIterateTest.createIntegerList(5),
+                        new PassThruProcedureFactory<>(EXCEPTION_PROCEDURE),
+                        new PassThruCombiner<>(),
+                        1,
+                        5,
+                        AdaptiveBatchingExecutorService.adapt(this.executor)));
+    }
+
     @Test
     public void select()
     {
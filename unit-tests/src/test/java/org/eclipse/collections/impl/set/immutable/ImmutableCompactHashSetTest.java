@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableCompactHashSet}.
+ */
+public class ImmutableCompactHashSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableCompactHashSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableCompactHashSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableCompactHashSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableCompactHashSet.newSetWith(bigElements);
+    }
+
+    @Override
+    @Test
+    public void forEachWithIndex()
+    {
+        MutableList<Integer> result = Lists.mutable.of();
+        ImmutableSet<Integer> set = this.newSetWith(1, 2, 3, 4);
+        set.forEachWithIndex((object, index) -> result.add(index));
+        Assert.assertEquals(Lists.mutable.with(0, 1, 2, 3), result);
+    }
+
+    @Override
+    @Test
+    public void getFirst()
+    {
+        ImmutableSet<Integer> set = this.newSetWith(1, 2, 3);
+        Assert.assertEquals(set.iterator().next(), set.getFirst());
+    }
+
+    @Override
+    @Test
+    public void iterator()
+    {
+        ImmutableSet<Integer> objects = this.newSetWith(1, 2, 3);
+        MutableList<Integer> result = Lists.mutable.of();
+        Iterator<Integer> iterator = objects.iterator();
+        while (iterator.hasNext())
+        {
+            result.add(iterator.next());
+        }
+        Assert.assertEquals(objects, result.toSet());
+        Verify.assertSize(3, result);
+    }
+
+    @Test
+    public void largeSet()
+    {
+        ImmutableSet<Integer> set = ImmutableCompactHashSet.newSet(Interval.oneTo(10_000));
+        ImmutableSet<Integer> evens = set.newWithoutAll(Interval.oneTo(10_000).select(each -> each % 2 == 1));
+        Verify.assertInstanceOf(ImmutableCompactHashSet.class, evens);
+        Verify.assertSize(10_000, set);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)), evens);
+        Assert.assertEquals(evens, UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)));
+        Assert.assertEquals(UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)).hashCode(), evens.hashCode());
+        Assert.assertSame(evens, evens.newWith(2));
+        Assert.assertSame(evens, evens.newWithout(1));
+        Assert.assertSame(evens, evens.newWithAll(Interval.evensFromTo(2, 100)));
+        Verify.assertPostSerializedEqualsAndHashCode(evens);
+    }
+
+    @Test
+    public void lookupsMatchUnifiedSet()
+    {
+        Random random = new Random(42L);
+        UnifiedSet<Integer> expected = UnifiedSet.newSet();
+        for (int i = 0; i < 10_000; i++)
+        {
+            expected.add(random.nextInt(20_000));
+        }
+        ImmutableSet<Integer> actual = ImmutableCompactHashSet.newSet(expected);
+        Assert.assertEquals(expected, actual);
+        Interval.fromTo(-1, 20_000).each(each -> Assert.assertEquals(expected.contains(each), actual.contains(each)));
+    }
+
+    @Test
+    public void duplicatesAreRepacked()
+    {
+        ImmutableSet<Integer> set = ImmutableCompactHashSet.newSet(Interval.oneTo(1_000).collect(each -> each % 10));
+        Assert.assertEquals(Interval.zeroTo(9).toSet(), set);
+        Assert.assertNull(ImmutableCompactHashSet.newSetWith(null, 1).newWithout(1).getOnly());
+    }
+
+    @Test
+    public void factory()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.withAllCompact(Interval.oneTo(3));
+        Verify.assertInstanceOf(ImmutableCompactHashSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertSame(set, Sets.immutable.withAllCompact(set));
+        Verify.assertInstanceOf(ImmutableCompactHashSet.class, set.newWith(4));
+    }
+}
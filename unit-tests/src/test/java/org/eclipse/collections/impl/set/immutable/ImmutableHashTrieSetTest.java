@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void largeSet()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSet(Interval.oneTo(10_000));
+        ImmutableSet<Integer> evens = set.newWithoutAll(Interval.oneTo(10_000).select(each -> each % 2 == 1));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, evens);
+        Verify.assertSize(10_000, set);
+        Assert.assertEquals(UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)), evens);
+        Assert.assertEquals(evens, UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)));
+        Assert.assertEquals(UnifiedSet.newSet(Interval.evensFromTo(2, 10_000)).hashCode(), evens.hashCode());
+        Assert.assertSame(evens, evens.newWith(2));
+        Assert.assertSame(evens, evens.newWithout(1));
+        Verify.assertPostSerializedEqualsAndHashCode(evens);
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Sets.immutable.emptyPersistent());
+        ImmutableSet<Integer> set = Sets.immutable.withAllPersistent(Interval.oneTo(3));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, 3), set);
+        Assert.assertSame(set, Sets.immutable.withAllPersistent(set));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, set.newWith(4));
+    }
+}
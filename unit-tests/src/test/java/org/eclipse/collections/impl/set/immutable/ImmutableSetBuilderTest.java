@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import org.eclipse.collections.api.factory.set.ImmutableSetBuilder;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableSetBuilderImpl}.
+ */
+public class ImmutableSetBuilderTest
+{
+    @Test
+    public void buildEmpty()
+    {
+        Assert.assertSame(Sets.immutable.empty(), Sets.immutable.builder().build());
+    }
+
+    @Test
+    public void buildSmall()
+    {
+        ImmutableSet<Integer> set = Sets.immutable.<Integer>builder().add(1).add(2).add(1).add(null).build();
+        Verify.assertInstanceOf(ImmutableTripletonSet.class, set);
+        Assert.assertEquals(UnifiedSet.newSetWith(1, 2, null), set);
+    }
+
+    @Test
+    public void buildLarge()
+    {
+        ImmutableSetBuilder<Integer> builder = Sets.immutable.builder(1_000);
+        builder.addAll(Interval.oneTo(1_000)).addAll(Interval.fromTo(500, 1_500));
+        Assert.assertEquals(1_500, builder.size());
+        ImmutableSet<Integer> set = builder.build();
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, set);
+        Assert.assertEquals(Interval.oneTo(1_500).toSet(), set);
+    }
+
+    @Test
+    public void reuseAfterBuild()
+    {
+        ImmutableSetBuilder<Integer> builder = Sets.immutable.<Integer>builder().addAll(Interval.oneTo(10));
+        ImmutableSet<Integer> first = builder.build();
+        ImmutableSet<Integer> second = builder.add(11).build();
+
+        Assert.assertEquals(Interval.oneTo(10).toSet(), first);
+        Assert.assertEquals(Interval.oneTo(11).toSet(), second);
+
+        builder.addAll(Interval.fromTo(12, 20));
+        Verify.assertSize(11, second);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.mutable;
+
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link MultiReaderUnifiedSet#newOptimisticSet()}.
+ */
+public class MultiReaderUnifiedSetOptimisticTest extends MultiReaderUnifiedSetTest
+{
+    @Override
+    protected <T> MutableSet<T> newWith(T... littleElements)
+    {
+        return MultiReaderUnifiedSet.newOptimisticSet(UnifiedSet.newSetWith(littleElements));
+    }
+
+    @Test
+    public void readsWhileWriting() throws InterruptedException
+    {
+        MultiReaderUnifiedSet<Integer> set = MultiReaderUnifiedSet.newOptimisticSet(Interval.zeroTo(99));
+        Thread writer = new Thread(() ->
+        {
+            for (int i = 100; i < 100_000; i++)
+            {
+                set.add(i);
+                set.remove(i);
+            }
+        });
+        writer.start();
+        while (writer.isAlive())
+        {
+            Assert.assertTrue(set.contains(50));
+            Assert.assertFalse(set.contains(-1));
+            int size = set.size();
+            Assert.assertTrue(size == 100 || size == 101);
+        }
+        writer.join();
+        Assert.assertEquals(Interval.zeroTo(99).toSet(), set);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(T... elements)
+    {
+        return BTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void sortedSetIterableConstructor()
+    {
+        BTreeSortedSet<Integer> sortedSetA = BTreeSortedSet.newSet(Collections.reverseOrder());
+        BTreeSortedSet<Integer> sortedSetB = BTreeSortedSet.newSet(sortedSetA.with(1).with(2, 3).with(4, 5, 6));
+        Verify.assertSortedSetsEqual(sortedSetA, sortedSetB);
+        Assert.assertTrue(sortedSetA.first().equals(sortedSetB.first()) && sortedSetB.first() == 6);
+        Verify.assertSortedSetsEqual(sortedSetB, new BTreeSortedSet<>(sortedSetB));
+    }
+
+    @Test
+    public void sortedSetConstructor()
+    {
+        SortedSet<String> setA = new TreeSet<>(FastList.newListWith("a", "c", "b", "d"));
+        Verify.assertSortedSetsEqual(setA, BTreeSortedSet.newSet(setA));
+        Verify.assertSortedSetsEqual(setA, new BTreeSortedSet<>(setA));
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3).asLazy();
+        BTreeSortedSet<Integer> sortedSet = BTreeSortedSet.newSet(integerLazyIterable);
+        Verify.assertSortedSetsEqual(BTreeSortedSet.newSetWith(1, 2, 3, 4), sortedSet);
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableSortedSet<Integer> set = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Override
+    @Test
+    public void detectLastIndex()
+    {
+        MutableSortedSet<Integer> integers1 = this.newWith(1, 2, 3, 4);
+        Assert.assertEquals(3, integers1.detectLastIndex(integer -> integer % 2 == 0));
+        Assert.assertEquals(2, integers1.detectLastIndex(integer -> integer % 2 != 0));
+        Assert.assertEquals(-1, integers1.detectLastIndex(integer -> integer % 5 == 0));
+
+        MutableSortedSet<Integer> integers2 = this.newWith(Comparators.reverseNaturalOrder(), 4, 3, 2, 1);
+        Assert.assertEquals(2, integers2.detectLastIndex(integer -> integer % 2 == 0));
+        Assert.assertEquals(3, integers2.detectLastIndex(integer -> integer % 2 != 0));
+        Assert.assertEquals(-1, integers2.detectLastIndex(integer -> integer % 5 == 0));
+    }
+
+    @Override
+    @Test
+    public void reverseForEachWithIndex()
+    {
+        MutableList<Integer> list = FastList.newList();
+        this.newWith(1, 2, 3, 4).reverseForEachWithIndex((each, index) -> list.add(each * 10 + index));
+        Assert.assertEquals(FastList.newListWith(43, 32, 21, 10), list);
+    }
+
+    @Override
+    @Test
+    public void toReversed()
+    {
+        MutableSortedSet<Integer> reversed = this.newWith(1, 2, 3, 4).toReversed();
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(Comparators.reverseNaturalOrder(), 4, 3, 2, 1), reversed);
+        Assert.assertEquals(Integer.valueOf(4), reversed.first());
+    }
+
+    @Test
+    public void reverseIterationAcrossManyLeaves()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.zeroTo(9_999));
+        Interval expected = Interval.fromToBy(9_999, 0, -1);
+        Assert.assertEquals(expected, set.asReversed().toList());
+        Assert.assertEquals(expected, set.toReversed().toList());
+
+        MutableList<Integer> reversed = FastList.newList();
+        set.reverseForEach(reversed::add);
+        Assert.assertEquals(expected, reversed);
+
+        set.reverseForEachWithIndex((each, index) -> Assert.assertEquals(each.intValue(), index));
+        Assert.assertEquals(9_990, set.detectLastIndex(each -> each % 15 == 0));
+        Assert.assertEquals(-1, set.detectLastIndex(each -> each < 0));
+
+        set.removeIf(each -> each >= 100);
+        Assert.assertEquals(Interval.fromToBy(99, 0, -1), set.asReversed().toList());
+        Assert.assertEquals(-1, BTreeSortedSet.newSet().detectLastIndex(each -> true));
+        Verify.assertEmpty(BTreeSortedSet.newSet().asReversed());
+    }
+
+    @Test
+    public void rangeViewsAcrossManyLeaves()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Interval.zeroTo(9_999));
+        TreeSet<Integer> expected = new TreeSet<>(Interval.zeroTo(9_999));
+        Verify.assertSortedSetsEqual(expected.subSet(1_000, 5_000), set.subSet(1_000, 5_000));
+        Verify.assertSortedSetsEqual(expected.headSet(100), set.headSet(100));
+        Verify.assertSortedSetsEqual(expected.tailSet(9_900), set.tailSet(9_900));
+        Assert.assertEquals(4_000, set.indexOf(4_000));
+
+        set.subSet(1_000, 5_000).clear();
+        set.removeIf(each -> each % 2 == 0);
+        expected.subSet(1_000, 5_000).clear();
+        expected.removeIf(each -> each % 2 == 0);
+        Verify.assertSortedSetsEqual(expected, set);
+        Assert.assertEquals(Integer.valueOf(1), set.first());
+        Assert.assertEquals(Integer.valueOf(9_999), set.last());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ControlGroupsTest
+{
+    @Test
+    public void newGroupsAreEmpty()
+    {
+        long[] groups = ControlGroups.newGroups(20);
+        Assert.assertEquals(4, groups.length);
+        Assert.assertEquals(28, ControlGroups.maxLoad(groups));
+        for (int slot = 0; slot < 32; slot++)
+        {
+            Assert.assertTrue(ControlGroups.isEmpty(groups, slot));
+            Assert.assertFalse(ControlGroups.isFull(groups, slot));
+        }
+        Assert.assertEquals(0L, ControlGroups.matchFull(groups[0]));
+        Assert.assertEquals(8, Long.bitCount(ControlGroups.matchEmpty(groups[0])));
+    }
+
+    @Test
+    public void match()
+    {
+        long[] groups = ControlGroups.newGroups(8);
+        ControlGroups.setControl(groups, 1, (byte) 5);
+        ControlGroups.setControl(groups, 4, (byte) 9);
+        ControlGroups.setControl(groups, 6, (byte) 5);
+        ControlGroups.setControl(groups, 7, ControlGroups.DELETED);
+
+        long match = ControlGroups.match(groups[0], (byte) 5);
+        Assert.assertEquals(1, ControlGroups.lowestSlot(match));
+        Assert.assertEquals(6, ControlGroups.lowestSlot(ControlGroups.withoutLowestSlot(match)));
+        Assert.assertEquals(0L, ControlGroups.withoutLowestSlot(ControlGroups.withoutLowestSlot(match)));
+        Assert.assertEquals(0L, ControlGroups.match(groups[0], (byte) 0));
+
+        Assert.assertEquals(3, Long.bitCount(ControlGroups.matchFull(groups[0])));
+        Assert.assertEquals(4, Long.bitCount(ControlGroups.matchEmpty(groups[0])));
+        Assert.assertEquals(5, Long.bitCount(ControlGroups.matchEmptyOrDeleted(groups[0])));
+        Assert.assertTrue(ControlGroups.isFull(groups, 4));
+        Assert.assertFalse(ControlGroups.isEmpty(groups, 7));
+    }
+
+    @Test
+    public void matchFindsEveryControl()
+    {
+        Interval.zeroTo(127).each(control ->
+        {
+            long[] groups = ControlGroups.newGroups(8);
+            ControlGroups.setControl(groups, control % 8, (byte) (int) control);
+            long match = ControlGroups.match(groups[0], (byte) (int) control);
+            Assert.assertEquals(control % 8, ControlGroups.lowestSlot(match));
+        });
+    }
+
+    @Test
+    public void free()
+    {
+        long[] groups = ControlGroups.newGroups(16);
+        for (int slot = 0; slot < 8; slot++)
+        {
+            ControlGroups.setControl(groups, slot, (byte) slot);
+        }
+        ControlGroups.setControl(groups, 8, (byte) 1);
+
+        // the first group is full, so a probe sequence may have passed it and the slot must stay deleted
+        Assert.assertFalse(ControlGroups.free(groups, 3));
+        Assert.assertFalse(ControlGroups.isFull(groups, 3));
+        Assert.assertFalse(ControlGroups.isEmpty(groups, 3));
+        Assert.assertTrue(ControlGroups.free(groups, 8));
+        Assert.assertTrue(ControlGroups.isEmpty(groups, 8));
+    }
+
+    @Test
+    public void findFreeSlot()
+    {
+        long[] groups = ControlGroups.newGroups(16);
+        int hash = 0;
+        int first = ControlGroups.findFreeSlot(groups, hash);
+        Assert.assertEquals(ControlGroups.firstGroup(hash, groups.length), first >>> ControlGroups.GROUP_SHIFT);
+        for (int slot = 0; slot < 8; slot++)
+        {
+            ControlGroups.setControl(groups, first - first % 8 + slot, (byte) 0);
+        }
+        int next = ControlGroups.findFreeSlot(groups, hash);
+        Assert.assertNotEquals(first >>> ControlGroups.GROUP_SHIFT, next >>> ControlGroups.GROUP_SHIFT);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Goldman Sachs and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.utility.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DirectMemoryTest
+{
+    @Test
+    public void newMemoryIsZeroed()
+    {
+        DirectMemory memory = new DirectMemory(64L);
+        try
+        {
+            Assert.assertEquals(64L, memory.byteSize());
+            for (int i = 0; i < 8; i++)
+            {
+                Assert.assertEquals(0L, memory.getLong(i));
+            }
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void typedAccessors()
+    {
+        DirectMemory memory = new DirectMemory(16L);
+        try
+        {
+            memory.putByte(15, (byte) -1);
+            memory.putShort(6, (short) 1234);
+            memory.putChar(5, 'x');
+            memory.putInt(1, 42);
+            memory.putFloat(0, 1.5f);
+            Assert.assertEquals((byte) -1, memory.getByte(15));
+            Assert.assertEquals((short) 1234, memory.getShort(6));
+            Assert.assertEquals('x', memory.getChar(5));
+            Assert.assertEquals(42, memory.getInt(1));
+            Assert.assertEquals(1.5f, memory.getFloat(0), 0.0f);
+
+            memory.putLong(0, Long.MIN_VALUE);
+            memory.putDouble(1, Math.PI);
+            Assert.assertEquals(Long.MIN_VALUE, memory.getLong(0));
+            Assert.assertEquals(Math.PI, memory.getDouble(1), 0.0);
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void accessOutOfBoundsThrows()
+    {
+        DirectMemory memory = new DirectMemory(16L);
+        try
+        {
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.getLong(2));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.getInt(-1));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.putByte(16, (byte) 1));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.copy(8L, 12L, 8L));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.clear(-1L, 4L));
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void reallocateKeepsContentsAndZeroesNewMemory()
+    {
+        DirectMemory memory = new DirectMemory(16L);
+        try
+        {
+            memory.putLong(0, 1L);
+            memory.putLong(1, 2L);
+            memory.reallocate(32L);
+            Assert.assertEquals(32L, memory.byteSize());
+            Assert.assertEquals(1L, memory.getLong(0));
+            Assert.assertEquals(2L, memory.getLong(1));
+            Assert.assertEquals(0L, memory.getLong(2));
+            Assert.assertEquals(0L, memory.getLong(3));
+
+            memory.reallocate(8L);
+            Assert.assertEquals(1L, memory.getLong(0));
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> memory.getLong(1));
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void copyOverlappingRanges()
+    {
+        DirectMemory memory = new DirectMemory(40L);
+        try
+        {
+            for (int i = 0; i < 4; i++)
+            {
+                memory.putLong(i, i + 1L);
+            }
+            memory.copy(0L, 8L, 32L);
+            Assert.assertEquals(1L, memory.getLong(0));
+            Assert.assertEquals(1L, memory.getLong(1));
+            Assert.assertEquals(2L, memory.getLong(2));
+            Assert.assertEquals(3L, memory.getLong(3));
+            Assert.assertEquals(4L, memory.getLong(4));
+
+            memory.copy(8L, 0L, 32L);
+            Assert.assertEquals(1L, memory.getLong(0));
+            Assert.assertEquals(2L, memory.getLong(1));
+            Assert.assertEquals(3L, memory.getLong(2));
+            Assert.assertEquals(4L, memory.getLong(3));
+
+            memory.clear(8L, 16L);
+            Assert.assertEquals(1L, memory.getLong(0));
+            Assert.assertEquals(0L, memory.getLong(1));
+            Assert.assertEquals(0L, memory.getLong(2));
+            Assert.assertEquals(4L, memory.getLong(3));
+        }
+        finally
+        {
+            memory.free();
+        }
+    }
+
+    @Test
+    public void useAfterFreeThrows()
+    {
+        DirectMemory memory = new DirectMemory(16L);
+        Assert.assertFalse(memory.isFreed());
+        memory.free();
+        Assert.assertTrue(memory.isFreed());
+        memory.free();
+        Assert.assertEquals(0L, memory.byteSize());
+        Assert.assertThrows(IllegalStateException.class, () -> memory.getLong(0));
+        Assert.assertThrows(IllegalStateException.class, () -> memory.putInt(0, 1));
+        Assert.assertThrows(IllegalStateException.class, () -> memory.reallocate(32L));
+        Assert.assertThrows(IllegalStateException.class, () -> memory.clear(0L, 8L));
+    }
+
+    @Test
+    public void negativeSizeThrows()
+    {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new DirectMemory(-1L));
+    }
+}